@@ -15,8 +15,6 @@
  */
 package org.springframework.data.rest.core;
 
-import java.util.regex.Pattern;
-
 import org.springframework.util.StringUtils;
 
 /**
@@ -28,7 +26,6 @@ import org.springframework.util.StringUtils;
 public class Path {
 
 	private static final String SLASH = "/";
-	private static final String MATCH_PATTERN = "/?%s";
 
 	private final String path;
 
@@ -58,7 +55,17 @@ public class Path {
 	 * @return
 	 */
 	public boolean matches(String reference) {
-		return reference == null ? false : this.path.matches(String.format(MATCH_PATTERN, Pattern.quote(reference)));
+
+		if (reference == null) {
+			return false;
+		}
+
+		if (path.equals(reference)) {
+			return true;
+		}
+
+		return path.length() == reference.length() + 1 && path.startsWith(SLASH)
+				&& path.regionMatches(1, reference, 0, reference.length());
 	}
 
 	/**
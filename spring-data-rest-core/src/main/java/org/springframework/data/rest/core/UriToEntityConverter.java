@@ -15,19 +15,28 @@
  */
 package org.springframework.data.rest.core;
 
+import java.io.Serializable;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.BatchingRepositoryInvoker;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 
@@ -44,6 +53,7 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	private final PersistentEntities entities;
 	private final RepositoryInvokerFactory invokerFactory;
 	private final Repositories repositories;
+	private final ConversionService conversionService;
 	private final Set<ConvertiblePair> convertiblePairs;
 
 	/**
@@ -56,6 +66,23 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	 */
 	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
 			Repositories repositories) {
+		this(entities, invokerFactory, repositories, null);
+	}
+
+	/**
+	 * Creates a new {@link UriToEntityConverter} using the given {@link PersistentEntities},
+	 * {@link RepositoryInvokerFactory}, {@link Repositories} and {@link ConversionService}. The
+	 * {@link ConversionService} is used to convert the identifiers contained in URIs into the identifier types of the
+	 * entities, so that entities can be resolved in batches via {@link #convertAll(List, Class)}.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param conversionService can be {@literal null}, entities are resolved one by one in that case.
+	 * @since 2.6
+	 */
+	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Repositories repositories, ConversionService conversionService) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
@@ -77,6 +104,7 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 		this.entities = entities;
 		this.invokerFactory = invokerFactory;
 		this.repositories = repositories;
+		this.conversionService = conversionService;
 	}
 
 	/* 
@@ -105,6 +133,72 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	@Override
 	public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
 
+		getPersistentEntity(source, sourceType, targetType);
+
+		String id = getIdentifier((URI) source, sourceType, targetType);
+
+		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindOne(id);
+	}
+
+	/**
+	 * Converts the given {@link URI}s into entities of the given type. If the {@link RepositoryInvoker} for the type is a
+	 * {@link BatchingRepositoryInvoker} exposing a batch lookup, the entities are loaded with a single call to it.
+	 * Otherwise they're resolved one by one like {@link #convert(Object, TypeDescriptor, TypeDescriptor)} does.
+	 * 
+	 * @param uris must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the entities in the order of the given {@link URI}s with {@literal null} for the ones that can't be found.
+	 * @since 2.6
+	 */
+	public List<Object> convertAll(List<URI> uris, Class<?> type) {
+
+		Assert.notNull(uris, "URIs must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		TypeDescriptor targetType = TypeDescriptor.valueOf(type);
+		PersistentEntity<?, ?> entity = getPersistentEntity(uris, URI_TYPE, targetType);
+		List<Object> result = new ArrayList<Object>(uris.size());
+		RepositoryInvoker invoker = invokerFactory.getInvokerFor(type);
+
+		if (!isBatchable(entity, invoker)) {
+
+			for (URI uri : uris) {
+				result.add(convert(uri, URI_TYPE, targetType));
+			}
+
+			return result;
+		}
+
+		Class<?> idType = entity.getIdProperty().getType();
+		List<Serializable> ids = new ArrayList<Serializable>(uris.size());
+
+		for (URI uri : uris) {
+			ids.add((Serializable) conversionService.convert(getIdentifier(uri, URI_TYPE, targetType), idType));
+		}
+
+		Set<Serializable> distinctIds = new LinkedHashSet<Serializable>(ids);
+		distinctIds.remove(null);
+
+		Map<Object, Object> loaded = new HashMap<Object, Object>(distinctIds.size());
+		Iterable<Object> elements = distinctIds.isEmpty() ? Collections.<Object> emptySet()
+				: ((BatchingRepositoryInvoker) invoker).invokeFindAll(distinctIds);
+
+		for (Object element : elements) {
+			if (element != null) {
+				loaded.put(entity.getIdentifierAccessor(element).getIdentifier(), element);
+			}
+		}
+
+		for (Serializable id : ids) {
+			result.add(id == null ? null : loaded.get(id));
+		}
+
+		return result;
+	}
+
+	private PersistentEntity<?, ?> getPersistentEntity(Object source, TypeDescriptor sourceType,
+			TypeDescriptor targetType) {
+
 		PersistentEntity<?, ?> entity = entities.getPersistentEntity(targetType.getType());
 
 		if (entity == null) {
@@ -112,14 +206,24 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 					new IllegalArgumentException("No PersistentEntity information available for " + targetType.getType()));
 		}
 
-		URI uri = (URI) source;
+		return entity;
+	}
+
+	private static String getIdentifier(URI uri, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
 		String[] parts = uri.getPath().split("/");
 
 		if (parts.length < 2) {
-			throw new ConversionFailedException(sourceType, targetType, source, new IllegalArgumentException(
+			throw new ConversionFailedException(sourceType, targetType, uri, new IllegalArgumentException(
 					"Cannot resolve URI " + uri + ". Is it local or remote? Only local URIs are resolvable."));
 		}
 
-		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindOne(parts[parts.length - 1]);
+		return parts[parts.length - 1];
+	}
+
+	private boolean isBatchable(PersistentEntity<?, ?> entity, RepositoryInvoker invoker) {
+
+		return conversionService != null && entity.hasIdProperty() && invoker instanceof BatchingRepositoryInvoker
+				&& ((BatchingRepositoryInvoker) invoker).hasBatchFindMethod();
 	}
 }
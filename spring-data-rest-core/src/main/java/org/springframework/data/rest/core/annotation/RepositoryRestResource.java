@@ -21,6 +21,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.data.rest.core.mapping.PagingMode;
+
 /**
  * Annotate a {@link org.springframework.data.repository.Repository} with this to customize export mapping and rels.
  * 
@@ -82,5 +84,15 @@ public @interface RepositoryRestResource {
 	 */
 	Class<?> excerptProjection() default None.class;
 
+	/**
+	 * The {@link PagingMode} of the collection resource. Defaults to {@link PagingMode#PAGE}, use
+	 * {@link PagingMode#SLICE} to avoid counting the elements for every page requested or {@link PagingMode#KEYSET} to
+	 * page by keyset (cursor) instead of by offset.
+	 * 
+	 * @return
+	 * @since 2.6
+	 */
+	PagingMode paging() default PagingMode.PAGE;
+
 	static class None {}
 }
@@ -23,6 +23,8 @@ import java.util.List;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.mapping.RepositoryDetectionStrategy;
 import org.springframework.data.rest.core.mapping.RepositoryDetectionStrategy.RepositoryDetectionStrategies;
+import org.springframework.data.rest.core.support.CountStrategy;
+import org.springframework.data.rest.core.support.CountStrategy.CountStrategies;
 import org.springframework.data.rest.core.support.EntityLookup;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
@@ -49,14 +51,18 @@ public class RepositoryRestConfiguration {
 	private String pageParamName = "page";
 	private String limitParamName = "size";
 	private String sortParamName = "sort";
+	private String fieldsParamName = "fields";
+	private String cursorParamName = "cursor";
 	private MediaType defaultMediaType = MediaTypes.HAL_JSON;
 	private boolean useHalAsDefaultJsonMediaType = true;
 	private Boolean returnBodyOnCreate = null;
 	private Boolean returnBodyOnUpdate = null;
 	private List<Class<?>> exposeIdsFor = new ArrayList<Class<?>>();
+	private List<Class<?>> directQueriesFor = new ArrayList<Class<?>>();
 	private ResourceMappingConfiguration domainMappings = new ResourceMappingConfiguration();
 	private ResourceMappingConfiguration repoMappings = new ResourceMappingConfiguration();
 	private RepositoryDetectionStrategy repositoryDetectionStrategy = RepositoryDetectionStrategies.DEFAULT;
+	private CountStrategy countStrategy = CountStrategies.EXACT;
 
 	private final ProjectionDefinitionConfiguration projectionConfiguration;
 	private final MetadataConfiguration metadataConfiguration;
@@ -65,6 +71,9 @@ public class RepositoryRestConfiguration {
 
 	private final EnumTranslationConfiguration enumTranslationConfiguration;
 	private boolean enableEnumTranslation = false;
+	private boolean enableGeneratedPropertyAccessors = false;
+	private boolean enableDispatchingProjections = false;
+	private boolean enableAssociationPaging = true;
 
 	/**
 	 * Creates a new {@link RepositoryRestConfiguration} with the given {@link ProjectionDefinitionConfiguration}.
@@ -225,6 +234,56 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Get the name of the URL query string parameter that selects the properties and links to render (sparse fieldsets).
+	 * Default is 'fields'.
+	 * 
+	 * @return Name of the query string parameter used to select the fields to render.
+	 * @since 2.6
+	 */
+	public String getFieldsParamName() {
+		return fieldsParamName;
+	}
+
+	/**
+	 * Set the name of the URL query string parameter that selects the properties and links to render (sparse
+	 * fieldsets). {@code fields=a,b} restricts the representation of the domain type a request is targeted at,
+	 * {@code fields[rel]=a,b} the one of the domain type exposed under the given relation.
+	 * 
+	 * @param fieldsParamName Name of the query string parameter used to select the fields to render.
+	 * @return {@literal this}
+	 * @since 2.6
+	 */
+	public RepositoryRestConfiguration setFieldsParamName(String fieldsParamName) {
+		Assert.notNull(fieldsParamName, "Fields param name cannot be null.");
+		this.fieldsParamName = fieldsParamName;
+		return this;
+	}
+
+	/**
+	 * Get the name of the URL query string parameter that carries the cursor of keyset paged collection resources.
+	 * 
+	 * @return Name of the query string parameter used to carry the cursor.
+	 * @since 2.6
+	 */
+	public String getCursorParamName() {
+		return cursorParamName;
+	}
+
+	/**
+	 * Set the name of the URL query string parameter that carries the cursor of keyset paged collection resources.
+	 * 
+	 * @param cursorParamName Name of the query string parameter used to carry the cursor.
+	 * @return {@literal this}
+	 * @since 2.6
+	 * @see org.springframework.data.rest.core.mapping.PagingMode#KEYSET
+	 */
+	public RepositoryRestConfiguration setCursorParamName(String cursorParamName) {
+		Assert.notNull(cursorParamName, "Cursor param name cannot be null.");
+		this.cursorParamName = cursorParamName;
+		return this;
+	}
+
 	/**
 	 * Get the {@link MediaType} to use as a default when none is specified.
 	 * 
@@ -453,6 +512,38 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Returns whether entities of the given domain type may be looked up without invoking the lookup methods of their
+	 * repository one by one.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @see #allowDirectQueriesFor(Class...)
+	 * @since 2.6
+	 */
+	public boolean isDirectQueryAllowedFor(Class<?> domainType) {
+		return directQueriesFor.contains(domainType);
+	}
+
+	/**
+	 * Allows entities of the given domain types to be looked up without invoking the lookup methods of their repository
+	 * one by one. Association targets are then loaded with a single call to {@code CrudRepository.findAll(Iterable)} and
+	 * store specific executors may query the store directly, e.g. for keyset or slice paging or paged association
+	 * resources. Only enable this for domain types whose repositories don't restrict access to their entities (e.g.
+	 * through method security on {@code findOne(…)}), as such restrictions are not applied to those lookups.
+	 * 
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 * @since 2.6
+	 */
+	public RepositoryRestConfiguration allowDirectQueriesFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null!");
+
+		Collections.addAll(directQueriesFor, domainTypes);
+		return this;
+	}
+
 	/**
 	 * Returns the {@link ProjectionDefinitionConfiguration} to register addition projections.
 	 * 
@@ -515,6 +606,72 @@ public class RepositoryRestConfiguration {
 		return this.enableEnumTranslation;
 	}
 
+	/**
+	 * Configures whether to use bytecode generated property accessors instead of reflection when serializing and
+	 * deserializing domain types. Requires Jackson's Afterburner module to be present on the classpath and is ignored
+	 * otherwise. Defaults to {@literal false}.
+	 * 
+	 * @param enableGeneratedPropertyAccessors
+	 * @since 2.6
+	 */
+	public void setEnableGeneratedPropertyAccessors(boolean enableGeneratedPropertyAccessors) {
+		this.enableGeneratedPropertyAccessors = enableGeneratedPropertyAccessors;
+	}
+
+	/**
+	 * Returns whether bytecode generated property accessors are enabled.
+	 * 
+	 * @return
+	 * @since 2.6
+	 */
+	public boolean isEnableGeneratedPropertyAccessors() {
+		return this.enableGeneratedPropertyAccessors;
+	}
+
+	/**
+	 * Configures whether to create projections (excerpts and projections requested explicitly) through proxies that
+	 * dispatch each getter via a lookup table precomputed per projection interface and source type instead of the
+	 * interceptor based proxies. Defaults to {@literal false}.
+	 * 
+	 * @param enableDispatchingProjections
+	 * @since 2.6
+	 */
+	public void setEnableDispatchingProjections(boolean enableDispatchingProjections) {
+		this.enableDispatchingProjections = enableDispatchingProjections;
+	}
+
+	/**
+	 * Returns whether projections are created through dispatching proxies.
+	 * 
+	 * @return
+	 * @since 2.6
+	 */
+	public boolean isEnableDispatchingProjections() {
+		return this.enableDispatchingProjections;
+	}
+
+	/**
+	 * Configures whether collection association resources are rendered page by page, using the default page size if no
+	 * paging parameters are given. If disabled, the association is only paged if paging parameters are given explicitly
+	 * and rendered as a whole otherwise. Defaults to {@literal true}.
+	 * 
+	 * @param enableAssociationPaging
+	 * @since 2.6
+	 */
+	public void setEnableAssociationPaging(boolean enableAssociationPaging) {
+		this.enableAssociationPaging = enableAssociationPaging;
+	}
+
+	/**
+	 * Returns whether collection association resources are paged by default.
+	 * 
+	 * @return
+	 * @since 2.6
+	 */
+	public boolean isEnableAssociationPaging() {
+		return this.enableAssociationPaging;
+	}
+
 	/**
 	 * Returns the {@link EnumTranslationConfiguration} to be used.
 	 * 
@@ -549,6 +706,30 @@ public class RepositoryRestConfiguration {
 				: repositoryDetectionStrategy;
 	}
 
+	/**
+	 * Returns the {@link CountStrategy} to be used to determine the total number of elements of paged collection
+	 * resources. Will be {@link CountStrategies#EXACT} by default.
+	 * 
+	 * @return will never be {@literal null}.
+	 * @since 2.6
+	 */
+	public CountStrategy getCountStrategy() {
+		return countStrategy;
+	}
+
+	/**
+	 * Configures the {@link CountStrategy} to be used to determine the total number of elements of paged collection
+	 * resources. Defaults to {@link CountStrategies#EXACT}.
+	 * 
+	 * @param countStrategy can be {@literal null}.
+	 * @since 2.6
+	 * @see org.springframework.data.rest.core.support.CachingCountStrategy
+	 * @see org.springframework.data.rest.core.support.EstimatingCountStrategy
+	 */
+	public void setCountStrategy(CountStrategy countStrategy) {
+		this.countStrategy = countStrategy == null ? CountStrategies.EXACT : countStrategy;
+	}
+
 	/**
 	 * Returns the {@link EntityLookupRegistrar} to create custom {@link EntityLookup} instances registered in the
 	 * configuration.
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.mapping;
+
+/**
+ * A {@link CollectionResourceMapping} that defines how the collection resource is paged. Mappings not implementing
+ * this interface are paged using {@link PagingMode#PAGE}.
+ * 
+ * @author agent
+ * @since 2.6
+ * @see PagingMode#of(CollectionResourceMapping)
+ */
+public interface PagedCollectionResourceMapping extends CollectionResourceMapping {
+
+	/**
+	 * Returns the {@link PagingMode} of the collection resource.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	PagingMode getPagingMode();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.mapping;
+
+import org.springframework.util.Assert;
+
+/**
+ * The ways a collection resource can be paged.
+ * 
+ * @author agent
+ * @since 2.6
+ */
+public enum PagingMode {
+
+	/**
+	 * Pages expose the total number of elements and pages, which requires the elements to be counted for every page.
+	 */
+	PAGE,
+
+	/**
+	 * Slices only expose whether there's a next and previous slice, determined by looking up a single element more
+	 * than requested, so that the elements don't need to be counted.
+	 */
+	SLICE,
+
+	/**
+	 * Pages are navigated through an opaque cursor encoding the sort key values of the last (or first) element seen and
+	 * only expose links to the next and previous page instead of page numbers.
+	 */
+	KEYSET;
+
+	/**
+	 * Returns the {@link PagingMode} of the given {@link CollectionResourceMapping}, {@link #PAGE} if it doesn't
+	 * expose one.
+	 * 
+	 * @param mapping must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see PagedCollectionResourceMapping
+	 */
+	public static PagingMode of(CollectionResourceMapping mapping) {
+
+		Assert.notNull(mapping, "CollectionResourceMapping must not be null!");
+
+		return mapping instanceof PagedCollectionResourceMapping
+				? ((PagedCollectionResourceMapping) mapping).getPagingMode() : PAGE;
+	}
+}
@@ -16,14 +16,13 @@
 package org.springframework.data.rest.core.mapping;
 
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
 
+import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -39,9 +38,8 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	private final SearchResourceMappings searchResourceMappings = new SearchResourceMappings(
 			Collections.<MethodResourceMapping> emptyList());
 
-	private final Map<Class<?>, ResourceMetadata> cache = new HashMap<Class<?>, ResourceMetadata>();
-	private final Map<Class<?>, MappingResourceMetadata> mappingCache = new HashMap<Class<?>, MappingResourceMetadata>();
-	private final Map<PersistentProperty<?>, ResourceMapping> propertyCache = new HashMap<PersistentProperty<?>, ResourceMapping>();
+	private final Object monitor = new Object();
+	private volatile ResourceMappingsSnapshot snapshot;
 
 	/**
 	 * Creates a new {@link PersistentEntitiesResourceMappings} from the given {@link PersistentEntities}.
@@ -49,7 +47,9 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 * @param entities must not be {@literal null}.
 	 */
 	public PersistentEntitiesResourceMappings(PersistentEntities entities) {
+
 		this.entities = entities;
+		this.snapshot = registerEntities(ResourceMappingsSnapshot.EMPTY.toBuilder()).build();
 	}
 
 	/* 
@@ -63,12 +63,25 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 
 		type = ClassUtils.getUserClass(type);
 
-		if (cache.containsKey(type)) {
-			return cache.get(type);
+		ResourceMappingsSnapshot current = snapshot;
+		ResourceMetadata metadata = current.getMetadataFor(type);
+
+		if (metadata != null || current.isUnmapped(type)) {
+			return metadata;
 		}
 
-		MappingResourceMetadata metadata = getMappingMetadataFor(type);
-		cache.put(type, metadata);
+		metadata = getMappingMetadataFor(type);
+
+		synchronized (monitor) {
+
+			current = snapshot;
+
+			if (current.hasMetadataFor(type)) {
+				return current.getMetadataFor(type);
+			}
+
+			this.snapshot = current.toBuilder().withMetadata(type, metadata).build();
+		}
 
 		return metadata;
 	}
@@ -85,7 +98,7 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 		Assert.notNull(type, "Type must not be null!");
 		type = ClassUtils.getUserClass(type);
 
-		MappingResourceMetadata mappingMetadata = mappingCache.get(type);
+		MappingResourceMetadata mappingMetadata = snapshot.getMappingMetadataFor(type);
 
 		if (mappingMetadata != null) {
 			return mappingMetadata;
@@ -97,9 +110,20 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 			return null;
 		}
 
-		mappingMetadata = new MappingResourceMetadata(entity, this);
-		mappingCache.put(type, mappingMetadata);
-		return mappingMetadata;
+		synchronized (monitor) {
+
+			ResourceMappingsSnapshot current = snapshot;
+			mappingMetadata = current.getMappingMetadataFor(type);
+
+			if (mappingMetadata != null) {
+				return mappingMetadata;
+			}
+
+			ResourceMappingsSnapshot.Builder builder = registerEntity(entity, current.toBuilder());
+			this.snapshot = builder.build();
+
+			return snapshot.getMappingMetadataFor(type);
+		}
 	}
 
 	/* 
@@ -132,16 +156,20 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 */
 	@Override
 	public boolean exportsTopLevelResourceFor(String path) {
+		return getExportedMetadataFor(path) != null;
+	}
 
-		Assert.hasText(path);
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.mapping.ResourceMappings#getExportedMetadataFor(java.lang.String)
+	 */
+	@Override
+	public ResourceMetadata getExportedMetadataFor(String path) {
 
-		for (ResourceMetadata metadata : this) {
-			if (metadata.getPath().matches(path)) {
-				return metadata.isExported();
-			}
-		}
+		Assert.hasText(path);
 
-		return false;
+		ResourceMetadata metadata = snapshot.getMetadataForPath(path);
+		return metadata != null && metadata.isExported() ? metadata : null;
 	}
 
 	/* 
@@ -150,12 +178,7 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 */
 	@Override
 	public boolean hasMappingFor(Class<?> type) {
-
-		if (cache.containsKey(type)) {
-			return true;
-		}
-
-		return false;
+		return snapshot.hasMetadataFor(type);
 	}
 
 	/* 
@@ -164,15 +187,24 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 */
 	public ResourceMapping getMappingFor(PersistentProperty<?> property) {
 
-		ResourceMapping propertyMapping = propertyCache.get(property);
+		ResourceMapping propertyMapping = snapshot.getMappingFor(property);
 
 		if (propertyMapping != null) {
 			return propertyMapping;
 		}
 
-		propertyMapping = new PersistentPropertyResourceMapping(property, this);
+		synchronized (monitor) {
 
-		propertyCache.put(property, propertyMapping);
+			ResourceMappingsSnapshot current = snapshot;
+			propertyMapping = current.getMappingFor(property);
+
+			if (propertyMapping != null) {
+				return propertyMapping;
+			}
+
+			propertyMapping = new PersistentPropertyResourceMapping(property, this);
+			this.snapshot = current.toBuilder().withPropertyMapping(property, propertyMapping).build();
+		}
 
 		return propertyMapping;
 	}
@@ -190,15 +222,7 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	@Override
 	public Iterator<ResourceMetadata> iterator() {
 
-		Set<ResourceMetadata> metadata = new HashSet<ResourceMetadata>();
-
-		for (ResourceMetadata candidate : cache.values()) {
-			if (candidate != null) {
-				metadata.add(candidate);
-			}
-		}
-
-		return metadata.iterator();
+		return snapshot.getMetadata().iterator();
 	}
 
 	/**
@@ -208,7 +232,10 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 * @param metadata can be {@literal null}.
 	 */
 	protected final void addToCache(Class<?> type, ResourceMetadata metadata) {
-		cache.put(type, metadata);
+
+		synchronized (monitor) {
+			this.snapshot = snapshot.toBuilder().withMetadata(type, metadata).build();
+		}
 	}
 
 	/**
@@ -218,6 +245,106 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 * @return
 	 */
 	protected final boolean hasMetadataFor(Class<?> type) {
-		return cache.containsKey(type);
+		return snapshot.hasMetadataFor(type);
+	}
+
+	/**
+	 * Returns the currently published {@link ResourceMappingsSnapshot}.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	final ResourceMappingsSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Publishes the {@link ResourceMappingsSnapshot} built by the given {@link ResourceMappingsSnapshot.Builder}. Meant to
+	 * be used by sub-classes to register all their mapping information in one go.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 */
+	final void publish(ResourceMappingsSnapshot.Builder builder) {
+
+		Assert.notNull(builder, "Builder must not be null!");
+
+		synchronized (monitor) {
+			this.snapshot = builder.build();
+		}
+	}
+
+	/**
+	 * Registers the given {@link SearchResourceMappings} for the given domain type unless some have been registered
+	 * concurrently.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @return the {@link SearchResourceMappings} registered for the domain type.
+	 */
+	final SearchResourceMappings registerSearchResourceMappings(Class<?> domainType, SearchResourceMappings mappings) {
+
+		synchronized (monitor) {
+
+			ResourceMappingsSnapshot current = snapshot;
+			SearchResourceMappings existing = current.getSearchResourceMappings(domainType);
+
+			if (existing != null) {
+				return existing;
+			}
+
+			this.snapshot = current.toBuilder().withSearchResourceMappings(domainType, mappings).build();
+			return mappings;
+		}
+	}
+
+	/**
+	 * Registers {@link MappingResourceMetadata} and the {@link ResourceMapping}s of all properties for all
+	 * {@link PersistentEntity} instances currently known.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @return the given builder.
+	 */
+	private ResourceMappingsSnapshot.Builder registerEntities(ResourceMappingsSnapshot.Builder builder) {
+
+		for (PersistentEntity<?, ?> entity : entities) {
+			registerEntity(entity, builder);
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Registers {@link MappingResourceMetadata} and the {@link ResourceMapping}s of all properties for the given
+	 * {@link PersistentEntity}.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param builder must not be {@literal null}.
+	 * @return the given builder.
+	 */
+	private ResourceMappingsSnapshot.Builder registerEntity(PersistentEntity<?, ?> entity,
+			final ResourceMappingsSnapshot.Builder builder) {
+
+		builder.withMappingMetadata(entity.getType(), new MappingResourceMetadata(entity, this));
+
+		entity.doWithProperties(new SimplePropertyHandler() {
+
+			@Override
+			public void doWithPersistentProperty(PersistentProperty<?> property) {
+				builder.withPropertyMapping(property, new PersistentPropertyResourceMapping(property,
+						PersistentEntitiesResourceMappings.this));
+			}
+		});
+
+		entity.doWithAssociations(new SimpleAssociationHandler() {
+
+			@Override
+			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+
+				PersistentProperty<?> property = association.getInverse();
+				builder.withPropertyMapping(property, new PersistentPropertyResourceMapping(property,
+						PersistentEntitiesResourceMappings.this));
+			}
+		});
+
+		return builder;
 	}
 }
@@ -28,7 +28,7 @@ import org.springframework.util.Assert;
  * 
  * @author Oliver Gierke
  */
-class RepositoryAwareResourceMetadata implements ResourceMetadata {
+class RepositoryAwareResourceMetadata implements ResourceMetadata, PagedCollectionResourceMapping {
 
 	private final CollectionResourceMapping mapping;
 	private final PersistentEntitiesResourceMappings provider;
@@ -183,6 +183,15 @@ class RepositoryAwareResourceMetadata implements ResourceMetadata {
 		return mapping.getExcerptProjection();
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.mapping.PagedCollectionResourceMapping#getPagingMode()
+	 */
+	@Override
+	public PagingMode getPagingMode() {
+		return PagingMode.of(mapping);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.mapping.ResourceMetadata#getSearchResourceMappings()
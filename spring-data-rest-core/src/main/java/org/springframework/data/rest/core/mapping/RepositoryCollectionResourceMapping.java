@@ -35,7 +35,7 @@ import org.springframework.util.StringUtils;
  * 
  * @author Oliver Gierke
  */
-class RepositoryCollectionResourceMapping implements CollectionResourceMapping {
+class RepositoryCollectionResourceMapping implements PagedCollectionResourceMapping {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryCollectionResourceMapping.class);
 	private static final boolean EVO_INFLECTOR_IS_PRESENT = ClassUtils.isPresent("org.atteo.evo.inflector.English", null);
@@ -210,4 +210,13 @@ class RepositoryCollectionResourceMapping implements CollectionResourceMapping {
 
 		return excerptProjection.equals(RepositoryRestResource.None.class) ? null : excerptProjection;
 	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.mapping.PagedCollectionResourceMapping#getPagingMode()
+	 */
+	@Override
+	public PagingMode getPagingMode() {
+		return repositoryAnnotation == null ? PagingMode.PAGE : repositoryAnnotation.paging();
+	}
 }
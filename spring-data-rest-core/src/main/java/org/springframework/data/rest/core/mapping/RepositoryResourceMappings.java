@@ -17,9 +17,7 @@ package org.springframework.data.rest.core.mapping;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -40,7 +38,6 @@ import org.springframework.util.Assert;
 public class RepositoryResourceMappings extends PersistentEntitiesResourceMappings {
 
 	private final Repositories repositories;
-	private final Map<Class<?>, SearchResourceMappings> searchCache = new HashMap<Class<?>, SearchResourceMappings>();
 
 	/**
 	 * Creates a new {@link RepositoryResourceMappings} using the given {@link Repositories} and
@@ -73,11 +70,15 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 		Assert.notNull(strategy, "RepositoryDetectionStrategy must not be null!");
 
 		this.repositories = repositories;
-		this.populateCache(repositories, relProvider, strategy);
+
+		ResourceMappingsSnapshot.Builder builder = getSnapshot().toBuilder();
+
+		populateCache(repositories, relProvider, strategy, builder);
+		publish(builder);
 	}
 
 	private final void populateCache(Repositories repositories, RelProvider provider,
-			RepositoryDetectionStrategy strategy) {
+			RepositoryDetectionStrategy strategy, ResourceMappingsSnapshot.Builder builder) {
 
 		for (Class<?> type : repositories) {
 
@@ -90,12 +91,16 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 			RepositoryAwareResourceMetadata information = new RepositoryAwareResourceMetadata(entity, mapping, this,
 					repositoryInformation);
 
-			addToCache(repositoryInterface, information);
+			builder.withMetadata(repositoryInterface, information);
 
-			if (!hasMetadataFor(type) || information.isPrimary()) {
-				addToCache(type, information);
+			if (!builder.hasMetadataFor(type) || information.isPrimary()) {
+				builder.withMetadata(type, information);
 			}
 		}
+
+		for (Class<?> type : repositories) {
+			builder.withSearchResourceMappings(type, createSearchResourceMappings(type, builder.getMetadataFor(type)));
+		}
 	}
 
 	/* 
@@ -107,13 +112,20 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 
 		Assert.notNull(domainType, "Type must not be null!");
 
-		if (searchCache.containsKey(domainType)) {
-			return searchCache.get(domainType);
+		SearchResourceMappings searchResourceMappings = getSnapshot().getSearchResourceMappings(domainType);
+
+		if (searchResourceMappings != null) {
+			return searchResourceMappings;
 		}
 
+		searchResourceMappings = createSearchResourceMappings(domainType, getMetadataFor(domainType));
+		return registerSearchResourceMappings(domainType, searchResourceMappings);
+	}
+
+	private SearchResourceMappings createSearchResourceMappings(Class<?> domainType, ResourceMetadata resourceMapping) {
+
 		RepositoryInformation repositoryInformation = repositories.getRepositoryInformationFor(domainType);
 		List<MethodResourceMapping> mappings = new ArrayList<MethodResourceMapping>();
-		ResourceMetadata resourceMapping = getMetadataFor(domainType);
 
 		if (resourceMapping.isExported()) {
 			for (Method queryMethod : repositoryInformation.getQueryMethods()) {
@@ -125,9 +137,7 @@ public class RepositoryResourceMappings extends PersistentEntitiesResourceMappin
 			}
 		}
 
-		SearchResourceMappings searchResourceMappings = new SearchResourceMappings(mappings);
-		searchCache.put(domainType, searchResourceMappings);
-		return searchResourceMappings;
+		return new SearchResourceMappings(mappings);
 	}
 
 	/* 
@@ -52,6 +52,16 @@ public interface ResourceMappings extends Iterable<ResourceMetadata> {
 	 */
 	boolean exportsTopLevelResourceFor(String path);
 
+	/**
+	 * Returns the exported {@link ResourceMetadata} for the given top-level path. The path is matched the same way
+	 * {@link org.springframework.data.rest.core.Path#matches(String)} does, i.e. with or without a leading slash.
+	 * 
+	 * @param path must not be {@literal null} or empty.
+	 * @return the exported {@link ResourceMetadata} for the given path or {@literal null} if none found.
+	 * @since 2.6
+	 */
+	ResourceMetadata getExportedMetadataFor(String path);
+
 	/**
 	 * Returns whether we have a {@link ResourceMapping} for the given type.
 	 * 
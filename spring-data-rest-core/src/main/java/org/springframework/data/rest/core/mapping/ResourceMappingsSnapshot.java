@@ -0,0 +1,363 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.mapping;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * Immutable snapshot of all mapping information held by {@link PersistentEntitiesResourceMappings}. Instances are never
+ * changed once built, so they can be published through a single volatile reference and read without any locking.
+ * Changes are applied by creating a {@link Builder} from the current snapshot and publishing the newly built one. The
+ * builder only copies the maps that are actually changed and maintains the path index incrementally.
+ *
+ * @author agent
+ * @since 2.6
+ */
+final class ResourceMappingsSnapshot {
+
+	static final ResourceMappingsSnapshot EMPTY = new Builder().build();
+
+	// All maps and sets are never changed once the snapshot is built
+	private final Map<Class<?>, ResourceMetadata> metadata;
+	private final Set<Class<?>> unmappedTypes;
+	private final Map<Class<?>, MappingResourceMetadata> mappingMetadata;
+	private final Map<PersistentProperty<?>, ResourceMapping> propertyMappings;
+	private final Map<Class<?>, SearchResourceMappings> searchMappings;
+	private final Map<String, ResourceMetadata> paths;
+	private final Set<ResourceMetadata> distinctMetadata;
+	private final Set<ResourceMetadata> distinctMetadataView;
+
+	private ResourceMappingsSnapshot(Builder builder) {
+
+		this.metadata = builder.metadata;
+		this.unmappedTypes = builder.unmappedTypes;
+		this.mappingMetadata = builder.mappingMetadata;
+		this.propertyMappings = builder.propertyMappings;
+		this.searchMappings = builder.searchMappings;
+		this.paths = builder.paths;
+		this.distinctMetadata = builder.distinctMetadata;
+		this.distinctMetadataView = Collections.unmodifiableSet(distinctMetadata);
+	}
+
+	/**
+	 * Returns a new {@link Builder} pre-populated with the state of the current snapshot.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Builder toBuilder() {
+		return new Builder(this);
+	}
+
+	/**
+	 * Returns the {@link ResourceMetadata} registered for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link ResourceMetadata} or {@literal null} if none registered or the type was registered as unmapped.
+	 */
+	public ResourceMetadata getMetadataFor(Class<?> type) {
+		return metadata.get(type);
+	}
+
+	/**
+	 * Returns whether the given type was already registered as not being mapped.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isUnmapped(Class<?> type) {
+		return unmappedTypes.contains(type);
+	}
+
+	/**
+	 * Returns whether the given type was already looked up, no matter whether it resulted in {@link ResourceMetadata} or
+	 * not.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean hasMetadataFor(Class<?> type) {
+		return metadata.containsKey(type) || unmappedTypes.contains(type);
+	}
+
+	/**
+	 * Returns the {@link MappingResourceMetadata} registered for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public MappingResourceMetadata getMappingMetadataFor(Class<?> type) {
+		return mappingMetadata.get(type);
+	}
+
+	/**
+	 * Returns the {@link ResourceMapping} registered for the given {@link PersistentProperty}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public ResourceMapping getMappingFor(PersistentProperty<?> property) {
+		return propertyMappings.get(property);
+	}
+
+	/**
+	 * Returns the {@link SearchResourceMappings} registered for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public SearchResourceMappings getSearchResourceMappings(Class<?> domainType) {
+		return searchMappings.get(domainType);
+	}
+
+	/**
+	 * Returns the {@link ResourceMetadata} registered for the given path. Paths are indexed with and without their
+	 * leading slash. If multiple {@link ResourceMetadata} instances are mapped to the same path, exported ones take
+	 * precedence.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public ResourceMetadata getMetadataForPath(String path) {
+		return paths.get(path);
+	}
+
+	/**
+	 * Returns all distinct {@link ResourceMetadata} instances registered.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Set<ResourceMetadata> getMetadata() {
+		return distinctMetadataView;
+	}
+
+	/**
+	 * Mutable builder for {@link ResourceMappingsSnapshot}s. Not thread-safe, so it must only be used by a single thread.
+	 * The state of the snapshot the builder was created from is shared until it's changed, in which case only the
+	 * affected map is copied. The built snapshot takes over the builder's state, so a builder must not be used anymore
+	 * after {@link #build()}.
+	 *
+	 * @author agent
+	 */
+	static class Builder {
+
+		private Map<Class<?>, ResourceMetadata> metadata;
+		private Set<Class<?>> unmappedTypes;
+		private Map<Class<?>, MappingResourceMetadata> mappingMetadata;
+		private Map<PersistentProperty<?>, ResourceMapping> propertyMappings;
+		private Map<Class<?>, SearchResourceMappings> searchMappings;
+		private Map<String, ResourceMetadata> paths;
+		private Set<ResourceMetadata> distinctMetadata;
+
+		// The collections still shared with the snapshot the builder was created from
+		private final Set<Object> shared;
+
+		Builder() {
+
+			this.metadata = new HashMap<Class<?>, ResourceMetadata>();
+			this.unmappedTypes = new HashSet<Class<?>>();
+			this.mappingMetadata = new HashMap<Class<?>, MappingResourceMetadata>();
+			this.propertyMappings = new HashMap<PersistentProperty<?>, ResourceMapping>();
+			this.searchMappings = new HashMap<Class<?>, SearchResourceMappings>();
+			this.paths = new HashMap<String, ResourceMetadata>();
+			this.distinctMetadata = new LinkedHashSet<ResourceMetadata>();
+			this.shared = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		}
+
+		private Builder(ResourceMappingsSnapshot snapshot) {
+
+			this.metadata = snapshot.metadata;
+			this.unmappedTypes = snapshot.unmappedTypes;
+			this.mappingMetadata = snapshot.mappingMetadata;
+			this.propertyMappings = snapshot.propertyMappings;
+			this.searchMappings = snapshot.searchMappings;
+			this.paths = snapshot.paths;
+			this.distinctMetadata = snapshot.distinctMetadata;
+			this.shared = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+			this.shared.addAll(Arrays.<Object> asList(metadata, unmappedTypes, mappingMetadata, propertyMappings,
+					searchMappings, paths, distinctMetadata));
+		}
+
+		/**
+		 * Registers the given {@link ResourceMetadata} for the given type. {@literal null} registers the type as unmapped.
+		 * The path index is updated incrementally and only rebuilt if previously registered {@link ResourceMetadata} is
+		 * replaced or removed.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param metadata can be {@literal null}.
+		 * @return
+		 */
+		public Builder withMetadata(Class<?> type, ResourceMetadata metadata) {
+
+			ResourceMetadata previous = this.metadata.get(type);
+
+			if (metadata == null) {
+
+				if (!unmappedTypes.contains(type)) {
+					unmappedTypes = copyOnWrite(unmappedTypes);
+					unmappedTypes.add(type);
+				}
+
+				if (previous != null) {
+					this.metadata = copyOnWrite(this.metadata);
+					this.metadata.remove(type);
+					reindex();
+				}
+
+				return this;
+			}
+
+			if (unmappedTypes.contains(type)) {
+				unmappedTypes = copyOnWrite(unmappedTypes);
+				unmappedTypes.remove(type);
+			}
+
+			if (previous == metadata) {
+				return this;
+			}
+
+			this.metadata = copyOnWrite(this.metadata);
+			this.metadata.put(type, metadata);
+
+			if (previous != null) {
+				reindex();
+				return this;
+			}
+
+			this.paths = copyOnWrite(paths);
+			index(paths, metadata);
+
+			if (!distinctMetadata.contains(metadata)) {
+				this.distinctMetadata = copyOnWrite(distinctMetadata);
+				distinctMetadata.add(metadata);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Returns the {@link ResourceMetadata} registered for the given type so far.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return can be {@literal null}.
+		 */
+		public ResourceMetadata getMetadataFor(Class<?> type) {
+			return metadata.get(type);
+		}
+
+		/**
+		 * Returns whether the given type was registered so far, either with {@link ResourceMetadata} or as unmapped.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public boolean hasMetadataFor(Class<?> type) {
+			return metadata.containsKey(type) || unmappedTypes.contains(type);
+		}
+
+		public Builder withMappingMetadata(Class<?> type, MappingResourceMetadata metadata) {
+
+			this.mappingMetadata = copyOnWrite(mappingMetadata);
+			this.mappingMetadata.put(type, metadata);
+			return this;
+		}
+
+		public Builder withPropertyMapping(PersistentProperty<?> property, ResourceMapping mapping) {
+
+			this.propertyMappings = copyOnWrite(propertyMappings);
+			this.propertyMappings.put(property, mapping);
+			return this;
+		}
+
+		public Builder withSearchResourceMappings(Class<?> domainType, SearchResourceMappings mappings) {
+
+			this.searchMappings = copyOnWrite(searchMappings);
+			this.searchMappings.put(domainType, mappings);
+			return this;
+		}
+
+		/**
+		 * Creates a new {@link ResourceMappingsSnapshot} from the current state.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public ResourceMappingsSnapshot build() {
+			return new ResourceMappingsSnapshot(this);
+		}
+
+		/**
+		 * Rebuilds the path index and the distinct {@link ResourceMetadata} from scratch.
+		 */
+		private void reindex() {
+
+			Map<String, ResourceMetadata> paths = new HashMap<String, ResourceMetadata>();
+
+			for (ResourceMetadata candidate : metadata.values()) {
+				index(paths, candidate);
+			}
+
+			this.paths = paths;
+			this.distinctMetadata = new LinkedHashSet<ResourceMetadata>(metadata.values());
+		}
+
+		private <K, V> Map<K, V> copyOnWrite(Map<K, V> source) {
+
+			if (!shared.remove(source)) {
+				return source;
+			}
+
+			return new HashMap<K, V>(source);
+		}
+
+		private <T> Set<T> copyOnWrite(Set<T> source) {
+
+			if (!shared.remove(source)) {
+				return source;
+			}
+
+			return source instanceof LinkedHashSet ? new LinkedHashSet<T>(source) : new HashSet<T>(source);
+		}
+
+		private static void index(Map<String, ResourceMetadata> index, ResourceMetadata metadata) {
+
+			String path = metadata.getPath().toString();
+
+			registerPath(index, path, metadata);
+
+			if (path.startsWith("/")) {
+				registerPath(index, path.substring(1), metadata);
+			}
+		}
+
+		private static void registerPath(Map<String, ResourceMetadata> index, String path, ResourceMetadata metadata) {
+
+			ResourceMetadata existing = index.get(path);
+
+			if (existing == null || !existing.isExported()) {
+				index.put(path, metadata);
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.io.Serializable;
+
+import org.springframework.data.repository.support.RepositoryInvoker;
+
+/**
+ * {@link RepositoryInvoker} that is able to look up multiple entities by their identifiers at once.
+ * 
+ * @author agent
+ * @since 2.6
+ */
+public interface BatchingRepositoryInvoker extends RepositoryInvoker {
+
+	/**
+	 * Returns whether {@link #invokeFindAll(Iterable)} loads the entities with a single repository call. That's only the
+	 * case if direct queries were explicitly allowed for the domain type and no {@link EntityLookup} is registered for
+	 * it.
+	 * 
+	 * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+	 * 
+	 * @return
+	 */
+	boolean hasBatchFindMethod();
+
+	/**
+	 * Returns the entities with the given identifiers. Loads them with a single call to the repository if
+	 * {@link #hasBatchFindMethod()} returns {@literal true} and through {@link #invokeFindOne(Serializable)} one by one
+	 * otherwise. Entities that can't be found are omitted, the order of the result is undefined.
+	 * 
+	 * @param ids must not be {@literal null}, have to be of the repository's identifier type.
+	 * @return will never be {@literal null}.
+	 */
+	Iterable<Object> invokeFindAll(Iterable<? extends Serializable> ids);
+}
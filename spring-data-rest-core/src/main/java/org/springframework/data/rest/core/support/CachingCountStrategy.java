@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.rest.core.event.AbstractRepositoryEventListener;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link CountStrategy} caching the exact totals for a given time to live. Cached totals are evicted for a domain type
+ * once an {@link AfterCreateEvent} or {@link AfterDeleteEvent} is published for it. As changes not made through the
+ * exporter go unnoticed, totals served from the cache are reported as estimated. At most a configurable number of
+ * totals is cached, evicting the least recently used ones, as every combination of request parameters results in a
+ * separate {@link CountQuery}. The strategy needs to be a Spring bean to receive the events, which the one configured
+ * in {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration} is exposed as.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class CachingCountStrategy extends AbstractRepositoryEventListener<Object> implements CountStrategy {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final Map<CountQuery, CachedTotal> cache;
+	private final long timeToLive;
+
+	/**
+	 * Creates a new {@link CachingCountStrategy} caching at most {@value #DEFAULT_MAX_SIZE} totals for the given amount
+	 * of time.
+	 *
+	 * @param timeToLive must not be negative.
+	 * @param unit must not be {@literal null}.
+	 */
+	public CachingCountStrategy(long timeToLive, TimeUnit unit) {
+		this(timeToLive, unit, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link CachingCountStrategy} caching at most the given number of totals for the given amount of
+	 * time.
+	 *
+	 * @param timeToLive must not be negative.
+	 * @param unit must not be {@literal null}.
+	 * @param maxSize must be greater than zero.
+	 */
+	@SuppressWarnings("serial")
+	public CachingCountStrategy(long timeToLive, TimeUnit unit, final int maxSize) {
+
+		Assert.isTrue(timeToLive >= 0, "Time to live must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+		Assert.isTrue(maxSize > 0, "Cache size must be greater than zero!");
+
+		this.timeToLive = unit.toMillis(timeToLive);
+		this.cache = new LinkedHashMap<CountQuery, CachedTotal>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CountQuery, CachedTotal> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.CountStrategy#count(org.springframework.data.rest.core.support.CountStrategy.CountQuery, org.springframework.data.rest.core.support.CountStrategy.Counter)
+	 */
+	@Override
+	public Total count(CountQuery query, Counter counter) {
+
+		Assert.notNull(query, "CountQuery must not be null!");
+		Assert.notNull(counter, "Counter must not be null!");
+
+		long now = System.currentTimeMillis();
+
+		synchronized (cache) {
+
+			CachedTotal cached = cache.get(query);
+
+			if (cached != null && !cached.isExpired(now)) {
+				return Total.estimated(cached.value);
+			}
+
+			evictExpired(now);
+		}
+
+		long value = counter.count();
+
+		synchronized (cache) {
+			cache.put(query, new CachedTotal(value, now + timeToLive));
+		}
+
+		return Total.exact(value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.CountStrategy#isExact()
+	 */
+	@Override
+	public boolean isExact() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.event.AbstractRepositoryEventListener#onAfterCreate(java.lang.Object)
+	 */
+	@Override
+	protected void onAfterCreate(Object entity) {
+		evict(ClassUtils.getUserClass(entity));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.event.AbstractRepositoryEventListener#onAfterDelete(java.lang.Object)
+	 */
+	@Override
+	protected void onAfterDelete(Object entity) {
+		evict(ClassUtils.getUserClass(entity));
+	}
+
+	private void evict(Class<?> type) {
+
+		synchronized (cache) {
+			for (Iterator<CountQuery> iterator = cache.keySet().iterator(); iterator.hasNext();) {
+				if (iterator.next().getDomainType().isAssignableFrom(type)) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	private void evictExpired(long now) {
+
+		for (Iterator<Entry<CountQuery, CachedTotal>> iterator = cache.entrySet().iterator(); iterator.hasNext();) {
+			if (iterator.next().getValue().isExpired(now)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static class CachedTotal {
+
+		private final long value;
+		private final long expiresAt;
+
+		public CachedTotal(long value, long expiresAt) {
+
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		public boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy to determine the total number of elements exposed in the metadata of paged collection resources.
+ *
+ * @author agent
+ * @since 2.6
+ * @see CachingCountStrategy
+ * @see EstimatingCountStrategy
+ */
+public interface CountStrategy {
+
+	/**
+	 * Returns the {@link Total} of elements matching the given {@link CountQuery}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param counter the {@link Counter} to issue the exact count query, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Total count(CountQuery query, Counter counter);
+
+	/**
+	 * Returns whether the strategy always returns exact totals, i.e. always uses the given {@link Counter}. Paged
+	 * collection resources will then be looked up as before, counting the elements along the way.
+	 *
+	 * @return
+	 */
+	boolean isExact();
+
+	/**
+	 * Callback to issue the exact count query.
+	 *
+	 * @author agent
+	 */
+	public interface Counter {
+
+		/**
+		 * Returns the exact number of elements.
+		 *
+		 * @return
+		 */
+		long count();
+	}
+
+	/**
+	 * The elements to count, identified by the domain type of the repository and the request parameters restricting
+	 * the elements, e.g. the ones bound to a Querydsl predicate.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class CountQuery {
+
+		Class<?> domainType;
+		Map<String, List<String>> parameters;
+	}
+
+	/**
+	 * A total number of elements and whether it's exact or estimated.
+	 *
+	 * @author agent
+	 */
+	@Value
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Total {
+
+		long value;
+		boolean exact;
+
+		/**
+		 * Creates a new exact {@link Total}.
+		 *
+		 * @param value
+		 * @return
+		 */
+		public static Total exact(long value) {
+			return new Total(value, true);
+		}
+
+		/**
+		 * Creates a new estimated {@link Total}.
+		 *
+		 * @param value
+		 * @return
+		 */
+		public static Total estimated(long value) {
+			return new Total(value, false);
+		}
+	}
+
+	/**
+	 * Default {@link CountStrategy}s.
+	 *
+	 * @author agent
+	 */
+	public static enum CountStrategies implements CountStrategy {
+
+		/**
+		 * Always issues the count query.
+		 */
+		EXACT {
+
+			@Override
+			public Total count(CountQuery query, Counter counter) {
+				return Total.exact(counter.count());
+			}
+
+			@Override
+			public boolean isExact() {
+				return true;
+			}
+		};
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CountStrategy} using the estimate provided by the store, e.g. derived from table statistics, and falling back
+ * to the exact count if the store can't provide one for the given {@link CountQuery}.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class EstimatingCountStrategy implements CountStrategy {
+
+	private final CountEstimator estimator;
+
+	/**
+	 * Creates a new {@link EstimatingCountStrategy} using the given {@link CountEstimator}.
+	 *
+	 * @param estimator must not be {@literal null}.
+	 */
+	public EstimatingCountStrategy(CountEstimator estimator) {
+
+		Assert.notNull(estimator, "CountEstimator must not be null!");
+
+		this.estimator = estimator;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.CountStrategy#count(org.springframework.data.rest.core.support.CountStrategy.CountQuery, org.springframework.data.rest.core.support.CountStrategy.Counter)
+	 */
+	@Override
+	public Total count(CountQuery query, Counter counter) {
+
+		Assert.notNull(query, "CountQuery must not be null!");
+		Assert.notNull(counter, "Counter must not be null!");
+
+		Long estimate = estimator.estimate(query);
+
+		return estimate == null ? Total.exact(counter.count()) : Total.estimated(estimate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.CountStrategy#isExact()
+	 */
+	@Override
+	public boolean isExact() {
+		return false;
+	}
+
+	/**
+	 * Store specific callback to estimate the number of elements.
+	 *
+	 * @author agent
+	 */
+	public interface CountEstimator {
+
+		/**
+		 * Returns the estimated number of elements matching the given {@link CountQuery}.
+		 *
+		 * @param query will never be {@literal null}.
+		 * @return the estimate or {@literal null} if the elements can't be estimated, e.g. as they're restricted by
+		 *         request parameters.
+		 */
+		Long estimate(CountQuery query);
+	}
+}
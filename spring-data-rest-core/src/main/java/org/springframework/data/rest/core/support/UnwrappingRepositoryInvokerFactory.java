@@ -26,12 +26,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
@@ -80,21 +86,76 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 		CONVERTERS = Collections.unmodifiableList(converters);
 	}
 
-	private final RepositoryInvokerFactory delegate;
+	private final ObjectFactory<? extends RepositoryInvokerFactory> delegateFactory;
+	private final Repositories repositories;
+	private final RepositoryRestConfiguration configuration;
 	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	private final ConcurrentMap<Class<?>, RepositoryInvoker> invokers;
+
+	private volatile RepositoryInvokerFactory delegate;
 
 	/**
+	 * Creates a new {@link UnwrappingRepositoryInvokerFactory} for the given delegate {@link RepositoryInvokerFactory}.
+	 * As the delegate cannot be recreated, {@link #invalidate(Class)} only evicts the unwrapping invokers but not the
+	 * ones the delegate might have cached.
+	 * 
 	 * @param delegate must not be {@literal null}.
 	 * @param lookups must not be {@literal null}.
 	 */
-	public UnwrappingRepositoryInvokerFactory(RepositoryInvokerFactory delegate,
+	public UnwrappingRepositoryInvokerFactory(final RepositoryInvokerFactory delegate,
 			List<? extends EntityLookup<?>> lookups) {
 
+		this(new ObjectFactory<RepositoryInvokerFactory>() {
+
+			@Override
+			public RepositoryInvokerFactory getObject() {
+				return delegate;
+			}
+
+		}, lookups);
+
 		Assert.notNull(delegate, "Delegate RepositoryInvokerFactory must not be null!");
+	}
+
+	/**
+	 * Creates a new {@link UnwrappingRepositoryInvokerFactory} obtaining the delegate {@link RepositoryInvokerFactory}
+	 * from the given {@link ObjectFactory}. A new delegate is obtained on invalidation, so that invokers cached by the
+	 * delegate are recreated, too.
+	 * 
+	 * @param delegateFactory must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @since 2.6
+	 */
+	public UnwrappingRepositoryInvokerFactory(ObjectFactory<? extends RepositoryInvokerFactory> delegateFactory,
+			List<? extends EntityLookup<?>> lookups) {
+		this(delegateFactory, null, null, lookups);
+	}
+
+	/**
+	 * Creates a new {@link UnwrappingRepositoryInvokerFactory} obtaining the delegate {@link RepositoryInvokerFactory}
+	 * from the given {@link ObjectFactory}. The {@link RepositoryInvoker}s created implement
+	 * {@link BatchingRepositoryInvoker} and use the given {@link Repositories} to look up multiple entities at once for
+	 * the domain types the given {@link RepositoryRestConfiguration} allows direct queries for.
+	 * 
+	 * @param delegateFactory must not be {@literal null}.
+	 * @param repositories can be {@literal null}, entities are then always looked up one by one.
+	 * @param configuration can be {@literal null}, entities are then always looked up one by one.
+	 * @param lookups must not be {@literal null}.
+	 * @since 2.6
+	 * @see RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+	 */
+	public UnwrappingRepositoryInvokerFactory(ObjectFactory<? extends RepositoryInvokerFactory> delegateFactory,
+			Repositories repositories, RepositoryRestConfiguration configuration, List<? extends EntityLookup<?>> lookups) {
+
+		Assert.notNull(delegateFactory, "Delegate RepositoryInvokerFactory factory must not be null!");
 		Assert.notNull(lookups, "EntityLookups must not be null!");
 
-		this.delegate = delegate;
+		this.delegateFactory = delegateFactory;
+		this.repositories = repositories;
+		this.configuration = configuration;
+		this.delegate = delegateFactory.getObject();
 		this.lookups = OrderAwarePluginRegistry.create(lookups);
+		this.invokers = new ConcurrentHashMap<Class<?>, RepositoryInvoker>();
 	}
 
 	/* 
@@ -104,23 +165,104 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 	@Override
 	public RepositoryInvoker getInvokerFor(Class<?> domainType) {
 
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		RepositoryInvoker invoker = invokers.get(domainType);
+
+		if (invoker != null) {
+			return invoker;
+		}
+
 		EntityLookup<?> lookup = lookups.getPluginFor(domainType);
+		RepositoryInvoker delegateInvoker = delegate.getInvokerFor(domainType);
+		CrudRepository<Object, Serializable> repository = lookup == null && delegateInvoker.hasFindOneMethod()
+				? getBatchRepositoryFor(domainType) : null;
+
+		invoker = new UnwrappingRepositoryInvoker(delegateInvoker, CONVERTERS, lookup, repository);
+
+		RepositoryInvoker existing = invokers.putIfAbsent(domainType, invoker);
+
+		return existing == null ? invoker : existing;
+	}
+
+	/**
+	 * Eagerly creates and caches the {@link RepositoryInvoker}s for the given domain types.
+	 * 
+	 * @param domainTypes must not be {@literal null}.
+	 * @since 2.6
+	 */
+	public void warmUp(Iterable<Class<?>> domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null!");
 
-		return new UnwrappingRepositoryInvoker(delegate.getInvokerFor(domainType), CONVERTERS, lookup);
+		for (Class<?> domainType : domainTypes) {
+			getInvokerFor(domainType);
+		}
+	}
+
+	/**
+	 * Evicts the cached {@link RepositoryInvoker} for the given domain type so that it's recreated on the next request.
+	 * Needed in case repositories are registered or replaced after the application context has been refreshed. Obtains
+	 * a new delegate {@link RepositoryInvokerFactory} as the current one might have cached the invoker as well.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @since 2.6
+	 */
+	public void invalidate(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		this.delegate = delegateFactory.getObject();
+		invokers.remove(domainType);
+	}
+
+	/**
+	 * Evicts all cached {@link RepositoryInvoker}s.
+	 * 
+	 * @since 2.6
+	 * @see #invalidate(Class)
+	 */
+	public void invalidateAll() {
+
+		this.delegate = delegateFactory.getObject();
+		invokers.clear();
+	}
+
+	/**
+	 * Returns the {@link CrudRepository} to look up multiple entities of the given type with at once or {@literal null}
+	 * if direct queries are not explicitly allowed for the type, so that we rather look the entities up one by one
+	 * through the {@link RepositoryInvoker} in that case.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @see RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+	 */
+	@SuppressWarnings("unchecked")
+	private CrudRepository<Object, Serializable> getBatchRepositoryFor(Class<?> domainType) {
+
+		if (repositories == null || configuration == null || !configuration.isDirectQueryAllowedFor(domainType)) {
+			return null;
+		}
+
+		Object repository = repositories.getRepositoryFor(domainType);
+
+		return repository instanceof CrudRepository ? (CrudRepository<Object, Serializable>) repository : null;
 	}
 
 	/**
 	 * {@link RepositoryInvoker} that post-processes invocations of {@link RepositoryInvoker#invokeFindOne(Serializable)}
-	 * and {@link #invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)} using the given {@link Converter}s.
+	 * and {@link #invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)} using the given {@link Converter}s. Looks up
+	 * multiple entities through the given {@link CrudRepository} if one is given.
 	 * 
 	 * @author Oliver Gierke
 	 */
 	@RequiredArgsConstructor
-	private static class UnwrappingRepositoryInvoker implements RepositoryInvoker {
+	private static class UnwrappingRepositoryInvoker implements BatchingRepositoryInvoker {
 
 		private final @NonNull RepositoryInvoker delegate;
 		private final @NonNull Collection<Converter<Object, Object>> converters;
 		private final EntityLookup<?> lookup;
+		private final CrudRepository<Object, Serializable> repository;
 
 		/*
 		 * (non-Javadoc)
@@ -130,6 +272,43 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 			return postProcess(lookup != null ? lookup.lookupEntity(id) : delegate.invokeFindOne(id));
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.BatchingRepositoryInvoker#hasBatchFindMethod()
+		 */
+		@Override
+		public boolean hasBatchFindMethod() {
+			return repository != null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.BatchingRepositoryInvoker#invokeFindAll(java.lang.Iterable)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Iterable<Object> invokeFindAll(Iterable<? extends Serializable> ids) {
+
+			Assert.notNull(ids, "Identifiers must not be null!");
+
+			if (repository != null) {
+				return repository.findAll((Iterable<Serializable>) ids);
+			}
+
+			List<Object> result = new ArrayList<Object>();
+
+			for (Serializable id : ids) {
+
+				Object entity = invokeFindOne(id);
+
+				if (entity != null) {
+					result.add(entity);
+				}
+			}
+
+			return result;
+		}
+
 		/* 
 		 * (non-Javadoc)
 		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
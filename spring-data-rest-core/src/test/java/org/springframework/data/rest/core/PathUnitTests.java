@@ -83,4 +83,17 @@ public class PathUnitTests {
 	public void doesNotMatchNullReference() {
 		assertThat(new Path("/foobar").matches(null), is(false));
 	}
+
+	@Test
+	public void doesNotMatchPrefixOrSuffix() {
+
+		assertThat(new Path("/foobar").matches("foo"), is(false));
+		assertThat(new Path("/foobar").matches("/foobar/"), is(false));
+		assertThat(new Path("/foobar").matches("//foobar"), is(false));
+	}
+
+	@Test
+	public void doesNotTreatReferenceAsRegularExpression() {
+		assertThat(new Path("/foobar").matches("foo.*"), is(false));
+	}
 }
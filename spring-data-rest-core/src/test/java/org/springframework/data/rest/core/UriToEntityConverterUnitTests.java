@@ -19,19 +19,23 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.Serializable;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
@@ -39,6 +43,7 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.BatchingRepositoryInvoker;
 
 /**
  * Unit tests for {@link UriToEntityConverter}.
@@ -140,6 +145,52 @@ public class UriToEntityConverterUnitTests {
 		converter.convert(URI.create("1"), URI_TYPE, ENTITY_TYPE);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolvesUrisWithSingleFindAll() {
+
+		Entity first = new Entity();
+		first.id = "1";
+		Entity second = new Entity();
+		second.id = "2";
+
+		BatchingRepositoryInvoker invoker = mock(BatchingRepositoryInvoker.class);
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Entity.class);
+		doReturn(true).when(invoker).hasBatchFindMethod();
+		doReturn(Arrays.asList(second, first)).when(invoker).invokeFindAll(Mockito.any(Iterable.class));
+
+		UriToEntityConverter converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				invokerFactory, repositories, new DefaultConversionService());
+
+		List<Object> result = converter.convertAll(Arrays.asList(URI.create("/foo/1"), URI.create("/foo/3"),
+				URI.create("/foo/2"), URI.create("/foo/1")), Entity.class);
+
+		assertThat(result, is(Arrays.<Object> asList(first, null, second, first)));
+		verify(invoker, times(1)).invokeFindAll(Mockito.any(Iterable.class));
+		verify(invoker, never()).invokeFindOne(Mockito.any(Serializable.class));
+		verifyZeroInteractions(repositories);
+	}
+
+	@Test
+	public void resolvesUrisOneByOneWithoutBatchLookup() {
+
+		Entity first = new Entity();
+		first.id = "1";
+
+		BatchingRepositoryInvoker invoker = mock(BatchingRepositoryInvoker.class);
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Entity.class);
+		doReturn(first).when(invoker).invokeFindOne("1");
+
+		UriToEntityConverter converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				invokerFactory, repositories, new DefaultConversionService());
+
+		List<Object> result = converter.convertAll(Arrays.asList(URI.create("/foo/1"), URI.create("/foo/3")),
+				Entity.class);
+
+		assertThat(result, is(Arrays.<Object> asList(first, null)));
+		verify(invoker, never()).invokeFindAll(Mockito.any(Iterable.class));
+	}
+
 	/**
 	 * @see DATAREST-741
 	 */
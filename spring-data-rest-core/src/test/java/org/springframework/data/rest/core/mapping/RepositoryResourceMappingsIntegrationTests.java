@@ -123,6 +123,20 @@ public class RepositoryResourceMappingsIntegrationTests {
 		assertThat(mappings.exportsTopLevelResourceFor("creditCards"), is(false));
 	}
 
+	@Test
+	public void looksUpExportedMetadataByPath() {
+
+		ResourceMetadata personMetadata = mappings.getMetadataFor(Person.class);
+
+		assertThat(mappings.getExportedMetadataFor("people"), is(personMetadata));
+		assertThat(mappings.getExportedMetadataFor("/people"), is(personMetadata));
+		assertThat(mappings.exportsTopLevelResourceFor("/people"), is(true));
+
+		assertThat(mappings.getExportedMetadataFor("creditCards"), is(nullValue()));
+		assertThat(mappings.getExportedMetadataFor("peop"), is(nullValue()));
+		assertThat(mappings.getExportedMetadataFor("//people"), is(nullValue()));
+	}
+
 	/**
 	 * @see DATAREST-107
 	 */
@@ -176,4 +190,21 @@ public class RepositoryResourceMappingsIntegrationTests {
 		assertThat(propertyMapping.getRel(), is("father"));
 		assertThat(propertyMapping.getPath(), is(new Path("father-mapped")));
 	}
+
+	@Test
+	public void precomputesSearchAndPropertyMappings() {
+
+		PersistentEntity<?, ?> entity = mappingContext.getPersistentEntity(Person.class);
+		PersistentProperty<?> property = entity.getPersistentProperty("father");
+
+		RepositoryResourceMappings mappings = (RepositoryResourceMappings) this.mappings;
+
+		SearchResourceMappings searchMappings = mappings.getSearchResourceMappings(Person.class);
+		ResourceMapping propertyMapping = mappings.getMappingFor(property);
+
+		assertThat(searchMappings.isExported(), is(true));
+		assertThat(mappings.getSearchResourceMappings(Person.class), is(sameInstance(searchMappings)));
+		assertThat(propertyMapping, is(notNullValue()));
+		assertThat(mappings.getMappingFor(property), is(sameInstance(propertyMapping)));
+	}
 }
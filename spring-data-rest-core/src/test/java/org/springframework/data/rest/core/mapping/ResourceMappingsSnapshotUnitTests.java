@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.mapping;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.data.rest.core.Path;
+
+/**
+ * Unit tests for {@link ResourceMappingsSnapshot}.
+ *
+ * @author agent
+ */
+public class ResourceMappingsSnapshotUnitTests {
+
+	ResourceMetadata first = metadata("/first");
+	ResourceMetadata second = metadata("/second");
+
+	@Test
+	public void indexesPathsOfAddedMetadataWithoutChangingSource() {
+
+		ResourceMappingsSnapshot source = ResourceMappingsSnapshot.EMPTY.toBuilder().withMetadata(String.class, first)
+				.build();
+		ResourceMappingsSnapshot snapshot = source.toBuilder().withMetadata(Integer.class, second).build();
+
+		assertThat(snapshot.getMetadataForPath("/first"), is(first));
+		assertThat(snapshot.getMetadataForPath("second"), is(second));
+		assertThat(snapshot.getMetadata(), contains(first, second));
+
+		assertThat(source.getMetadataForPath("/second"), is(nullValue()));
+		assertThat(source.getMetadata(), contains(first));
+		assertThat(source.hasMetadataFor(Integer.class), is(false));
+	}
+
+	@Test
+	public void keepsPathIndexWhenRegisteringUnmappedType() {
+
+		ResourceMappingsSnapshot source = ResourceMappingsSnapshot.EMPTY.toBuilder().withMetadata(String.class, first)
+				.build();
+		ResourceMappingsSnapshot snapshot = source.toBuilder().withMetadata(Integer.class, null).build();
+
+		assertThat(snapshot.isUnmapped(Integer.class), is(true));
+		assertThat(snapshot.getMetadataForPath("/first"), is(first));
+		assertThat(source.isUnmapped(Integer.class), is(false));
+	}
+
+	@Test
+	public void reindexesPathsWhenMetadataIsReplaced() {
+
+		ResourceMappingsSnapshot snapshot = ResourceMappingsSnapshot.EMPTY.toBuilder()
+				.withMetadata(String.class, first).build().toBuilder().withMetadata(String.class, second).build();
+
+		assertThat(snapshot.getMetadataForPath("/first"), is(nullValue()));
+		assertThat(snapshot.getMetadataForPath("/second"), is(second));
+		assertThat(snapshot.getMetadata(), contains(second));
+	}
+
+	@Test
+	public void prefersExportedMetadataForSamePath() {
+
+		ResourceMetadata hidden = metadata("/first");
+		when(hidden.isExported()).thenReturn(false);
+
+		ResourceMappingsSnapshot snapshot = ResourceMappingsSnapshot.EMPTY.toBuilder()
+				.withMetadata(String.class, first).build().toBuilder().withMetadata(Integer.class, hidden).build();
+
+		assertThat(snapshot.getMetadataForPath("/first"), is(first));
+	}
+
+	private static ResourceMetadata metadata(String path) {
+
+		ResourceMetadata metadata = mock(ResourceMetadata.class);
+		when(metadata.getPath()).thenReturn(new Path(path));
+		when(metadata.isExported()).thenReturn(true);
+
+		return metadata;
+	}
+}
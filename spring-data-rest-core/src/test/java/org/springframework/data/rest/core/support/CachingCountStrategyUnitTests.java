@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.data.rest.core.domain.Profile;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.support.CountStrategy.CountQuery;
+import org.springframework.data.rest.core.support.CountStrategy.Counter;
+import org.springframework.data.rest.core.support.CountStrategy.Total;
+
+/**
+ * Unit tests for {@link CachingCountStrategy}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingCountStrategyUnitTests {
+
+	static final CountQuery QUERY = new CountQuery(Person.class, Collections.<String, List<String>> emptyMap());
+
+	@Mock Counter counter;
+
+	@Test
+	public void servesCachedTotalAsEstimate() {
+
+		CachingCountStrategy strategy = new CachingCountStrategy(1, TimeUnit.HOURS);
+		when(counter.count()).thenReturn(42L);
+
+		Total first = strategy.count(QUERY, counter);
+		Total second = strategy.count(QUERY, counter);
+
+		assertThat(first.isExact(), is(true));
+		assertThat(second.isExact(), is(false));
+		assertThat(second.getValue(), is(42L));
+		verify(counter, times(1)).count();
+	}
+
+	@Test
+	public void countsAgainOnceExpired() {
+
+		CachingCountStrategy strategy = new CachingCountStrategy(0, TimeUnit.SECONDS);
+		when(counter.count()).thenReturn(42L);
+
+		strategy.count(QUERY, counter);
+
+		assertThat(strategy.count(QUERY, counter).isExact(), is(true));
+		verify(counter, times(2)).count();
+	}
+
+	@Test
+	public void evictsCachedTotalOnCreationOfMatchingEntity() {
+
+		CachingCountStrategy strategy = new CachingCountStrategy(1, TimeUnit.HOURS);
+		when(counter.count()).thenReturn(42L, 43L);
+
+		strategy.count(QUERY, counter);
+		strategy.onApplicationEvent(new AfterCreateEvent(new Person()));
+
+		Total total = strategy.count(QUERY, counter);
+
+		assertThat(total.isExact(), is(true));
+		assertThat(total.getValue(), is(43L));
+	}
+
+	@Test
+	public void keepsCachedTotalForUnrelatedEvents() {
+
+		CachingCountStrategy strategy = new CachingCountStrategy(1, TimeUnit.HOURS);
+		when(counter.count()).thenReturn(42L);
+
+		strategy.count(QUERY, counter);
+		strategy.onApplicationEvent(new AfterCreateEvent(new Profile()));
+		strategy.onApplicationEvent(new AfterSaveEvent(new Person()));
+
+		assertThat(strategy.count(QUERY, counter).isExact(), is(false));
+		verify(counter, times(1)).count();
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedTotalOnceFull() {
+
+		CachingCountStrategy strategy = new CachingCountStrategy(1, TimeUnit.HOURS, 2);
+		CountQuery profiles = new CountQuery(Profile.class, Collections.<String, List<String>> emptyMap());
+		CountQuery filtered = new CountQuery(Person.class,
+				Collections.singletonMap("firstname", Collections.singletonList("Dave")));
+
+		when(counter.count()).thenReturn(42L);
+
+		strategy.count(QUERY, counter);
+		strategy.count(profiles, counter);
+		strategy.count(QUERY, counter);
+		strategy.count(filtered, counter);
+
+		assertThat(strategy.count(QUERY, counter).isExact(), is(false));
+		assertThat(strategy.count(profiles, counter).isExact(), is(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveCacheSize() {
+		new CachingCountStrategy(1, TimeUnit.HOURS, 0);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.data.rest.core.support.CountStrategy.CountQuery;
+import org.springframework.data.rest.core.support.CountStrategy.Counter;
+import org.springframework.data.rest.core.support.CountStrategy.Total;
+import org.springframework.data.rest.core.support.EstimatingCountStrategy.CountEstimator;
+
+/**
+ * Unit tests for {@link EstimatingCountStrategy}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EstimatingCountStrategyUnitTests {
+
+	static final CountQuery QUERY = new CountQuery(Person.class, Collections.<String, List<String>> emptyMap());
+
+	@Mock CountEstimator estimator;
+	@Mock Counter counter;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullEstimator() {
+		new EstimatingCountStrategy(null);
+	}
+
+	@Test
+	public void returnsEstimateWithoutCounting() {
+
+		when(estimator.estimate(QUERY)).thenReturn(42L);
+
+		Total total = new EstimatingCountStrategy(estimator).count(QUERY, counter);
+
+		assertThat(total.getValue(), is(42L));
+		assertThat(total.isExact(), is(false));
+		verify(counter, never()).count();
+	}
+
+	@Test
+	public void fallsBackToExactCountWithoutEstimate() {
+
+		when(estimator.estimate(QUERY)).thenReturn(null);
+		when(counter.count()).thenReturn(42L);
+
+		Total total = new EstimatingCountStrategy(estimator).count(QUERY, counter);
+
+		assertThat(total.getValue(), is(42L));
+		assertThat(total.isExact(), is(true));
+	}
+
+	@Test
+	public void isNotExact() {
+		assertThat(new EstimatingCountStrategy(estimator).isExact(), is(false));
+	}
+}
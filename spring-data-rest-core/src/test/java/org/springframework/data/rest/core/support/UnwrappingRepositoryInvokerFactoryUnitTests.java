@@ -20,11 +20,13 @@ import static org.junit.Assert.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.hamcrest.Matcher;
 import org.junit.Before;
@@ -33,8 +35,13 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.domain.Profile;
 import org.springframework.util.LinkedMultiValueMap;
 
@@ -110,6 +117,104 @@ public class UnwrappingRepositoryInvokerFactoryUnitTests {
 		verify(lookup, times(1)).lookupEntity(eq(1L));
 	}
 
+	@Test
+	public void cachesInvokerPerDomainType() {
+
+		RepositoryInvoker first = factory.getInvokerFor(Object.class);
+
+		assertThat(factory.getInvokerFor(Object.class), is(sameInstance(first)));
+		verify(delegate, times(1)).getInvokerFor(Object.class);
+	}
+
+	@Test
+	public void recreatesInvokerAfterInvalidation() {
+
+		UnwrappingRepositoryInvokerFactory factory = (UnwrappingRepositoryInvokerFactory) this.factory;
+		factory.warmUp(Arrays.<Class<?>> asList(Object.class));
+
+		RepositoryInvoker first = factory.getInvokerFor(Object.class);
+		factory.invalidate(Object.class);
+
+		assertThat(factory.getInvokerFor(Object.class), is(not(sameInstance(first))));
+		verify(delegate, times(2)).getInvokerFor(Object.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void obtainsNewDelegateOnInvalidation() {
+
+		RepositoryInvokerFactory second = mock(RepositoryInvokerFactory.class);
+		when(second.getInvokerFor(Object.class)).thenReturn(invoker);
+
+		ObjectFactory<RepositoryInvokerFactory> delegates = mock(ObjectFactory.class);
+		when(delegates.getObject()).thenReturn(delegate, second);
+
+		UnwrappingRepositoryInvokerFactory factory = new UnwrappingRepositoryInvokerFactory(delegates,
+				Collections.<EntityLookup<?>> emptyList());
+
+		factory.getInvokerFor(Object.class);
+		factory.invalidate(Object.class);
+		factory.getInvokerFor(Object.class);
+
+		verify(delegate, times(1)).getInvokerFor(Object.class);
+		verify(second, times(1)).getInvokerFor(Object.class);
+	}
+
+	@Test
+	public void looksUpMultipleEntitiesWithSingleRepositoryCall() {
+
+		ProfileRepository repository = mock(ProfileRepository.class);
+		Iterable<UUID> ids = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+		Iterable<Profile> profiles = Collections.emptyList();
+
+		when(repository.findAll(ids)).thenReturn(profiles);
+
+		BatchingRepositoryInvoker invoker = getBatchingInvokerFor(repository, true);
+
+		assertThat(invoker.hasBatchFindMethod(), is(true));
+		assertThat(invoker.invokeFindAll(ids), is((Object) profiles));
+		verify(this.invoker, never()).invokeFindOne(Mockito.any(Serializable.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void looksUpEntitiesOneByOneIfDirectQueriesAreNotAllowed() {
+
+		ProfileRepository repository = mock(ProfileRepository.class);
+		BatchingRepositoryInvoker invoker = getBatchingInvokerFor(repository, false);
+		UUID first = UUID.randomUUID(), second = UUID.randomUUID();
+
+		when(this.invoker.invokeFindOne(first)).thenReturn(REFERENCE);
+
+		assertThat(invoker.hasBatchFindMethod(), is(false));
+		assertThat(invoker.invokeFindAll(Arrays.asList(first, second)), is((Object) Arrays.asList(REFERENCE)));
+		verify(repository, never()).findAll(Mockito.any(Iterable.class));
+	}
+
+	private BatchingRepositoryInvoker getBatchingInvokerFor(Object repository, boolean directQueriesAllowed) {
+
+		Repositories repositories = mock(Repositories.class);
+		RepositoryRestConfiguration configuration = mock(RepositoryRestConfiguration.class);
+
+		when(repositories.hasRepositoryFor(Profile.class)).thenReturn(true);
+		when(repositories.getRepositoryFor(Profile.class)).thenReturn(repository);
+		when(configuration.isDirectQueryAllowedFor(Profile.class)).thenReturn(directQueriesAllowed);
+
+		when(delegate.getInvokerFor(Profile.class)).thenReturn(invoker);
+		when(invoker.hasFindOneMethod()).thenReturn(true);
+
+		UnwrappingRepositoryInvokerFactory factory = new UnwrappingRepositoryInvokerFactory(
+				new ObjectFactory<RepositoryInvokerFactory>() {
+
+					@Override
+					public RepositoryInvokerFactory getObject() {
+						return delegate;
+					}
+				}, repositories, configuration, Collections.<EntityLookup<?>> emptyList());
+
+		return (BatchingRepositoryInvoker) factory.getInvokerFor(Profile.class);
+	}
+
 	private void assertFindOneValueForSource(Object source, Matcher<Object> value) {
 
 		when(invoker.invokeFindOne(1L)).thenReturn(source);
@@ -122,4 +227,6 @@ public class UnwrappingRepositoryInvokerFactoryUnitTests {
 		assertThat(factory.getInvokerFor(Object.class).invokeQueryMethod(method, new LinkedMultiValueMap<String, Object>(),
 				null, null), value);
 	}
+
+	interface ProfileRepository extends CrudRepository<Profile, UUID> {}
 }
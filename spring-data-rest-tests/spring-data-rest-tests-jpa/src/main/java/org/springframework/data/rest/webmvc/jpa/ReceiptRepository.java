@@ -17,13 +17,15 @@
 package org.springframework.data.rest.webmvc.jpa;
 
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.mapping.PagingMode;
 
 /**
  * A repository to manage {@link Receipt}s.
  *
  * @author Pablo Lozano
  */
-
+@RepositoryRestResource(paging = PagingMode.SLICE)
 public interface ReceiptRepository extends CrudRepository<Receipt, Long> {
 
 }
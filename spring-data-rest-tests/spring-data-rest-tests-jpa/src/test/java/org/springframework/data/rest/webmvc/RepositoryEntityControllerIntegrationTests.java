@@ -27,6 +27,7 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.support.RepositoryInvoker;
@@ -38,9 +39,12 @@ import org.springframework.data.rest.webmvc.jpa.CreditCard;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
 import org.springframework.data.rest.webmvc.jpa.Order;
 import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.Receipt;
+import org.springframework.data.rest.webmvc.jpa.ReceiptRepository;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -65,6 +69,7 @@ public class RepositoryEntityControllerIntegrationTests extends AbstractControll
 	@Autowired RepositoryRestConfiguration configuration;
 	@Autowired PersistentEntityResourceAssembler assembler;
 	@Autowired PersistentEntities entities;
+	@Autowired ReceiptRepository receipts;
 
 	/**
 	 * @see DATAREST-217
@@ -299,5 +304,45 @@ public class RepositoryEntityControllerIntegrationTests extends AbstractControll
 		assertThat(repository.findOne(address.id), is(nullValue()));
 	}
 
+	@Test
+	public void rendersSliceForCollectionResourceInSlicePagingMode() throws Exception {
+
+		RootResourceInformation information = createReceipts(3);
+
+		Resources<?> result = controller.getCollectionResource(information,
+				new DefaultedPageable(new PageRequest(0, 2), false), null, assembler);
+
+		assertThat(result, is(instanceOf(SlicedResources.class)));
+		assertThat(result.getContent(), hasSize(2));
+		assertThat(((SlicedResources<?>) result).getMetadata().getNumber(), is(0L));
+		assertThat(result.getLink("next"), is(notNullValue()));
+		assertThat(result.getLink("prev"), is(nullValue()));
+	}
+
+	@Test
+	public void rendersLastSliceWithoutNextLink() throws Exception {
+
+		RootResourceInformation information = createReceipts(3);
+
+		Resources<?> result = controller.getCollectionResource(information,
+				new DefaultedPageable(new PageRequest(1, 2), false), null, assembler);
+
+		assertThat(result, is(instanceOf(SlicedResources.class)));
+		assertThat(result.getContent(), hasSize(1));
+		assertThat(result.getLink("next"), is(nullValue()));
+		assertThat(result.getLink("prev"), is(notNullValue()));
+	}
+
+	private RootResourceInformation createReceipts(int number) {
+
+		receipts.deleteAll();
+
+		for (int i = 0; i < number; i++) {
+			receipts.save(new Receipt());
+		}
+
+		return getResourceInformation(Receipt.class);
+	}
+
 	interface AddressProjection {}
 }
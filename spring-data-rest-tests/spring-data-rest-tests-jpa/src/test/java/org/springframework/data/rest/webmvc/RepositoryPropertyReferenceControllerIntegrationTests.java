@@ -17,17 +17,32 @@ package org.springframework.data.rest.webmvc;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.tests.AbstractControllerIntegrationTests;
 import org.springframework.data.rest.webmvc.jpa.Book;
 import org.springframework.data.rest.webmvc.jpa.BookRepository;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
 import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,14 +56,15 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 	@Autowired RepositoryPropertyReferenceController controller;
 	@Autowired TestDataPopulator populator;
 	@Autowired BookRepository books;
+	@Autowired PersonRepository people;
+	@Autowired PersistentEntityResourceAssembler assembler;
+	@Autowired RepositoryRestConfiguration configuration;
 
-	PersistentEntityResourceAssembler assembler;
 	RootResourceInformation information;
 
 	@Before
 	public void setUp() {
 
-		this.assembler = mock(PersistentEntityResourceAssembler.class);
 		this.information = getResourceInformation(Book.class);
 		this.populator.populateRepositories();
 	}
@@ -58,8 +74,8 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		assertThat(controller.followPropertyReference(information, book.id, "creators", assembler).getStatusCode(),
-				is(HttpStatus.OK));
+		assertThat(controller.followPropertyReference(information, book.id, "creators", (DefaultedPageable) null, assembler)
+				.getStatusCode(), is(HttpStatus.OK));
 	}
 
 	@Test(expected = ResourceNotFoundException.class)
@@ -67,6 +83,106 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		controller.followPropertyReference(information, book.id, "authors", assembler);
+		controller.followPropertyReference(information, book.id, "authors", (DefaultedPageable) null, assembler);
+	}
+
+	@Test
+	public void looksUpRequestedPageOfCollectionAssociation() throws Exception {
+
+		Person dave = createPersonWithSiblings("Carter", "Boyd", "Stefan");
+		DefaultedPageable pageable = new DefaultedPageable(new PageRequest(0, 2, new Sort(Direction.DESC, "firstName")),
+				false);
+
+		ResponseEntity<ResourceSupport> response = controller.followPropertyReference(getResourceInformation(Person.class),
+				dave.getId(), "siblings", pageable, assembler);
+
+		assertThat(response.getBody(), is(instanceOf(PagedResources.class)));
+
+		PagedResources<?> resources = (PagedResources<?>) response.getBody();
+
+		assertThat(resources.getMetadata().getTotalElements(), is(3L));
+		assertThat(getFirstNames(resources), is(Arrays.asList("Stefan", "Carter")));
+	}
+
+	@Test
+	public void pagesCollectionAssociationWithDefaultPageWithoutPagingParameters() throws Exception {
+
+		Person dave = createPersonWithSiblings("Carter", "Boyd", "Stefan");
+
+		ResponseEntity<ResourceSupport> response = controller.followPropertyReference(getResourceInformation(Person.class),
+				dave.getId(), "siblings", new DefaultedPageable(new PageRequest(0, 2), true), assembler);
+
+		assertThat(response.getBody(), is(instanceOf(PagedResources.class)));
+
+		PagedResources<?> resources = (PagedResources<?>) response.getBody();
+
+		assertThat(resources.getMetadata().getTotalElements(), is(3L));
+		assertThat(getFirstNames(resources), is(Arrays.asList("Carter", "Boyd")));
+	}
+
+	@Test
+	public void rendersEntireCollectionAssociationWithoutPagingParametersIfAssociationPagingIsDisabled()
+			throws Exception {
+
+		Person dave = createPersonWithSiblings("Carter", "Boyd", "Stefan");
+
+		configuration.setEnableAssociationPaging(false);
+
+		try {
+
+			ResponseEntity<ResourceSupport> response = controller.followPropertyReference(
+					getResourceInformation(Person.class), dave.getId(), "siblings",
+					new DefaultedPageable(new PageRequest(0, 2), true), assembler);
+
+			assertThat(response.getBody(), is(not(instanceOf(PagedResources.class))));
+			assertThat(getFirstNames((Resources<?>) response.getBody()), is(Arrays.asList("Carter", "Boyd", "Stefan")));
+
+		} finally {
+			configuration.setEnableAssociationPaging(true);
+		}
+	}
+
+	@Test
+	public void looksUpMemberOfCollectionAssociation() throws Exception {
+
+		Person dave = createPersonWithSiblings("Carter", "Boyd");
+		Person boyd = dave.getSiblings().get(1);
+
+		ResponseEntity<ResourceSupport> response = controller.followPropertyReference(getResourceInformation(Person.class),
+				dave.getId(), "siblings", boyd.getId().toString(), assembler);
+
+		assertThat(response.getStatusCode(), is(HttpStatus.OK));
+		assertThat(((PersistentEntityResource) response.getBody()).getContent(), is((Object) boyd));
+	}
+
+	@Test(expected = ResourceNotFoundException.class)
+	public void rejectsLookupOfNonMember() throws Exception {
+
+		Person dave = createPersonWithSiblings("Carter");
+
+		controller.followPropertyReference(getResourceInformation(Person.class), dave.getId(), "siblings",
+				dave.getId().toString(), assembler);
+	}
+
+	private Person createPersonWithSiblings(String... firstNames) {
+
+		Person person = new Person("Dave", "Matthews");
+
+		for (String firstName : firstNames) {
+			person.addSibling(people.save(new Person(firstName, "Matthews")));
+		}
+
+		return people.save(person);
+	}
+
+	private static List<String> getFirstNames(Resources<?> resources) {
+
+		List<String> result = new ArrayList<String>();
+
+		for (Object resource : resources.getContent()) {
+			result.add(((Person) ((Resource<?>) resource).getContent()).getFirstName());
+		}
+
+		return result;
 	}
 }
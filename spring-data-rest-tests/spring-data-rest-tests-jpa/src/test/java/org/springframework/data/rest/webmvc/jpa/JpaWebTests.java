@@ -28,6 +28,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +37,7 @@ import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.tests.CommonWebTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.RelProvider;
@@ -50,6 +52,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.util.UriTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.jayway.jsonpath.JsonPath;
 
 /**
@@ -258,6 +262,52 @@ public class JpaWebTests extends CommonWebTests {
 		assertNull(JsonPath.read(frodo.getContentAsString(), "$.lastName"));
 	}
 
+	@Test
+	public void createsAndUpdatesEntitiesFromBinaryPayloads() throws Exception {
+
+		Link peopleLink = client.discoverUnique("people");
+
+		verifyCreateThenPut(peopleLink, new ObjectMapper(new SmileFactory()), RestMediaTypes.SMILE);
+		verifyCreateThenPut(peopleLink, new ObjectMapper(new CBORFactory()), RestMediaTypes.CBOR);
+	}
+
+	@Test
+	public void rendersCollectionWithLinkTemplates() throws Exception {
+
+		Link peopleLink = client.discoverUnique("people");
+
+		MockHttpServletResponse response = mvc.perform(get(peopleLink.expand().getHref()).//
+				accept(RestMediaTypes.SPRING_DATA_TEMPLATED_HAL_JSON)).//
+				andExpect(status().isOk()).//
+				andExpect(content().contentTypeCompatibleWith(RestMediaTypes.SPRING_DATA_TEMPLATED_HAL_JSON)).//
+				andReturn().getResponse();
+
+		String selfTemplate = assertHasJsonPathValue("$._templates.self", response);
+
+		assertThat(selfTemplate, endsWith("/people/{id}"));
+		assertHasJsonPathValue("$._templates.siblings", response);
+		assertHasJsonPathValue("$._templates.father", response);
+
+		String id = assertHasJsonPathValue("$._embedded.people[0]._id", response);
+
+		assertJsonPathDoesntExist("$._embedded.people[0]._links.self", response);
+		assertJsonPathDoesntExist("$._embedded.people[0]._rels", response);
+
+		String personHref = new UriTemplate(selfTemplate).expand(id).toString();
+
+		client.follow(personHref).andExpect(status().isOk());
+	}
+
+	@Test
+	public void doesNotRenderItemResourceWithLinkTemplates() throws Exception {
+
+		Link peopleLink = client.discoverUnique("people");
+		String personHref = assertHasJsonPathValue("$._embedded.people[0]._links.self.href", client.request(peopleLink));
+
+		mvc.perform(get(personHref).accept(RestMediaTypes.SPRING_DATA_TEMPLATED_HAL_JSON)).//
+				andExpect(status().isNotAcceptable());
+	}
+
 	@Test
 	public void listsSiblingsWithContentCorrectly() throws Exception {
 		assertPersonWithNameAndSiblingLink("John");
@@ -702,6 +752,24 @@ public class JpaWebTests extends CommonWebTests {
 				andExpect(client.hasLinkWithRel("self"));
 	}
 
+	@Test
+	public void sortsAssociationResourceByMappedPropertyOfItsMembers() throws Exception {
+
+		MockHttpServletResponse authorsResponse = client.request(client.discoverUnique("authors"));
+
+		String booksUri = JsonPath.read(authorsResponse.getContentAsString(), "$._embedded.authors[0]._links.books.href");
+
+		mvc.perform(get(new Link(booksUri).expand().getHref()).param("sort", "sales,desc")).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.books[0].title").value("Spring Data (Second Edition)")).//
+				andExpect(jsonPath("$._embedded.books[1].title").value("Spring Data"));
+
+		mvc.perform(get(new Link(booksUri).expand().getHref()).param("sort", "sales,asc")).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.books[0].title").value("Spring Data")).//
+				andExpect(jsonPath("$._embedded.books[1].title").value("Spring Data (Second Edition)"));
+	}
+
 	private List<Link> preparePersonResources(Person primary, Person... persons) throws Exception {
 
 		Link peopleLink = client.discoverUnique("people");
@@ -766,4 +834,31 @@ public class JpaWebTests extends CommonWebTests {
 
 		return StringUtils.collectionToDelimitedString(uris, "\n");
 	}
+
+	private void verifyCreateThenPut(Link peopleLink, ObjectMapper binaryMapper, MediaType mediaType) throws Exception {
+
+		Map<String, Object> bilbo = new HashMap<String, Object>();
+		bilbo.put("firstName", "Bilbo");
+		bilbo.put("lastName", "Baggins");
+
+		String location = mvc.perform(post(peopleLink.expand().getHref()).//
+				content(binaryMapper.writeValueAsBytes(bilbo)).contentType(mediaType)).//
+				andExpect(status().isCreated()).//
+				andReturn().getResponse().getHeader(LOCATION);
+
+		MockHttpServletResponse response = client.request(location);
+
+		assertThat((String) JsonPath.read(response.getContentAsString(), "$.firstName"), is("Bilbo"));
+		assertThat((String) JsonPath.read(response.getContentAsString(), "$.lastName"), is("Baggins"));
+
+		mvc.perform(put(location).//
+				content(binaryMapper.writeValueAsBytes(Collections.singletonMap("firstName", "Frodo"))).//
+				contentType(mediaType)).//
+				andExpect(status().is2xxSuccessful());
+
+		response = client.request(location);
+
+		assertThat((String) JsonPath.read(response.getContentAsString(), "$.firstName"), is("Frodo"));
+		assertNull(JsonPath.read(response.getContentAsString(), "$.lastName"));
+	}
 }
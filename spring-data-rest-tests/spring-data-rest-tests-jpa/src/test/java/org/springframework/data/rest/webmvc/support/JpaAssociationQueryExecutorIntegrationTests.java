@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractControllerIntegrationTests;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.LineItem;
+import org.springframework.data.rest.webmvc.jpa.Order;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link JpaAssociationQueryExecutor}.
+ * 
+ * @author agent
+ */
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+@Transactional
+public class JpaAssociationQueryExecutorIntegrationTests extends AbstractControllerIntegrationTests {
+
+	@Autowired ApplicationContext context;
+	@Autowired PersistentEntities entities;
+	@Autowired PersonRepository people;
+
+	RepositoryRestConfiguration configuration = mock(RepositoryRestConfiguration.class);
+	JpaAssociationQueryExecutor executor;
+	Person dave, carter, boyd, stefan;
+	AssociationQuery query;
+
+	@Before
+	public void setUp() {
+
+		this.carter = people.save(new Person("Carter", "Beauford"));
+		this.boyd = people.save(new Person("Boyd", "Tinsley"));
+		this.stefan = people.save(new Person("Stefan", "Lessard"));
+		this.dave = people.save(new Person("Dave", "Matthews").addSibling(boyd).addSibling(stefan).addSibling(carter));
+
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(Person.class);
+
+		when(configuration.isDirectQueryAllowedFor(Person.class)).thenReturn(true);
+
+		this.executor = new JpaAssociationQueryExecutor(context, configuration);
+		this.query = new AssociationQuery(dave, entity.getPersistentProperty("siblings"), entity);
+	}
+
+	@Test
+	public void supportsAssociationToMembersDirectQueriesAreAllowedFor() {
+		assertThat(executor.supports(query), is(true));
+	}
+
+	@Test
+	public void doesNotSupportAssociationToMembersDirectQueriesAreNotAllowedFor() {
+
+		when(configuration.isDirectQueryAllowedFor(Person.class)).thenReturn(false);
+
+		assertThat(executor.supports(query), is(false));
+	}
+
+	@Test
+	public void doesNotSupportAssociationToMembersWithoutRepository() {
+
+		PersistentEntity<?, ?> order = entities.getPersistentEntity(Order.class);
+		AssociationQuery query = new AssociationQuery(new Order(dave), order.getPersistentProperty("lineItems"),
+				entities.getPersistentEntity(LineItem.class));
+
+		assertThat(executor.supports(query), is(false));
+	}
+
+	@Test
+	public void looksUpRequestedPageOfMembersInRequestedOrder() {
+
+		Page<Object> page = executor.findAll(query, new PageRequest(0, 2, new Sort(Direction.DESC, "firstName")));
+
+		assertThat(page.getContent(), contains((Object) stefan, carter));
+		assertThat(page.getTotalElements(), is(3L));
+	}
+
+	@Test
+	public void derivesTotalFromLastPage() {
+
+		Page<Object> page = executor.findAll(query, new PageRequest(1, 2, new Sort("firstName")));
+
+		assertThat(page.getContent(), contains((Object) stefan));
+		assertThat(page.getTotalElements(), is(3L));
+	}
+
+	@Test
+	public void ordersMembersByIdentifierWithoutSort() {
+
+		Page<Object> page = executor.findAll(query, new PageRequest(0, 3));
+
+		assertThat(page.getContent(), contains((Object) carter, boyd, stefan));
+	}
+
+	@Test
+	public void looksUpMemberByIdentifier() {
+
+		assertThat(executor.findOne(query, boyd.getId()), is((Object) boyd));
+		assertThat(executor.findOne(query, dave.getId()), is(nullValue()));
+	}
+}
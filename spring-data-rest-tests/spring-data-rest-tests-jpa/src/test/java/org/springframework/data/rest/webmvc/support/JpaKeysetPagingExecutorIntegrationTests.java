@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.jpa.Address;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.OrderRepository;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.data.rest.webmvc.support.KeysetPagingExecutor.KeysetQuery;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link JpaKeysetPagingExecutor}.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+@Transactional
+public class JpaKeysetPagingExecutorIntegrationTests {
+
+	static final Sort SORT = new Sort(Direction.ASC, "lastName").and(new Sort(Direction.ASC, "id"));
+
+	@Autowired ApplicationContext context;
+	@Autowired PersonRepository people;
+	@Autowired OrderRepository orders;
+
+	RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+	RepositoryRestConfiguration configuration = mock(RepositoryRestConfiguration.class);
+	JpaKeysetPagingExecutor executor;
+	Person dave, carter, boyd;
+
+	@Before
+	public void setUp() {
+
+		orders.deleteAll();
+		people.deleteAll();
+
+		this.dave = people.save(new Person("Dave", "Matthews"));
+		this.carter = people.save(new Person("Carter", "Beauford"));
+		this.boyd = people.save(new Person("Boyd", "Tinsley"));
+
+		when(configuration.isDirectQueryAllowedFor(Person.class)).thenReturn(true);
+
+		this.executor = new JpaKeysetPagingExecutor(context, configuration);
+	}
+
+	@Test
+	public void supportsDomainTypeDirectQueriesAreAllowedFor() {
+		assertThat(executor.supports(Person.class, invoker), is(true));
+	}
+
+	@Test
+	public void doesNotSupportDomainTypeDirectQueriesAreNotAllowedFor() {
+		assertThat(executor.supports(Address.class, invoker), is(false));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsLimitedItemsFromTheStartWithoutKeyset() {
+
+		List<Object> result = (List<Object>) executor.findAll(invoker, new KeysetQuery(Person.class, SORT, null, 2));
+
+		assertThat(result, contains((Object) carter, dave));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsItemsFollowingTheKeyset() {
+
+		Keyset keyset = Keyset.of(carter, SORT, false);
+
+		List<Object> result = (List<Object>) executor.findAll(invoker, new KeysetQuery(Person.class, SORT, keyset, 2));
+
+		assertThat(result, contains((Object) dave, boyd));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsItemsFollowingTheKeysetInDescendingOrder() {
+
+		Sort sort = new Sort(Direction.DESC, "lastName").and(new Sort(Direction.DESC, "id"));
+		Keyset keyset = Keyset.of(boyd, sort, false);
+
+		List<Object> result = (List<Object>) executor.findAll(invoker, new KeysetQuery(Person.class, sort, keyset, 5));
+
+		assertThat(result, is(Arrays.<Object> asList(dave, carter)));
+	}
+}
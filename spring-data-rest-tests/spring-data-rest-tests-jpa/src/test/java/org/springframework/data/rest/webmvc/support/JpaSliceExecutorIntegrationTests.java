@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.jpa.Address;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.OrderRepository;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link JpaSliceExecutor}.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+@Transactional
+public class JpaSliceExecutorIntegrationTests {
+
+	@Autowired ApplicationContext context;
+	@Autowired PersonRepository people;
+	@Autowired OrderRepository orders;
+
+	RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+	RepositoryRestConfiguration configuration = mock(RepositoryRestConfiguration.class);
+	JpaSliceExecutor executor;
+	Person dave, carter, boyd;
+
+	@Before
+	public void setUp() {
+
+		orders.deleteAll();
+		people.deleteAll();
+
+		this.dave = people.save(new Person("Dave", "Matthews"));
+		this.carter = people.save(new Person("Carter", "Beauford"));
+		this.boyd = people.save(new Person("Boyd", "Tinsley"));
+
+		when(configuration.isDirectQueryAllowedFor(Person.class)).thenReturn(true);
+
+		this.executor = new JpaSliceExecutor(context, configuration);
+	}
+
+	@Test
+	public void supportsDomainTypeDirectQueriesAreAllowedFor() {
+		assertThat(executor.supports(Person.class, invoker), is(true));
+	}
+
+	@Test
+	public void doesNotSupportDomainTypeDirectQueriesAreNotAllowedFor() {
+		assertThat(executor.supports(Address.class, invoker), is(false));
+	}
+
+	@Test
+	public void detectsNextSliceWithoutCounting() {
+
+		Slice<Object> slice = executor.findAll(invoker, Person.class, new PageRequest(0, 2, Direction.ASC, "lastName"));
+
+		assertThat(slice.getContent(), contains((Object) carter, dave));
+		assertThat(slice.hasNext(), is(true));
+	}
+
+	@Test
+	public void detectsLastSlice() {
+
+		Slice<Object> slice = executor.findAll(invoker, Person.class, new PageRequest(1, 2, Direction.ASC, "lastName"));
+
+		assertThat(slice.getContent(), contains((Object) boyd));
+		assertThat(slice.hasNext(), is(false));
+		assertThat(slice.hasPrevious(), is(true));
+	}
+
+	@Test
+	public void returnsEmptySliceBeyondLastElement() {
+
+		Slice<Object> slice = executor.findAll(invoker, Person.class, new PageRequest(3, 2, Direction.ASC, "lastName"));
+
+		assertThat(slice.hasContent(), is(false));
+		assertThat(slice.hasNext(), is(false));
+	}
+}
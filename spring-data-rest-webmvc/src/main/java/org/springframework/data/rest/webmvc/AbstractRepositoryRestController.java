@@ -19,13 +19,25 @@ import static org.springframework.data.rest.webmvc.ControllerUtils.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.SlicedResources.SliceMetadata;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates;
+import org.springframework.data.rest.webmvc.support.CountedPage;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
@@ -33,6 +45,7 @@ import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Jon Brisbin
@@ -45,6 +58,7 @@ class AbstractRepositoryRestController {
 	private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
 
 	private final PagedResourcesAssembler<Object> pagedResourcesAssembler;
+	private final HateoasPageableHandlerMethodArgumentResolver pageableResolver;
 
 	/**
 	 * Creates a new {@link AbstractRepositoryRestController} for the given {@link PagedResourcesAssembler} and
@@ -53,10 +67,25 @@ class AbstractRepositoryRestController {
 	 * @param pagedResourcesAssembler must not be {@literal null}.
 	 */
 	public AbstractRepositoryRestController(PagedResourcesAssembler<Object> pagedResourcesAssembler) {
+		this(pagedResourcesAssembler, new HateoasPageableHandlerMethodArgumentResolver());
+	}
+
+	/**
+	 * Creates a new {@link AbstractRepositoryRestController} for the given {@link PagedResourcesAssembler} and
+	 * {@link HateoasPageableHandlerMethodArgumentResolver} to create the links pointing to adjacent {@link Slice}s.
+	 * 
+	 * @param pagedResourcesAssembler must not be {@literal null}.
+	 * @param pageableResolver must not be {@literal null}.
+	 * @since 2.6
+	 */
+	public AbstractRepositoryRestController(PagedResourcesAssembler<Object> pagedResourcesAssembler,
+			HateoasPageableHandlerMethodArgumentResolver pageableResolver) {
 
 		Assert.notNull(pagedResourcesAssembler, "PagedResourcesAssembler must not be null!");
+		Assert.notNull(pageableResolver, "HateoasPageableHandlerMethodArgumentResolver must not be null!");
 
 		this.pagedResourcesAssembler = pagedResourcesAssembler;
+		this.pageableResolver = pageableResolver;
 	}
 
 	protected Link resourceLink(RootResourceInformation resourceLink, Resource resource) {
@@ -73,9 +102,14 @@ class AbstractRepositoryRestController {
 	protected Resources<?> toResources(Iterable<?> source, PersistentEntityResourceAssembler assembler,
 			Class<?> domainType, Link baseLink) {
 
+		assembler = assembler.withBatchLoadedAssociations(source);
+
 		if (source instanceof Page) {
 			Page<Object> page = (Page<Object>) source;
 			return entitiesToResources(page, assembler, domainType, baseLink);
+		} else if (source instanceof Slice) {
+			Slice<Object> slice = (Slice<Object>) source;
+			return entitiesToResources(slice, assembler, domainType, baseLink);
 		} else if (source instanceof Iterable) {
 			return entitiesToResources((Iterable<Object>) source, assembler, domainType);
 		} else {
@@ -107,15 +141,84 @@ class AbstractRepositoryRestController {
 		return assembler.toFullResource(source);
 	}
 
+	@SuppressWarnings("unchecked")
 	protected Resources<?> entitiesToResources(Page<Object> page, PersistentEntityResourceAssembler assembler,
 			Class<?> domainType, Link baseLink) {
 
+		PagedResources<?> resources;
+		StreamingContent<?> content = null;
+
 		if (page.getContent().isEmpty()) {
-			return pagedResourcesAssembler.toEmptyResource(page, domainType, baseLink);
+			resources = pagedResourcesAssembler.toEmptyResource(page, domainType, baseLink);
+		} else if (page.getSize() > 0 && isStreamable(page.getContent())) {
+
+			// Only let the assembler create metadata and links, the content is assembled while rendered
+			Page<Object> empty = new PageImpl<Object>(Collections.emptyList(),
+					new PageRequest(page.getNumber(), page.getSize(), page.getSort()), page.getTotalElements());
+
+			resources = baseLink == null ? pagedResourcesAssembler.toResource(empty, assembler)
+					: pagedResourcesAssembler.toResource(empty, assembler, baseLink);
+			content = toStreamingContent(page.getContent(), assembler);
+
+		} else {
+			resources = baseLink == null ? pagedResourcesAssembler.toResource(page, assembler)
+					: pagedResourcesAssembler.toResource(page, assembler, baseLink);
+		}
+
+		if (page instanceof CountedPage) {
+			resources = new PagedResources<Object>(content == null ? (Collection<Object>) resources.getContent()
+					: Collections.emptyList(),
+					new CountedPageMetadata(resources.getMetadata(), ((CountedPage<?>) page).isTotalExact()),
+					resources.getLinks());
 		}
 
-		return baseLink == null ? pagedResourcesAssembler.toResource(page, assembler)
-				: pagedResourcesAssembler.toResource(page, assembler, baseLink);
+		return content == null ? resources : content.applyTo(resources);
+	}
+
+	/**
+	 * Turns the given {@link Slice} into {@link SlicedResources} exposing links to the previous and next slice, if
+	 * available, instead of the total number of elements and pages.
+	 * 
+	 * @param slice must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param baseLink can be {@literal null}.
+	 * @return
+	 * @since 2.6
+	 */
+	@SuppressWarnings("unchecked")
+	protected Resources<?> entitiesToResources(Slice<Object> slice, PersistentEntityResourceAssembler assembler,
+			Class<?> domainType, Link baseLink) {
+
+		Resources<?> resources = entitiesToResources(slice.getContent(), assembler, domainType);
+
+		String base = baseLink == null ? getDefaultSelfLink().getHref() : baseLink.expand().getHref();
+		List<Link> links = new ArrayList<Link>();
+
+		links.add(createSliceLink(base, new PageRequest(slice.getNumber(), slice.getSize(), slice.getSort()), Link.REL_SELF));
+
+		if (slice.hasPrevious()) {
+			links.add(createSliceLink(base, slice.previousPageable(), Link.REL_PREVIOUS));
+		}
+
+		if (slice.hasNext()) {
+			links.add(createSliceLink(base, slice.nextPageable(), Link.REL_NEXT));
+		}
+
+		StreamingContent<?> content = StreamingContent.of(resources);
+		SlicedResources<Object> result = new SlicedResources<Object>(
+				content == null ? (Iterable<Object>) resources.getContent() : Collections.emptyList(),
+				new SliceMetadata(slice.getSize(), slice.getNumber()), links);
+
+		return content == null ? result : content.applyTo(result);
+	}
+
+	private Link createSliceLink(String base, Pageable pageable, String rel) {
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(base);
+		pageableResolver.enhance(builder, null, pageable);
+
+		return new Link(builder.build().toUriString(), rel);
 	}
 
 	protected Resources<?> entitiesToResources(Iterable<Object> entities, PersistentEntityResourceAssembler assembler,
@@ -127,6 +230,11 @@ class AbstractRepositoryRestController {
 			return new Resources<Object>(content, getDefaultSelfLink());
 		}
 
+		if (entities instanceof Collection && isStreamable((Collection<Object>) entities)) {
+			return toStreamingContent((Collection<Object>) entities, assembler)
+					.applyTo(new Resources<Object>(Collections.emptyList(), getDefaultSelfLink()));
+		}
+
 		List<Resource<Object>> resources = new ArrayList<Resource<Object>>();
 
 		for (Object obj : entities) {
@@ -136,6 +244,107 @@ class AbstractRepositoryRestController {
 		return new Resources<Resource<Object>>(resources, getDefaultSelfLink());
 	}
 
+	/**
+	 * Returns whether the given entities can be rendered as {@link StreamingContent}, i.e. they're all of the same type.
+	 * Mixed types might end up in different relations in HAL, which would require all items to be assembled before
+	 * the first one can be written.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isStreamable(Collection<Object> entities) {
+
+		Class<?> type = null;
+
+		for (Object entity : entities) {
+
+			if (entity == null || type != null && !type.equals(entity.getClass())) {
+				return false;
+			}
+
+			type = entity.getClass();
+		}
+
+		return true;
+	}
+
+	private static StreamingContent<PersistentEntityResource> toStreamingContent(Collection<Object> entities,
+			final PersistentEntityResourceAssembler assembler) {
+
+		return new StreamingContent<PersistentEntityResource>(entities, new Converter<Object, PersistentEntityResource>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+			 */
+			@Override
+			public PersistentEntityResource convert(Object source) {
+				return assembler.toResource(source);
+			}
+		});
+	}
+
+	/**
+	 * Turns the given {@link Resources} of {@link PersistentEntityResource}s into {@link TemplatedResources} that render
+	 * the URI templates of the item links once and let the individual items only carry their identifier segment.
+	 * 
+	 * @param resources must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	protected TemplatedResources<?> toTemplatedResources(Resources<?> resources,
+			PersistentEntityResourceAssembler assembler) {
+
+		Assert.notNull(resources, "Resources must not be null!");
+		Assert.notNull(assembler, "PersistentEntityResourceAssembler must not be null!");
+
+		LinkTemplates templates = null;
+
+		for (Object element : resources) {
+			if (element instanceof PersistentEntityResource) {
+				templates = assembler.getLinkTemplatesFor((PersistentEntityResource) element);
+				break;
+			}
+		}
+
+		Object metadata = resources instanceof PagedResources ? ((PagedResources<?>) resources).getMetadata()
+				: resources instanceof SlicedResources ? ((SlicedResources<?>) resources).getMetadata() : null;
+
+		if (templates == null) {
+			return new TemplatedResources<Object>(new ArrayList<Object>(resources.getContent()), null, metadata,
+					resources.getLinks());
+		}
+
+		final LinkTemplates linkTemplates = templates;
+		Converter<Object, Object> converter = new Converter<Object, Object>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+			 */
+			@Override
+			public Object convert(Object source) {
+				return source instanceof PersistentEntityResource
+						? ((PersistentEntityResource) source).withLinkTemplates(linkTemplates) : source;
+			}
+		};
+
+		StreamingContent<?> streamingContent = StreamingContent.of(resources);
+
+		if (streamingContent != null) {
+			return streamingContent.map(converter).applyTo(new TemplatedResources<Object>(Collections.emptyList(),
+					templates, metadata, resources.getLinks()));
+		}
+
+		List<Object> content = new ArrayList<Object>(resources.getContent().size());
+
+		for (Object element : resources) {
+			content.add(converter.convert(element));
+		}
+
+		return new TemplatedResources<Object>(content, templates, metadata, resources.getLinks());
+	}
+
 	protected Link getDefaultSelfLink() {
 		return new Link(ServletUriComponentsBuilder.fromCurrentRequest().build().toUriString());
 	}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.BatchingRepositoryInvoker;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyPlan;
+import org.springframework.data.rest.webmvc.mapping.FieldSelection;
+import org.springframework.data.rest.webmvc.support.ExcerptProjector;
+import org.springframework.util.Assert;
+
+/**
+ * The targets of the excerpt projected associations of a set of entities (usually the content of a page) loaded upfront
+ * with a single {@link BatchingRepositoryInvoker#invokeFindAll(Iterable)} per target type.
+ * {@link EmbeddedResourcesAssembler} looks up the association targets from the batch instead of resolving every (lazy)
+ * association individually while rendering.
+ * <p>
+ * Target types are only batched if their {@link RepositoryInvoker} is able to look up multiple entities with a single
+ * repository call, i.e. if direct queries were explicitly allowed for them through
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration#allowDirectQueriesFor(Class...)}. The
+ * elements of collection associations are batched, too, which doesn't save the lookup of the collection itself but the
+ * ones of lazily resolved elements.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class AssociationBatch {
+
+	public static final AssociationBatch NONE = new AssociationBatch(null,
+			Collections.<Class<?>, Map<Object, Object>> emptyMap());
+
+	private final PersistentEntities entities;
+	private final Map<Class<?>, Map<Object, Object>> targets;
+
+	private AssociationBatch(PersistentEntities entities, Map<Class<?>, Map<Object, Object>> targets) {
+
+		this.entities = entities;
+		this.targets = targets;
+	}
+
+	/**
+	 * Loads the targets of the excerpt projected associations of the given instances in one go per target type.
+	 *
+	 * @param instances must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param projector must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static AssociationBatch load(Iterable<?> instances, PersistentEntities entities, Associations associations,
+			ExcerptProjector projector, RepositoryInvokerFactory invokerFactory) {
+
+		Assert.notNull(instances, "Instances must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(associations, "Associations must not be null!");
+		Assert.notNull(projector, "ExcerptProjector must not be null!");
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
+
+		Map<Class<?>, Set<Object>> identifiers = new HashMap<Class<?>, Set<Object>>();
+		FieldSelection selection = associations.getFieldSelection();
+
+		for (Object instance : instances) {
+
+			if (instance == null) {
+				continue;
+			}
+
+			PersistentEntity<?, ?> entity = entities.getPersistentEntity(instance.getClass());
+
+			if (entity == null) {
+				continue;
+			}
+
+			PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+			Set<String> fields = selection == null ? null : selection.getFieldsFor(entity.getType());
+
+			for (PropertyPlan association : EntityRenderingPlan.of(entity, associations).getLinkableAssociations()) {
+
+				PersistentProperty<?> property = association.getProperty();
+				Class<?> targetType = property.getActualType();
+
+				if (property.isMap() || !association.isSelectedBy(fields) || !projector.hasExcerptProjection(targetType)
+						|| !isBatchable(targetType, invokerFactory)) {
+					continue;
+				}
+
+				Object value = accessor.getProperty(property);
+
+				if (value == null) {
+					continue;
+				}
+
+				if (value instanceof Collection) {
+
+					for (Object element : (Collection<?>) value) {
+						if (element != null) {
+							addIdentifier(identifiers, targetType, getIdentifier(entities, targetType, element));
+						}
+					}
+
+				} else {
+					addIdentifier(identifiers, targetType, getIdentifier(entities, targetType, value));
+				}
+			}
+		}
+
+		return identifiers.isEmpty() ? NONE
+				: new AssociationBatch(entities, loadTargets(identifiers, entities, invokerFactory));
+	}
+
+	private static Map<Class<?>, Map<Object, Object>> loadTargets(Map<Class<?>, Set<Object>> identifiers,
+			PersistentEntities entities, RepositoryInvokerFactory invokerFactory) {
+
+		Map<Class<?>, Map<Object, Object>> targets = new HashMap<Class<?>, Map<Object, Object>>(identifiers.size());
+
+		for (Entry<Class<?>, Set<Object>> entry : identifiers.entrySet()) {
+
+			Class<?> type = entry.getKey();
+			Map<Object, Object> loaded = new HashMap<Object, Object>(entry.getValue().size());
+
+			for (Object target : findAll(type, entry.getValue(), invokerFactory)) {
+
+				Object identifier = target == null ? null : getIdentifier(entities, type, target);
+
+				if (identifier != null) {
+					loaded.put(identifier, target);
+				}
+			}
+
+			targets.put(type, loaded);
+		}
+
+		return targets;
+	}
+
+	/**
+	 * Returns the batch loaded target for the given value of the given association or the value as is in case it's not
+	 * part of the batch. For collection associations, the given value is expected to be an element of the collection.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	public Object getTarget(PersistentProperty<?> property, Object value) {
+
+		Assert.notNull(property, "PersistentProperty must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		Map<Object, Object> loaded = targets.get(property.getActualType());
+
+		if (loaded == null) {
+			return value;
+		}
+
+		Object target = loaded.get(getIdentifier(entities, property.getActualType(), value));
+
+		return target == null ? value : target;
+	}
+
+	private static boolean isBatchable(Class<?> type, RepositoryInvokerFactory invokerFactory) {
+
+		RepositoryInvoker invoker = invokerFactory.getInvokerFor(type);
+
+		return invoker instanceof BatchingRepositoryInvoker && ((BatchingRepositoryInvoker) invoker).hasBatchFindMethod();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Iterable<?> findAll(Class<?> type, Collection<Object> identifiers,
+			RepositoryInvokerFactory invokerFactory) {
+
+		BatchingRepositoryInvoker invoker = (BatchingRepositoryInvoker) invokerFactory.getInvokerFor(type);
+		Iterable<?> ids = identifiers;
+
+		return invoker.invokeFindAll((Iterable<Serializable>) ids);
+	}
+
+	private static void addIdentifier(Map<Class<?>, Set<Object>> identifiers, Class<?> type, Object identifier) {
+
+		if (identifier == null) {
+			return;
+		}
+
+		Set<Object> ids = identifiers.get(type);
+
+		if (ids == null) {
+			ids = new LinkedHashSet<Object>();
+			identifiers.put(type, ids);
+		}
+
+		ids.add(identifier);
+	}
+
+	/**
+	 * Returns the identifier of the given value using the {@link PersistentEntity} of the association's target type, so
+	 * that store specific lazy-loading proxies are not resolved just to obtain the identifier.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private static Object getIdentifier(PersistentEntities entities, Class<?> type, Object value) {
+
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(type);
+		return entity == null ? null : entity.getIdentifierAccessor(value).getIdentifier();
+	}
+}
@@ -25,10 +25,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.DispatcherType;
@@ -46,6 +48,7 @@ import javax.servlet.http.HttpSession;
 import javax.servlet.http.Part;
 
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.util.UriUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
@@ -65,8 +68,10 @@ import org.springframework.web.util.UrlPathHelper;
 public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 
 	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+	private static final int ACCEPT_HEADER_CACHE_SIZE = 128;
 
 	private final RepositoryRestConfiguration configuration;
+	private final AcceptHeaderCache acceptHeaders = new AcceptHeaderCache(ACCEPT_HEADER_CACHE_SIZE);
 
 	private String prefix;
 
@@ -88,27 +93,30 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 	@Override
 	protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest request) throws Exception {
 
-		List<MediaType> mediaTypes = new ArrayList<MediaType>();
-		boolean defaultFound = false;
+		AcceptHeader acceptHeader = acceptHeaders.get(request.getHeader(HttpHeaders.ACCEPT),
+				configuration.getDefaultMediaType());
 
-		for (MediaType mediaType : MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT))) {
-
-			MediaType rawtype = mediaType.removeQualityValue();
-
-			if (rawtype.equals(configuration.getDefaultMediaType())) {
-				defaultFound = true;
-			}
-
-			if (!rawtype.equals(MediaType.ALL)) {
-				mediaTypes.add(mediaType);
-			}
-		}
+		return super.lookupHandlerMethod(lookupPath, new CustomAcceptHeaderHttpServletRequest(request, acceptHeader));
+	}
 
-		if (!defaultFound) {
-			mediaTypes.add(configuration.getDefaultMediaType());
-		}
+	/**
+	 * Returns the number of requests whose {@code Accept} header was served from the cache of already rewritten headers.
+	 * 
+	 * @return
+	 * @since 2.6
+	 */
+	public long getAcceptHeaderCacheHits() {
+		return acceptHeaders.getHits();
+	}
 
-		return super.lookupHandlerMethod(lookupPath, new CustomAcceptHeaderHttpServletRequest(request, mediaTypes));
+	/**
+	 * Returns the number of requests whose {@code Accept} header had to be parsed and rewritten.
+	 * 
+	 * @return
+	 * @since 2.6
+	 */
+	public long getAcceptHeaderCacheMisses() {
+		return acceptHeaders.getMisses();
 	}
 
 	/* 
@@ -131,6 +139,18 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 				info.getHeadersCondition(), info.getConsumesCondition(), producesCondition, info.getCustomCondition());
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.handler.AbstractHandlerMethodMapping#registerHandlerMethod(java.lang.Object, java.lang.reflect.Method, java.lang.Object)
+	 */
+	@Override
+	protected void registerHandlerMethod(Object handler, Method method, RequestMappingInfo mapping) {
+
+		super.registerHandlerMethod(handler, method, mapping);
+
+		UriUtils.precompileMapping(method);
+	}
+
 	/**
 	 * Customize the given {@link PatternsRequestCondition} and prefix.
 	 * 
@@ -556,6 +576,153 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 		}
 	}
 
+	/**
+	 * The media types to be exposed as {@code Accept} header, precomputed in the representations needed by
+	 * {@link CustomAcceptHeaderHttpServletRequest}.
+	 *
+	 * @author agent
+	 * @since 2.6
+	 */
+	static class AcceptHeader {
+
+		private final List<MediaType> mediaTypes;
+		private final List<String> mediaTypeStrings;
+		private final String value;
+		private final MediaType defaultMediaType;
+
+		/**
+		 * Creates a new {@link AcceptHeader} for the given {@link MediaType}s.
+		 * 
+		 * @param mediaTypes must not be {@literal null} or empty.
+		 * @param defaultMediaType can be {@literal null}.
+		 */
+		AcceptHeader(List<MediaType> mediaTypes, MediaType defaultMediaType) {
+
+			Assert.notEmpty(mediaTypes, "MediaTypes must not be empty!");
+
+			List<String> mediaTypeStrings = new ArrayList<String>(mediaTypes.size());
+
+			for (MediaType mediaType : mediaTypes) {
+				mediaTypeStrings.add(mediaType.toString());
+			}
+
+			this.mediaTypes = Collections.unmodifiableList(new ArrayList<MediaType>(mediaTypes));
+			this.mediaTypeStrings = Collections.unmodifiableList(mediaTypeStrings);
+			this.value = StringUtils.collectionToCommaDelimitedString(mediaTypeStrings);
+			this.defaultMediaType = defaultMediaType;
+		}
+
+		/**
+		 * Creates the {@link AcceptHeader} for the given raw header value. Wildcard media types are dropped and the given
+		 * default media type is added if not already requested explicitly.
+		 * 
+		 * @param header can be {@literal null}.
+		 * @param defaultMediaType must not be {@literal null}.
+		 * @return
+		 */
+		static AcceptHeader of(String header, MediaType defaultMediaType) {
+
+			List<MediaType> mediaTypes = new ArrayList<MediaType>();
+			boolean defaultFound = false;
+
+			for (MediaType mediaType : MediaType.parseMediaTypes(header)) {
+
+				MediaType rawtype = mediaType.removeQualityValue();
+
+				if (rawtype.equals(defaultMediaType)) {
+					defaultFound = true;
+				}
+
+				if (!rawtype.equals(MediaType.ALL)) {
+					mediaTypes.add(mediaType);
+				}
+			}
+
+			if (!defaultFound) {
+				mediaTypes.add(defaultMediaType);
+			}
+
+			return new AcceptHeader(mediaTypes, defaultMediaType);
+		}
+
+		List<MediaType> getMediaTypes() {
+			return mediaTypes;
+		}
+	}
+
+	/**
+	 * Bounded LRU cache of {@link AcceptHeader}s keyed by the raw {@code Accept} header value.
+	 *
+	 * @author agent
+	 * @since 2.6
+	 */
+	static class AcceptHeaderCache {
+
+		private static final String NO_HEADER = "";
+
+		private final Map<String, AcceptHeader> cache;
+		private final AtomicLong hits = new AtomicLong();
+		private final AtomicLong misses = new AtomicLong();
+
+		/**
+		 * Creates a new {@link AcceptHeaderCache} holding at most the given number of entries.
+		 * 
+		 * @param maxSize must be greater than zero.
+		 */
+		@SuppressWarnings("serial")
+		AcceptHeaderCache(final int maxSize) {
+
+			Assert.isTrue(maxSize > 0, "Cache size must be greater than zero!");
+
+			this.cache = new LinkedHashMap<String, AcceptHeader>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, AcceptHeader> eldest) {
+					return size() > maxSize;
+				}
+			};
+		}
+
+		/**
+		 * Returns the {@link AcceptHeader} for the given raw header value and default {@link MediaType}.
+		 * 
+		 * @param header can be {@literal null}.
+		 * @param defaultMediaType must not be {@literal null}.
+		 * @return
+		 */
+		AcceptHeader get(String header, MediaType defaultMediaType) {
+
+			String key = header == null ? NO_HEADER : header;
+			AcceptHeader result;
+
+			synchronized (cache) {
+				result = cache.get(key);
+			}
+
+			if (result != null && result.defaultMediaType.equals(defaultMediaType)) {
+				hits.incrementAndGet();
+				return result;
+			}
+
+			misses.incrementAndGet();
+			result = AcceptHeader.of(header, defaultMediaType);
+
+			synchronized (cache) {
+				cache.put(key, result);
+			}
+
+			return result;
+		}
+
+		long getHits() {
+			return hits.get();
+		}
+
+		long getMisses() {
+			return misses.get();
+		}
+	}
+
 	/**
 	 * {@link HttpServletRequest} that exposes the given media types for the {@code Accept} header.
 	 *
@@ -563,8 +730,7 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 	 */
 	static class CustomAcceptHeaderHttpServletRequest extends HttpServletRequestWrapper {
 
-		private final List<MediaType> acceptMediaTypes;
-		private final List<String> acceptMediaTypeStrings;
+		private final AcceptHeader acceptHeader;
 
 		/**
 		 * Creates a new {@link CustomAcceptHeaderHttpServletRequest} for the given delegate {@link HttpServletRequest} and
@@ -574,20 +740,23 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 		 * @param acceptMediaTypes must not be {@literal null} or empty.
 		 */
 		public CustomAcceptHeaderHttpServletRequest(HttpServletRequest request, List<MediaType> acceptMediaTypes) {
+			this(request, new AcceptHeader(acceptMediaTypes, null));
+		}
 
-			super(request);
-
-			Assert.notEmpty(acceptMediaTypes, "MediaTypes must not be empty!");
-
-			this.acceptMediaTypes = acceptMediaTypes;
+		/**
+		 * Creates a new {@link CustomAcceptHeaderHttpServletRequest} for the given delegate {@link HttpServletRequest} and
+		 * precomputed {@link AcceptHeader}.
+		 * 
+		 * @param request must not be {@literal null}.
+		 * @param acceptHeader must not be {@literal null}.
+		 */
+		CustomAcceptHeaderHttpServletRequest(HttpServletRequest request, AcceptHeader acceptHeader) {
 
-			List<String> acceptMediaTypeStrings = new ArrayList<String>(acceptMediaTypes.size());
+			super(request);
 
-			for (MediaType mediaType : acceptMediaTypes) {
-				acceptMediaTypeStrings.add(mediaType.toString());
-			}
+			Assert.notNull(acceptHeader, "AcceptHeader must not be null!");
 
-			this.acceptMediaTypeStrings = acceptMediaTypeStrings;
+			this.acceptHeader = acceptHeader;
 		}
 
 		/* 
@@ -597,8 +766,8 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 		@Override
 		public String getHeader(String name) {
 
-			if (HttpHeaders.ACCEPT.equalsIgnoreCase(name) && acceptMediaTypes != null) {
-				return StringUtils.collectionToCommaDelimitedString(acceptMediaTypes);
+			if (HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+				return acceptHeader.value;
 			}
 
 			return super.getHeader(name);
@@ -611,8 +780,8 @@ public class BasePathAwareHandlerMapping extends RequestMappingHandlerMapping {
 		@Override
 		public Enumeration<String> getHeaders(String name) {
 
-			if (HttpHeaders.ACCEPT.equalsIgnoreCase(name) && acceptMediaTypes != null) {
-				return Collections.enumeration(acceptMediaTypeStrings);
+			if (HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+				return Collections.enumeration(acceptHeader.mediaTypeStrings);
 			}
 
 			return super.getHeaders(name);
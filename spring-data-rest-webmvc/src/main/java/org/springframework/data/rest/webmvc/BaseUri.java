@@ -18,7 +18,6 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.util.StringUtils.*;
 
 import java.net.URI;
-import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
@@ -41,6 +40,8 @@ public class BaseUri {
 	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
 
 	private final URI baseUri;
+	private final String relativePrefix;
+	private volatile String[] absolutePrefixes;
 
 	/**
 	 * Creates a new {@link BaseUri} with the given URI as base.
@@ -53,6 +54,13 @@ public class BaseUri {
 
 		String uriString = uri.toString();
 		this.baseUri = URI.create(trimTrailingCharacter(trimTrailingCharacter(uriString, '/'), '/'));
+
+		if (baseUri.isAbsolute()) {
+			this.relativePrefix = null;
+		} else {
+			String prefix = baseUri.toString();
+			this.relativePrefix = !StringUtils.hasText(prefix) || prefix.startsWith("/") ? prefix : "/".concat(prefix);
+		}
 	}
 
 	/**
@@ -112,36 +120,102 @@ public class BaseUri {
 		Assert.notNull(lookupPath, "Lookup path must not be null!");
 
 		// Temporary fix for SPR-13455
-		lookupPath = lookupPath.replaceAll("//", "/");
-		
-		lookupPath = trimTrailingCharacter(lookupPath, '/');
+		lookupPath = trimTrailingSlashes(collapseDoubleSlashes(lookupPath));
 
-		if (!baseUri.isAbsolute()) {
+		if (relativePrefix != null) {
 
-			String uri = baseUri.toString();
-
-			if (!StringUtils.hasText(uri)) {
+			if (relativePrefix.isEmpty()) {
 				return lookupPath;
 			}
 
-			uri = uri.startsWith("/") ? uri : "/".concat(uri);
-			return lookupPath.startsWith(uri) ? lookupPath.substring(uri.length(), lookupPath.length()) : null;
+			return lookupPath.startsWith(relativePrefix) ? lookupPath.substring(relativePrefix.length()) : null;
+		}
+
+		for (String prefix : getAbsolutePrefixes()) {
+			if (lookupPath.startsWith(prefix)) {
+				return lookupPath.substring(prefix.length());
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the candidate prefixes of a lookup path for an absolute base URI, i.e. the trailing path segments of the base
+	 * URI starting with the last one. Computed lazily as most {@link BaseUri} instances are only used to build links.
+	 * 
+	 * @return
+	 */
+	private String[] getAbsolutePrefixes() {
+
+		String[] prefixes = this.absolutePrefixes;
+
+		if (prefixes != null) {
+			return prefixes;
 		}
 
-		List<String> baseUriSegments = UriComponentsBuilder.fromUri(baseUri).build().getPathSegments();
-		Collections.reverse(baseUriSegments);
+		List<String> segments = UriComponentsBuilder.fromUri(baseUri).build().getPathSegments();
+		prefixes = new String[segments.size()];
 		String tail = "";
 
-		for (String tailSegment : baseUriSegments) {
+		for (int i = 0; i < prefixes.length; i++) {
+
+			tail = "/".concat(segments.get(segments.size() - 1 - i)).concat(tail);
+			prefixes[i] = tail;
+		}
+
+		this.absolutePrefixes = prefixes;
+
+		return prefixes;
+	}
+
+	/**
+	 * Replaces each pair of consecutive slashes with a single one, just like {@code String.replaceAll("//", "/")} but
+	 * without a regular expression. Returns the given {@link String} as is if it doesn't contain any double slashes.
+	 * 
+	 * @param path must not be {@literal null}.
+	 * @return
+	 */
+	private static String collapseDoubleSlashes(String path) {
+
+		int index = path.indexOf("//");
+
+		if (index == -1) {
+			return path;
+		}
+
+		StringBuilder builder = new StringBuilder(path.length() - 1);
+		builder.append(path, 0, index);
+
+		for (int i = index; i < path.length(); i++) {
 
-			tail = "/".concat(tailSegment).concat(tail);
+			char c = path.charAt(i);
+			builder.append(c);
 
-			if (lookupPath.startsWith(tail)) {
-				return lookupPath.substring(tail.length(), lookupPath.length());
+			if (c == '/' && i + 1 < path.length() && path.charAt(i + 1) == '/') {
+				i++;
 			}
 		}
 
-		return null;
+		return builder.toString();
+	}
+
+	/**
+	 * Removes all trailing slashes from the given path, just like {@code StringUtils.trimTrailingCharacter(path, '/')}
+	 * but without copying paths that don't end with a slash.
+	 * 
+	 * @param path must not be {@literal null}.
+	 * @return
+	 */
+	private static String trimTrailingSlashes(String path) {
+
+		int end = path.length();
+
+		while (end > 0 && path.charAt(end - 1) == '/') {
+			end--;
+		}
+
+		return end == path.length() ? path : path.substring(0, end);
 	}
 
 	/**
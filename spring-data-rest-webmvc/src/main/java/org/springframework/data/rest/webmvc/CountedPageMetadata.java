@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import org.springframework.data.rest.core.support.CountStrategy;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@link PageMetadata} additionally exposing whether the total number of elements determined by a
+ * {@link CountStrategy} is exact or estimated.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class CountedPageMetadata extends PageMetadata {
+
+	private final boolean exact;
+
+	/**
+	 * Creates a new {@link CountedPageMetadata} from the given {@link PageMetadata}.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param exact whether the total number of elements is exact.
+	 */
+	public CountedPageMetadata(PageMetadata metadata, boolean exact) {
+
+		super(metadata.getSize(), metadata.getNumber(), metadata.getTotalElements(), metadata.getTotalPages());
+
+		this.exact = exact;
+	}
+
+	/**
+	 * Returns whether the total number of elements is exact or estimated.
+	 *
+	 * @return
+	 */
+	@JsonProperty("exact")
+	public boolean isExact() {
+		return exact;
+	}
+}
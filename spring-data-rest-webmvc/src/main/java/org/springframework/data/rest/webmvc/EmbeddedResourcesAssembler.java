@@ -21,15 +21,15 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
-import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyPlan;
+import org.springframework.data.rest.webmvc.mapping.FieldSelection;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.hateoas.core.EmbeddedWrapper;
 import org.springframework.hateoas.core.EmbeddedWrappers;
@@ -54,65 +54,68 @@ public class EmbeddedResourcesAssembler {
 	 * @return
 	 */
 	public Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance) {
+		return getEmbeddedResources(instance, AssociationBatch.NONE);
+	}
+
+	/**
+	 * Returns the embedded resources to render looking up the association targets from the given
+	 * {@link AssociationBatch}.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @param batch must not be {@literal null}.
+	 * @return
+	 * @since 2.6
+	 */
+	public Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance, AssociationBatch batch) {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
+		Assert.notNull(batch, "AssociationBatch must not be null!");
 
 		PersistentEntity<?, ?> entity = entities.getPersistentEntity(instance.getClass());
 
-		final List<EmbeddedWrapper> associationProjections = new ArrayList<EmbeddedWrapper>();
-		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
-		final ResourceMetadata metadata = associations.getMetadataFor(entity.getType());
-
-		entity.doWithAssociations(new SimpleAssociationHandler() {
-
-			/*
-			 * (non-Javadoc)
-			 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
-			 */
-			@Override
-			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+		List<EmbeddedWrapper> associationProjections = new ArrayList<EmbeddedWrapper>();
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
 
-				PersistentProperty<?> property = association.getInverse();
+		FieldSelection selection = associations.getFieldSelection();
+		Set<String> fields = selection == null ? null : selection.getFieldsFor(entity.getType());
 
-				if (!associations.isLinkableAssociation(property)) {
-					return;
-				}
+		for (PropertyPlan association : EntityRenderingPlan.of(entity, associations).getLinkableAssociations()) {
 
-				if (!projector.hasExcerptProjection(property.getActualType())) {
-					return;
-				}
+			if (!association.isSelectedBy(fields) || !projector.hasExcerptProjection(association.getProperty().getActualType())) {
+				continue;
+			}
 
-				Object value = accessor.getProperty(association.getInverse());
+			Object value = accessor.getProperty(association.getProperty());
 
-				if (value == null) {
-					return;
-				}
+			if (value == null) {
+				continue;
+			}
 
-				String rel = metadata.getMappingFor(property).getRel();
+			String rel = association.getRel();
 
-				if (value instanceof Collection) {
+			if (value instanceof Collection) {
 
-					Collection<?> collection = (Collection<?>) value;
+				Collection<?> collection = (Collection<?>) value;
 
-					if (collection.isEmpty()) {
-						return;
-					}
+				if (collection.isEmpty()) {
+					continue;
+				}
 
-					List<Object> nestedCollection = new ArrayList<Object>();
+				List<Object> nestedCollection = new ArrayList<Object>();
 
-					for (Object element : collection) {
-						if (element != null) {
-							nestedCollection.add(projector.projectExcerpt(element));
-						}
+				for (Object element : collection) {
+					if (element != null) {
+						nestedCollection.add(projector.projectExcerpt(batch.getTarget(association.getProperty(), element)));
 					}
+				}
 
-					associationProjections.add(wrappers.wrap(nestedCollection, rel));
+				associationProjections.add(wrappers.wrap(nestedCollection, rel));
 
-				} else {
-					associationProjections.add(wrappers.wrap(projector.projectExcerpt(value), rel));
-				}
+			} else {
+				Object target = batch.getTarget(association.getProperty(), value);
+				associationProjections.add(wrappers.wrap(projector.projectExcerpt(target), rel));
 			}
-		});
+		}
 
 		return associationProjections;
 	}
@@ -24,6 +24,7 @@ import java.util.List;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
@@ -54,6 +55,7 @@ public class PersistentEntityResource extends Resource<Object> {
 	 */
 	private final @Getter boolean isNew;
 	private final @Getter boolean nested;
+	private final LinkTemplates linkTemplates;
 
 	/**
 	 * Creates a new {@link PersistentEntityResource} for the given {@link PersistentEntity}, content, embedded
@@ -63,18 +65,20 @@ public class PersistentEntityResource extends Resource<Object> {
 	 * @param content must not be {@literal null}.
 	 * @param links must not be {@literal null}.
 	 * @param embeddeds can be {@literal null}.
+	 * @param linkTemplates can be {@literal null}.
 	 */
 	private PersistentEntityResource(PersistentEntity<?, ?> entity, Object content, Iterable<Link> links,
-			Iterable<EmbeddedWrapper> embeddeds, boolean isNew, boolean nested) {
+			Iterable<EmbeddedWrapper> embeddeds, boolean isNew, boolean nested, LinkTemplates linkTemplates) {
 
 		super(content, links);
 
 		Assert.notNull(entity, "PersistentEntity must not be null!");
 
 		this.entity = entity;
-		this.embeddeds = embeddeds == null ? NO_EMBEDDEDS : embeddeds;
+		this.embeddeds = embeddeds;
 		this.isNew = isNew;
 		this.nested = nested;
+		this.linkTemplates = linkTemplates;
 	}
 
 	/**
@@ -96,12 +100,37 @@ public class PersistentEntityResource extends Resource<Object> {
 	}
 
 	/**
-	 * Returns the resources that are supposed to be rendered in the {@code _embedded} clause.
+	 * Returns the resources that are supposed to be rendered in the {@code _embedded} clause. The {@link Iterable}
+	 * handed to the {@link Builder} is only consumed on invocation, so that embeddeds that are expensive to obtain are
+	 * only resolved when the resource gets rendered.
 	 * 
 	 * @return the embeddeds
 	 */
 	public Iterable<EmbeddedWrapper> getEmbeddeds() {
-		return embeddeds;
+		return embeddeds == null ? NO_EMBEDDEDS : new NoLinksResources<EmbeddedWrapper>(embeddeds);
+	}
+
+	/**
+	 * Returns the {@link LinkTemplates} the links of the resource shall be compacted against when rendered.
+	 * 
+	 * @return can be {@literal null}.
+	 * @since 2.6
+	 */
+	@JsonIgnore
+	public LinkTemplates getLinkTemplates() {
+		return linkTemplates;
+	}
+
+	/**
+	 * Returns a copy of the current {@link PersistentEntityResource} that renders its links compacted against the given
+	 * {@link LinkTemplates}.
+	 * 
+	 * @param linkTemplates can be {@literal null}.
+	 * @return
+	 * @since 2.6
+	 */
+	public PersistentEntityResource withLinkTemplates(LinkTemplates linkTemplates) {
+		return new PersistentEntityResource(entity, getContent(), getLinks(), embeddeds, isNew, nested, linkTemplates);
 	}
 
 	/**
@@ -144,15 +173,16 @@ public class PersistentEntityResource extends Resource<Object> {
 		}
 
 		/**
-		 * Configures the builder to embed the given {@link EmbeddedWrapper} instances. Creates a {@link Resources} instance
-		 * to make sure the {@link EmbeddedWrapper} handling gets applied to the serialization output ignoring the links.
+		 * Configures the builder to embed the given {@link EmbeddedWrapper} instances. A {@link Resources} instance is
+		 * created on access to make sure the {@link EmbeddedWrapper} handling gets applied to the serialization output
+		 * ignoring the links. The given {@link Iterable} is not consumed before that.
 		 * 
 		 * @param resources can be {@literal null}.
 		 * @return the builder
 		 */
 		public Builder withEmbedded(Iterable<EmbeddedWrapper> resources) {
 
-			this.embeddeds = resources == null ? null : new NoLinksResources<EmbeddedWrapper>(resources);
+			this.embeddeds = resources;
 			return this;
 		}
 
@@ -184,7 +214,7 @@ public class PersistentEntityResource extends Resource<Object> {
 		 * @return
 		 */
 		public PersistentEntityResource build() {
-			return new PersistentEntityResource(entity, content, links, embeddeds, false, false);
+			return new PersistentEntityResource(entity, content, links, embeddeds, false, false, null);
 		}
 
 		/**
@@ -194,11 +224,11 @@ public class PersistentEntityResource extends Resource<Object> {
 		 * @return
 		 */
 		public PersistentEntityResource forCreation() {
-			return new PersistentEntityResource(entity, content, links, embeddeds, true, false);
+			return new PersistentEntityResource(entity, content, links, embeddeds, true, false, null);
 		}
 
 		public PersistentEntityResource buildNested() {
-			return new PersistentEntityResource(entity, content, links, embeddeds, false, true);
+			return new PersistentEntityResource(entity, content, links, embeddeds, false, true, null);
 		}
 	}
 
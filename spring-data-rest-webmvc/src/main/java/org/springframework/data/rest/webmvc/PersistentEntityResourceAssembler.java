@@ -18,11 +18,16 @@ package org.springframework.data.rest.webmvc;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Iterator;
+
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates;
 import org.springframework.data.rest.webmvc.support.Projector;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
@@ -44,6 +49,9 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	private final @NonNull SelfLinkProvider linkProvider;
 	private final @NonNull EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
 
+	private RepositoryInvokerFactory invokerFactory;
+	private AssociationBatch batch = AssociationBatch.NONE;
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.ResourceAssembler#toResource(java.lang.Object)
@@ -67,6 +75,71 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 		return wrap(projector.project(instance), instance).build();
 	}
 
+	/**
+	 * Returns the {@link LinkTemplates} for the items of a collection resource derived from the given sample item.
+	 * 
+	 * @param sample must not be {@literal null}.
+	 * @return the {@link LinkTemplates} or {@literal null} if the links of the sample can't be expressed as templates.
+	 * @since 2.6
+	 */
+	public LinkTemplates getLinkTemplatesFor(PersistentEntityResource sample) {
+
+		Assert.notNull(sample, "Sample resource must not be null!");
+
+		return LinkTemplates.of(sample, EntityRenderingPlan.of(sample.getPersistentEntity(), associations));
+	}
+
+	/**
+	 * Returns a {@link PersistentEntityResourceAssembler} that uses the given {@link RepositoryInvokerFactory} to load
+	 * the targets of excerpt projected associations in {@link #withBatchLoadedAssociations(Iterable)}.
+	 * 
+	 * @param invokerFactory must not be {@literal null}.
+	 * @return
+	 * @since 2.6
+	 */
+	public PersistentEntityResourceAssembler withRepositoryInvokerFactory(RepositoryInvokerFactory invokerFactory) {
+
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
+
+		return copy(invokerFactory, batch);
+	}
+
+	/**
+	 * Returns a {@link PersistentEntityResourceAssembler} that embeds the excerpts of the associations of the given
+	 * instances from targets loaded upfront with a single query per target repository instead of resolving the
+	 * associations of every instance individually. Returns the current instance if no {@link RepositoryInvokerFactory}
+	 * was configured.
+	 * 
+	 * @param instances must not be {@literal null}.
+	 * @return
+	 * @since 2.6
+	 * @see AssociationBatch
+	 * @see #withRepositoryInvokerFactory(RepositoryInvokerFactory)
+	 */
+	public PersistentEntityResourceAssembler withBatchLoadedAssociations(Iterable<?> instances) {
+
+		Assert.notNull(instances, "Instances must not be null!");
+
+		if (invokerFactory == null) {
+			return this;
+		}
+
+		AssociationBatch loaded = AssociationBatch.load(instances, entities, associations, projector, invokerFactory);
+
+		return loaded == AssociationBatch.NONE ? this : copy(invokerFactory, loaded);
+	}
+
+	private PersistentEntityResourceAssembler copy(RepositoryInvokerFactory invokerFactory, AssociationBatch batch) {
+
+		PersistentEntityResourceAssembler assembler = new PersistentEntityResourceAssembler(entities, projector,
+				associations, linkProvider);
+
+		assembler.invokerFactory = invokerFactory;
+		assembler.batch = batch;
+
+		return assembler;
+	}
+
 	private Builder wrap(Object instance, Object source) {
 
 		PersistentEntity<?, ?> entity = entities.getPersistentEntity(source.getClass());
@@ -79,13 +152,37 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 
 	/**
 	 * Returns the embedded resources to render. This will add an {@link RelatedResource} for linkable associations if
-	 * they have an excerpt projection registered.
+	 * they have an excerpt projection registered. The lookup is deferred until the resource is rendered, so that the
+	 * associations of the items of a collection resource are only resolved and projected one at a time while the
+	 * response is written. The result is kept once looked up so that resource processors inspecting the embeddeds don't
+	 * cause the lookup to happen a second time on rendering.
 	 * 
 	 * @param instance must not be {@literal null}.
 	 * @return
 	 */
-	private Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance) {
-		return new EmbeddedResourcesAssembler(entities, associations, projector).getEmbeddedResources(instance);
+	private Iterable<EmbeddedWrapper> getEmbeddedResources(final Object instance) {
+
+		final EmbeddedResourcesAssembler assembler = new EmbeddedResourcesAssembler(entities, associations, projector);
+		final AssociationBatch batch = this.batch;
+
+		return new Iterable<EmbeddedWrapper>() {
+
+			private Iterable<EmbeddedWrapper> resources;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Iterable#iterator()
+			 */
+			@Override
+			public Iterator<EmbeddedWrapper> iterator() {
+
+				if (resources == null) {
+					resources = assembler.getEmbeddedResources(instance, batch);
+				}
+
+				return resources.iterator();
+			}
+		};
 	}
 
 	/**
@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -40,15 +42,21 @@ import org.springframework.data.rest.core.event.AfterSaveEvent;
 import org.springframework.data.rest.core.event.BeforeCreateEvent;
 import org.springframework.data.rest.core.event.BeforeDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeSaveEvent;
+import org.springframework.data.rest.core.mapping.PagingMode;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.core.support.CountStrategy.CountQuery;
 import org.springframework.data.rest.webmvc.support.BackendId;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.data.rest.webmvc.support.KeysetPaging;
+import org.springframework.data.rest.webmvc.support.KeysetPaging.KeysetWindow;
+import org.springframework.data.rest.webmvc.support.SlicePaging;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
@@ -68,6 +76,8 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Jon Brisbin
@@ -90,30 +100,39 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	private final RepositoryEntityLinks entityLinks;
 	private final RepositoryRestConfiguration config;
 	private final HttpHeadersPreparer headersPreparer;
+	private final KeysetPaging keysetPaging;
+	private final SlicePaging slicePaging;
 
 	private ApplicationEventPublisher publisher;
 
 	/**
 	 * Creates a new {@link RepositoryEntityController} for the given {@link Repositories},
 	 * {@link RepositoryRestConfiguration}, {@link RepositoryEntityLinks}, {@link PagedResourcesAssembler},
-	 * {@link ConversionService} and {@link AuditableBeanWrapperFactory}.
+	 * {@link ConversionService}, {@link AuditableBeanWrapperFactory}, {@link KeysetPaging}, {@link SlicePaging} and
+	 * {@link HateoasPageableHandlerMethodArgumentResolver}.
 	 * 
 	 * @param repositories must not be {@literal null}.
 	 * @param config must not be {@literal null}.
 	 * @param entityLinks must not be {@literal null}.
 	 * @param assembler must not be {@literal null}.
 	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 * @param keysetPaging must not be {@literal null}.
+	 * @param slicePaging must not be {@literal null}.
+	 * @param pageableResolver must not be {@literal null}.
 	 */
 	@Autowired
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
-			AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+			AuditableBeanWrapperFactory auditableBeanWrapperFactory, KeysetPaging keysetPaging, SlicePaging slicePaging,
+			HateoasPageableHandlerMethodArgumentResolver pageableResolver) {
 
-		super(assembler);
+		super(assembler, pageableResolver);
 
 		this.entityLinks = entityLinks;
 		this.config = config;
 		this.headersPreparer = new HttpHeadersPreparer(auditableBeanWrapperFactory);
+		this.keysetPaging = keysetPaging;
+		this.slicePaging = slicePaging;
 	}
 
 	/*
@@ -197,10 +216,36 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		Iterable<?> results = pageable.getPageable() != null ? invoker.invokeFindAll(pageable.getPageable())
-				: invoker.invokeFindAll(sort);
-
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
+		PagingMode pagingMode = PagingMode.of(metadata);
+
+		if (PagingMode.KEYSET.equals(pagingMode) && pageable.getPageable() != null) {
+
+			String cursor = ServletUriComponentsBuilder.fromCurrentRequest().build().getQueryParams()
+					.getFirst(config.getCursorParamName());
+			KeysetWindow window = keysetPaging.getWindow(invoker, metadata.getDomainType(), pageable.getPageable(),
+					cursor);
+
+			if (window != null) {
+
+				Resources<?> result = toResources(window.getContent(), assembler, metadata.getDomainType(), null);
+				result.add(getKeysetLinks(window));
+				result.add(getCollectionResourceLinks(resourceInformation, pageable));
+				return result;
+			}
+		}
+
+		Iterable<?> results;
+
+		if (pageable.getPageable() == null) {
+			results = invoker.invokeFindAll(sort);
+		} else if (PagingMode.SLICE.equals(pagingMode)) {
+			results = slicePaging.getSlice(invoker, metadata.getDomainType(), pageable.getPageable());
+		} else {
+			results = slicePaging.getPage(invoker, metadata.getDomainType(), pageable.getPageable(),
+					config.getCountStrategy(), getCountQuery(metadata.getDomainType()));
+		}
+
 		Link baseLink = entityLinks.linkToPagedResource(resourceInformation.getDomainType(),
 				pageable.isDefault() ? null : pageable.getPageable());
 
@@ -209,6 +254,54 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		return result;
 	}
 
+	/**
+	 * Returns the {@code next} and {@code prev} links of the given {@link KeysetWindow} pointing to the current request
+	 * with the cursor replaced and the page number removed.
+	 * 
+	 * @param window must not be {@literal null}.
+	 * @return
+	 */
+	private List<Link> getKeysetLinks(KeysetWindow window) {
+
+		List<Link> links = new ArrayList<Link>(2);
+
+		if (window.getNext() != null) {
+			links.add(new Link(getCursorUriBuilder().replaceQueryParam(config.getCursorParamName(), window.getNext())
+					.build().toUriString(), Link.REL_NEXT));
+		}
+
+		if (window.getPrevious() != null) {
+			links.add(new Link(getCursorUriBuilder().replaceQueryParam(config.getCursorParamName(), window.getPrevious())
+					.build().toUriString(), Link.REL_PREVIOUS));
+		}
+
+		return links;
+	}
+
+	/**
+	 * Returns the {@link CountQuery} for the given domain type identified by the parameters of the current request that
+	 * don't control paging, sorting or rendering.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	private CountQuery getCountQuery(Class<?> domainType) {
+
+		Map<String, List<String>> parameters = new TreeMap<String, List<String>>(
+				ServletUriComponentsBuilder.fromCurrentRequest().build().getQueryParams());
+
+		parameters.keySet()
+				.removeAll(Arrays.asList(config.getPageParamName(), config.getLimitParamName(), config.getSortParamName(),
+						config.getCursorParamName(), config.getFieldsParamName(),
+						config.getProjectionConfiguration().getParameterName()));
+
+		return new CountQuery(domainType, parameters);
+	}
+
+	private UriComponentsBuilder getCursorUriBuilder() {
+		return ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam(config.getPageParamName());
+	}
+
 	private List<Link> getCollectionResourceLinks(RootResourceInformation resourceInformation,
 			DefaultedPageable pageable) {
 
@@ -243,11 +336,36 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		}
 		if (resources instanceof PagedResources) {
 			return new PagedResources<Object>(Collections.emptyList(), ((PagedResources<?>) resources).getMetadata(), links);
+		} else if (resources instanceof SlicedResources) {
+			return new SlicedResources<Object>(Collections.emptyList(), ((SlicedResources<?>) resources).getMetadata(), links);
 		} else {
 			return new Resources<Object>(Collections.emptyList(), links);
 		}
 	}
 
+	/**
+	 * <code>GET /{repository}</code> - Returns the collection resource (paged or unpaged) rendering the URI templates of
+	 * the item links once instead of fully qualified links per item.
+	 * 
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param assembler
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @since 2.6
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET,
+			produces = RestMediaTypes.SPRING_DATA_TEMPLATED_HAL_JSON_VALUE)
+	public TemplatedResources<?> getCollectionResourceTemplated(@QuerydslPredicate RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler)
+					throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		return toTemplatedResources(getCollectionResource(resourceInformation, pageable, sort, assembler), assembler);
+	}
+
 	/**
 	 * <code>POST /{repository}</code> - Creates a new entity instances from the collection resource.
 	 * 
@@ -35,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.CollectionFactory;
+import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -42,6 +43,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
@@ -50,7 +52,11 @@ import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.util.Function;
+import org.springframework.data.rest.webmvc.convert.UriListReader;
+import org.springframework.data.rest.webmvc.support.AssociationLookup;
 import org.springframework.data.rest.webmvc.support.BackendId;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
+import org.springframework.data.rest.webmvc.support.ReferencedEntityLoader;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
@@ -62,6 +68,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -81,18 +88,25 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	private static final Collection<HttpMethod> AUGMENTING_METHODS = Arrays.asList(HttpMethod.PATCH, HttpMethod.POST);
 
 	private final Repositories repositories;
+	private final RepositoryRestConfiguration config;
 	private final RepositoryInvokerFactory repositoryInvokerFactory;
+	private final ReferencedEntityLoader loader;
+	private final AssociationLookup associationLookup;
 
 	private ApplicationEventPublisher publisher;
 
 	@Autowired
-	public RepositoryPropertyReferenceController(Repositories repositories,
-			RepositoryInvokerFactory repositoryInvokerFactory, PagedResourcesAssembler<Object> assembler) {
+	public RepositoryPropertyReferenceController(Repositories repositories, RepositoryRestConfiguration config,
+			RepositoryInvokerFactory repositoryInvokerFactory, PagedResourcesAssembler<Object> assembler,
+			ReferencedEntityLoader loader, AssociationLookup associationLookup) {
 
 		super(assembler);
 
 		this.repositories = repositories;
+		this.config = config;
 		this.repositoryInvokerFactory = repositoryInvokerFactory;
+		this.loader = loader;
+		this.associationLookup = associationLookup;
 	}
 
 	/* 
@@ -104,9 +118,22 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		this.publisher = applicationEventPublisher;
 	}
 
+	/**
+	 * Returns the entities referenced by the given property. Collection properties are paged, i.e. only the requested
+	 * page of the members (or the first one of the default size) is looked up. If association paging is disabled, they
+	 * are only paged if paging or sorting parameters are given.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @param assembler
+	 * @return
+	 * @throws Exception
+	 */
 	@RequestMapping(value = BASE_MAPPING, method = GET)
 	public ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
-			@BackendId Serializable id, final @PathVariable String property,
+			@BackendId Serializable id, final @PathVariable String property, final DefaultedPageable pageable,
 			final PersistentEntityResourceAssembler assembler) throws Exception {
 
 		final HttpHeaders headers = new HttpHeaders();
@@ -122,6 +149,14 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 				if (prop.property.isCollectionLike()) {
 
+					if (isPaged(pageable) && associationLookup.supports(prop.property)) {
+
+						Page<Object> page = associationLookup.getPage(prop.accessor.getBean(), prop.property,
+								pageable.getPageable());
+
+						return toResources(page, assembler, prop.propertyType, null);
+					}
+
 					return toResources((Iterable<?>) prop.propertyValue, assembler, prop.propertyType, null);
 
 				} else if (prop.property.isMap()) {
@@ -147,6 +182,17 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toResponseEntity(HttpStatus.OK, headers, responseResource);
 	}
 
+	/**
+	 * Returns whether an association resource is to be rendered page by page for the given {@link DefaultedPageable}.
+	 * 
+	 * @param pageable can be {@literal null}.
+	 * @return
+	 * @see RepositoryRestConfiguration#isEnableAssociationPaging()
+	 */
+	private boolean isPaged(DefaultedPageable pageable) {
+		return pageable != null && (config.isEnableAssociationPaging() || !pageable.isDefault());
+	}
+
 	@RequestMapping(value = BASE_MAPPING, method = DELETE)
 	public ResponseEntity<? extends ResourceSupport> deletePropertyReference(final RootResourceInformation repoRequest,
 			@BackendId Serializable id, @PathVariable String property) throws Exception {
@@ -198,7 +244,18 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 				if (null == prop.propertyValue) {
 					throw new ResourceNotFoundException();
 				}
-				if (prop.property.isCollectionLike()) {
+				if (prop.property.isCollectionLike() && associationLookup.supports(prop.property)) {
+
+					Object member = associationLookup.getMember(prop.accessor.getBean(), prop.property, propertyId);
+
+					if (member != null) {
+
+						PersistentEntityResource resource = assembler.toResource(member);
+						headers.set("Content-Location", resource.getId().getHref());
+						return resource;
+					}
+
+				} else if (prop.property.isCollectionLike()) {
 					for (Object obj : (Iterable<?>) prop.propertyValue) {
 
 						IdentifierAccessor accessor = prop.entity.getIdentifierAccessor(obj);
@@ -235,10 +292,11 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	@RequestMapping(value = BASE_MAPPING, method = GET,
 			produces = { SPRING_DATA_COMPACT_JSON_VALUE, TEXT_URI_LIST_VALUE })
 	public ResponseEntity<ResourceSupport> followPropertyReferenceCompact(RootResourceInformation repoRequest,
-			@BackendId Serializable id, @PathVariable String property, PersistentEntityResourceAssembler assembler)
-					throws Exception {
+			@BackendId Serializable id, @PathVariable String property, DefaultedPageable pageable,
+			PersistentEntityResourceAssembler assembler) throws Exception {
 
-		ResponseEntity<ResourceSupport> response = followPropertyReference(repoRequest, id, property, assembler);
+		ResponseEntity<ResourceSupport> response = followPropertyReference(repoRequest, id, property, pageable,
+				assembler);
 
 		if (response.getStatusCode() != HttpStatus.OK) {
 			return response;
@@ -253,7 +311,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		List<Link> links = new ArrayList<Link>();
 
 		ControllerLinkBuilder linkBuilder = linkTo(methodOn(RepositoryPropertyReferenceController.class)
-				.followPropertyReference(repoRequest, id, property, assembler));
+				.followPropertyReference(repoRequest, id, property, pageable, assembler));
 
 		if (resource instanceof Resource) {
 
@@ -282,7 +340,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	}
 
 	@RequestMapping(value = BASE_MAPPING, method = { PATCH, PUT, POST }, //
-			consumes = { MediaType.APPLICATION_JSON_VALUE, SPRING_DATA_COMPACT_JSON_VALUE, TEXT_URI_LIST_VALUE })
+			consumes = { MediaType.APPLICATION_JSON_VALUE, SPRING_DATA_COMPACT_JSON_VALUE })
 	public ResponseEntity<? extends ResourceSupport> createPropertyReference(
 			final RootResourceInformation resourceInformation, final HttpMethod requestMethod,
 			final @RequestBody(required = false) Resources<Object> incoming, @BackendId Serializable id,
@@ -295,61 +353,131 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 			@Override
 			public ResourceSupport apply(ReferencedProperty prop) throws HttpRequestMethodNotSupportedException {
+				return linkProperty(prop, requestMethod, source.getLinks().iterator(), invoker);
+			}
+		};
 
-				Class<?> propertyType = prop.property.getType();
+		doWithReferencedProperty(resourceInformation, id, property, handler, requestMethod);
 
-				if (prop.property.isCollectionLike()) {
+		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
+	}
 
-					Collection<Object> collection = AUGMENTING_METHODS.contains(requestMethod)
-							? (Collection<Object>) prop.propertyValue : CollectionFactory.createCollection(propertyType, 0);
+	/**
+	 * Links the entities referenced by the URIs of a {@code text/uri-list} body. The URIs are read one by one while the
+	 * referenced entities are linked, the body is never buffered as a whole.
+	 * 
+	 * @param resourceInformation
+	 * @param requestMethod
+	 * @param request
+	 * @param id
+	 * @param property
+	 * @return
+	 * @throws Exception
+	 * @see #linkProperty(ReferencedProperty, HttpMethod, Iterator, RepositoryInvoker)
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = { PATCH, PUT, POST }, consumes = TEXT_URI_LIST_VALUE)
+	public ResponseEntity<? extends ResourceSupport> createPropertyReferenceFromUriList(
+			final RootResourceInformation resourceInformation, final HttpMethod requestMethod,
+			ServletServerHttpRequest request, @BackendId Serializable id, @PathVariable String property)
+					throws Exception {
 
-					// Add to the existing collection
-					for (Link l : source.getLinks()) {
-						collection.add(loadPropertyValue(prop.propertyType, l));
-					}
+		final UriListReader reader = UriListReader.of(request);
+		final RepositoryInvoker invoker = resourceInformation.getInvoker();
 
-					prop.accessor.setProperty(prop.property, collection);
+		Function<ReferencedProperty, ResourceSupport> handler = new Function<ReferencedProperty, ResourceSupport>() {
 
-				} else if (prop.property.isMap()) {
+			@Override
+			public ResourceSupport apply(ReferencedProperty prop) throws HttpRequestMethodNotSupportedException {
+				return linkProperty(prop, requestMethod, new UriLinkIterator(reader), invoker);
+			}
+		};
 
-					Map<String, Object> map = AUGMENTING_METHODS.contains(requestMethod)
-							? (Map<String, Object>) prop.propertyValue
-							: CollectionFactory.<String, Object> createMap(propertyType, 0);
+		doWithReferencedProperty(resourceInformation, id, property, handler, requestMethod);
 
-					// Add to the existing collection
-					for (Link l : source.getLinks()) {
-						map.put(l.getRel(), loadPropertyValue(prop.propertyType, l));
-					}
+		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
+	}
 
-					prop.accessor.setProperty(prop.property, map);
+	/**
+	 * Links the entities referenced by the given {@link Link}s to the given {@link ReferencedProperty}. The links are
+	 * consumed lazily:
+	 * <ul>
+	 * <li>For collection properties, the referenced entities are loaded batch by batch through the
+	 * {@link ReferencedEntityLoader}. The collection to be stored with the entity is still held in memory as a whole.</li>
+	 * <li>For {@link Map} properties, every link is looked up and put into the map as soon as it's read.</li>
+	 * <li>For single-valued properties, only the first link is read and the request rejected as soon as a second one
+	 * shows up.</li>
+	 * </ul>
+	 * As {@code PUT} replaces the property value, the current value is neither read nor handed to the link save events,
+	 * which get the new value instead.
+	 * 
+	 * @param prop must not be {@literal null}.
+	 * @param requestMethod must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	private ResourceSupport linkProperty(ReferencedProperty prop, HttpMethod requestMethod, Iterator<Link> links,
+			RepositoryInvoker invoker) throws HttpRequestMethodNotSupportedException {
 
-				} else {
+		Class<?> propertyType = prop.property.getType();
+		boolean augmenting = AUGMENTING_METHODS.contains(requestMethod);
+		Object value;
 
-					if (HttpMethod.PATCH.equals(requestMethod)) {
-						throw new HttpRequestMethodNotSupportedException(HttpMethod.PATCH.name(), new String[] { "PATCH" },
-								"Cannot PATCH a reference to this singular property since the property type is not a List or a Map.");
-					}
+		if (prop.property.isCollectionLike()) {
 
-					if (source.getLinks().size() != 1) {
-						throw new IllegalArgumentException(
-								"Must send only 1 link to update a property reference that isn't a List or a Map.");
-					}
+			Collection<Object> collection = augmenting ? (Collection<Object>) prop.propertyValue
+					: CollectionFactory.createCollection(propertyType, 0);
 
-					Object propVal = loadPropertyValue(prop.propertyType, source.getLinks().get(0));
-					prop.accessor.setProperty(prop.property, propVal);
-				}
+			Iterator<List<Object>> batches = loader.load(new HrefIterator(links), prop.propertyType);
 
-				publisher.publishEvent(new BeforeLinkSaveEvent(prop.accessor.getBean(), prop.propertyValue));
-				Object result = invoker.invokeSave(prop.accessor.getBean());
-				publisher.publishEvent(new AfterLinkSaveEvent(result, prop.propertyValue));
+			// Add to the existing collection
+			while (batches.hasNext()) {
+				collection.addAll(batches.next());
+			}
 
-				return null;
+			value = collection;
+
+		} else if (prop.property.isMap()) {
+
+			Map<String, Object> map = augmenting ? (Map<String, Object>) prop.propertyValue
+					: CollectionFactory.<String, Object> createMap(propertyType, 0);
+
+			// Add to the existing map
+			while (links.hasNext()) {
+
+				Link link = links.next();
+				map.put(link.getRel(), loadPropertyValue(prop.propertyType, link));
 			}
-		};
 
-		doWithReferencedProperty(resourceInformation, id, property, handler, requestMethod);
+			value = map;
 
-		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
+		} else {
+
+			if (HttpMethod.PATCH.equals(requestMethod)) {
+				throw new HttpRequestMethodNotSupportedException(HttpMethod.PATCH.name(), new String[] { "PATCH" },
+						"Cannot PATCH a reference to this singular property since the property type is not a List or a Map.");
+			}
+
+			Link link = links.hasNext() ? links.next() : null;
+
+			if (link == null || links.hasNext()) {
+				throw new IllegalArgumentException(
+						"Must send only 1 link to update a property reference that isn't a List or a Map.");
+			}
+
+			value = loadPropertyValue(prop.propertyType, link);
+		}
+
+		prop.accessor.setProperty(prop.property, value);
+
+		Object linked = augmenting ? prop.propertyValue : value;
+
+		publisher.publishEvent(new BeforeLinkSaveEvent(prop.accessor.getBean(), linked));
+		Object result = invoker.invokeSave(prop.accessor.getBean());
+		publisher.publishEvent(new AfterLinkSaveEvent(result, linked));
+
+		return null;
 	}
 
 	@RequestMapping(value = BASE_MAPPING + "/{propertyId}", method = DELETE)
@@ -442,7 +570,69 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		}
 
 		PersistentPropertyAccessor accessor = property.getOwner().getPropertyAccessor(domainObj);
-		return handler.apply(new ReferencedProperty(property, accessor.getProperty(property), accessor));
+
+		// PUT replaces the value, so there's no need to read the current one
+		Object propertyValue = HttpMethod.PUT.equals(method) ? null : accessor.getProperty(property);
+
+		return handler.apply(new ReferencedProperty(property, propertyValue, accessor));
+	}
+
+	/**
+	 * {@link Iterator} over the expanded hrefs of the given {@link Link}s.
+	 * 
+	 * @author agent
+	 */
+	private static class HrefIterator implements Iterator<String> {
+
+		private final Iterator<Link> links;
+
+		public HrefIterator(Iterator<Link> links) {
+			this.links = links;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return links.hasNext();
+		}
+
+		@Override
+		public String next() {
+			return links.next().expand().getHref();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * {@link Iterator} creating a {@link Link} for each of the URIs of the given {@link Iterator}.
+	 * 
+	 * @author agent
+	 */
+	private static class UriLinkIterator implements Iterator<Link> {
+
+		private final Iterator<String> uris;
+
+		public UriLinkIterator(Iterator<String> uris) {
+			this.uris = uris;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return uris.hasNext();
+		}
+
+		@Override
+		public Link next() {
+			return new Link(uris.next());
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	private class ReferencedProperty {
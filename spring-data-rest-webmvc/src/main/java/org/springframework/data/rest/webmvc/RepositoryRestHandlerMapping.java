@@ -31,6 +31,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
@@ -50,11 +51,16 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 
 	private static final MediaType EVERYTHING_JSON_MEDIA_TYPE = new MediaType("application", "*+json",
 			AbstractJackson2HttpMessageConverter.DEFAULT_CHARSET);
+	private static final boolean IS_SMILE_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.smile.SmileFactory", RepositoryRestHandlerMapping.class.getClassLoader());
+	private static final boolean IS_CBOR_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.cbor.CBORFactory", RepositoryRestHandlerMapping.class.getClassLoader());
 
 	private final ResourceMappings mappings;
 	private final RepositoryRestConfiguration configuration;
 
 	private JpaHelper jpaHelper;
+	private BaseUri baseUri;
 
 	/**
 	 * Creates a new {@link RepositoryRestHandlerMapping} for the given {@link ResourceMappings} and
@@ -94,7 +100,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 			return null;
 		}
 
-		String repositoryLookupPath = new BaseUri(configuration.getBaseUri()).getRepositoryLookupPath(lookupPath);
+		String repositoryLookupPath = baseUri.getRepositoryLookupPath(lookupPath);
 
 		// Repository root resource
 		if (!StringUtils.hasText(repositoryLookupPath)) {
@@ -104,6 +110,18 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 		return mappings.exportsTopLevelResourceFor(getRepositoryBasePath(repositoryLookupPath)) ? handlerMethod : null;
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.BasePathAwareHandlerMapping#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		this.baseUri = new BaseUri(configuration.getBaseUri());
+
+		super.afterPropertiesSet();
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping#handleNoMatch(java.util.Set, java.lang.String, javax.servlet.http.HttpServletRequest)
@@ -152,6 +170,17 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 		mediaTypes.add(MediaType.APPLICATION_JSON_VALUE);
 		mediaTypes.add(EVERYTHING_JSON_MEDIA_TYPE.toString());
 
+		// Binary formats are only produced if the corresponding Jackson data format is present
+		if (IS_SMILE_AVAILABLE) {
+			mediaTypes.add(RestMediaTypes.HAL_SMILE_VALUE);
+			mediaTypes.add(RestMediaTypes.SMILE_VALUE);
+		}
+
+		if (IS_CBOR_AVAILABLE) {
+			mediaTypes.add(RestMediaTypes.HAL_CBOR_VALUE);
+			mediaTypes.add(RestMediaTypes.CBOR_VALUE);
+		}
+
 		return new ProducesRequestCondition(mediaTypes.toArray(new String[mediaTypes.size()]));
 	}
 
@@ -38,6 +38,7 @@ import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
@@ -78,17 +79,18 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 
 	/**
 	 * Creates a new {@link RepositorySearchController} using the given {@link PagedResourcesAssembler},
-	 * {@link EntityLinks} and {@link ResourceMappings}.
+	 * {@link EntityLinks}, {@link ResourceMappings} and {@link HateoasPageableHandlerMethodArgumentResolver}.
 	 * 
 	 * @param assembler must not be {@literal null}.
 	 * @param entityLinks must not be {@literal null}.
 	 * @param mappings must not be {@literal null}.
+	 * @param pageableResolver must not be {@literal null}.
 	 */
 	@Autowired
 	public RepositorySearchController(PagedResourcesAssembler<Object> assembler, RepositoryEntityLinks entityLinks,
-			ResourceMappings mappings) {
+			ResourceMappings mappings, HateoasPageableHandlerMethodArgumentResolver pageableResolver) {
 
-		super(assembler);
+		super(assembler, pageableResolver);
 
 		Assert.notNull(entityLinks, "EntityLinks must not be null!");
 		Assert.notNull(mappings, "ResourceMappings must not be null!");
@@ -43,6 +43,22 @@ public class RestMediaTypes {
 	public static final String SPRING_DATA_COMPACT_JSON_VALUE = "application/x-spring-data-compact+json";
 	public static final MediaType SPRING_DATA_COMPACT_JSON = MediaType.valueOf(SPRING_DATA_COMPACT_JSON_VALUE);
 
+	public static final String SPRING_DATA_TEMPLATED_HAL_JSON_VALUE = "application/x-spring-data-templated-hal+json";
+	public static final MediaType SPRING_DATA_TEMPLATED_HAL_JSON = MediaType
+			.valueOf(SPRING_DATA_TEMPLATED_HAL_JSON_VALUE);
+
+	public static final String SMILE_VALUE = "application/x-jackson-smile";
+	public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+	public static final String HAL_SMILE_VALUE = "application/hal+smile";
+	public static final MediaType HAL_SMILE = MediaType.valueOf(HAL_SMILE_VALUE);
+
+	public static final String CBOR_VALUE = "application/cbor";
+	public static final MediaType CBOR = MediaType.valueOf(CBOR_VALUE);
+
+	public static final String HAL_CBOR_VALUE = "application/hal+cbor";
+	public static final MediaType HAL_CBOR = MediaType.valueOf(HAL_CBOR_VALUE);
+
 	public static final String TEXT_URI_LIST_VALUE = "text/uri-list";
 	public static final MediaType TEXT_URI_LIST = MediaType.valueOf(TEXT_URI_LIST_VALUE);
 }
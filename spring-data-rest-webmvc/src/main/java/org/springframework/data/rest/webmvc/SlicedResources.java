@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import lombok.Value;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@link Resources} representing a {@link Slice}. Other than {@link PagedResources} they only expose the size and
+ * number of the slice as the total number of elements and pages is unknown.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class SlicedResources<T> extends Resources<T> {
+
+	private final SliceMetadata metadata;
+
+	/**
+	 * Creates a new {@link SlicedResources} for the given content, {@link SliceMetadata} and {@link Link}s.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 */
+	public SlicedResources(Iterable<T> content, SliceMetadata metadata, Iterable<Link> links) {
+
+		super(content, links);
+
+		Assert.notNull(metadata, "SliceMetadata must not be null!");
+
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Returns the metadata of the slice.
+	 *
+	 * @return
+	 */
+	@JsonProperty("page")
+	public SliceMetadata getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * The size and number of a {@link Slice}.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class SliceMetadata {
+
+		/**
+		 * The requested size of the slice.
+		 */
+		long size;
+
+		/**
+		 * The number of the slice.
+		 */
+		long number;
+	}
+}
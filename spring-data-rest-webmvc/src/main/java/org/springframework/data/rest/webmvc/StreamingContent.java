@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.reflect.Field;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The content of a {@link Resources} instance whose elements are only created while it is iterated. Installed into
+ * plain {@link Resources}, {@link org.springframework.hateoas.PagedResources} or {@link SlicedResources} via
+ * {@link #applyTo(Resources)}, it lets Jackson assemble and write one element after the other instead of holding the
+ * whole list of assembled elements in memory before the first byte is written. The types of the {@link Resources}
+ * stay untouched so that {@link org.springframework.hateoas.ResourceProcessor}s still apply to them.
+ * <p>
+ * Every iteration converts the source elements again, so the content should only be iterated once, usually by the
+ * serializer.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class StreamingContent<T> extends AbstractCollection<T> {
+
+	private static final Field CONTENT_FIELD = ReflectionUtils.findField(Resources.class, "content");
+
+	static {
+		ReflectionUtils.makeAccessible(CONTENT_FIELD);
+	}
+
+	private final Collection<?> source;
+	private final Converter<Object, T> converter;
+
+	/**
+	 * Creates a new {@link StreamingContent} for the given source elements and {@link Converter} to turn them into the
+	 * actual elements.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <S> StreamingContent(Collection<? extends S> source, Converter<? super S, ? extends T> converter) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(converter, "Converter must not be null!");
+
+		this.source = source;
+		this.converter = (Converter<Object, T>) converter;
+	}
+
+	/**
+	 * Returns the {@link StreamingContent} installed in the given {@link Resources}.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @return the {@link StreamingContent} or {@literal null} if the given {@link Resources} hold regular content.
+	 */
+	public static StreamingContent<?> of(Resources<?> resources) {
+
+		Assert.notNull(resources, "Resources must not be null!");
+
+		Object content = ReflectionUtils.getField(CONTENT_FIELD, resources);
+		return content instanceof StreamingContent ? (StreamingContent<?>) content : null;
+	}
+
+	/**
+	 * Returns a new {@link StreamingContent} additionally applying the given {@link Converter} to every element while
+	 * it is iterated.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 */
+	public <R> StreamingContent<R> map(final Converter<? super T, ? extends R> converter) {
+
+		Assert.notNull(converter, "Converter must not be null!");
+
+		return new StreamingContent<R>(source, new Converter<Object, R>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+			 */
+			@Override
+			public R convert(Object source) {
+				return converter.convert(StreamingContent.this.converter.convert(source));
+			}
+		});
+	}
+
+	/**
+	 * Installs the current {@link StreamingContent} as content of the given {@link Resources}, replacing their current
+	 * content.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @return the given {@link Resources}.
+	 */
+	public <R extends Resources<?>> R applyTo(R resources) {
+
+		Assert.notNull(resources, "Resources must not be null!");
+
+		ReflectionUtils.setField(CONTENT_FIELD, resources, this);
+
+		return resources;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+
+		final Iterator<?> iterator = source.iterator();
+
+		return new Iterator<T>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#hasNext()
+			 */
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#next()
+			 */
+			@Override
+			public T next() {
+				return converter.convert(iterator.next());
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#remove()
+			 */
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return source.size();
+	}
+}
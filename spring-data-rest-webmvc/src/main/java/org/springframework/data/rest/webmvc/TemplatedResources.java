@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Map;
+
+import org.springframework.data.rest.webmvc.SlicedResources.SliceMetadata;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resources;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@link Resources} that render the {@link LinkTemplates} its items' links are compacted against once, so that the
+ * individual items only need to carry their identifier segment.
+ *
+ * @author agent
+ * @since 2.6
+ * @see RestMediaTypes#SPRING_DATA_TEMPLATED_HAL_JSON
+ */
+public class TemplatedResources<T> extends Resources<T> {
+
+	private final LinkTemplates templates;
+	private final Object metadata;
+
+	/**
+	 * Creates a new {@link TemplatedResources} for the given content, {@link LinkTemplates}, {@link PageMetadata} or
+	 * {@link SliceMetadata} and {@link Link}s.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param templates can be {@literal null} in case the content doesn't contain any items to derive templates from.
+	 * @param metadata can be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 */
+	public TemplatedResources(Iterable<T> content, LinkTemplates templates, Object metadata, Iterable<Link> links) {
+
+		super(content, links);
+
+		this.templates = templates;
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Returns the URI templates of the item links by relation type.
+	 *
+	 * @return the templates or {@literal null} if there are no items to derive templates from.
+	 */
+	@JsonProperty("_templates")
+	@JsonInclude(Include.NON_NULL)
+	public Map<String, String> getTemplates() {
+		return templates == null ? null : templates.getTemplates();
+	}
+
+	/**
+	 * Returns the pagination metadata if the resources represent a page or slice.
+	 *
+	 * @return the {@link PageMetadata}, {@link SliceMetadata} or {@literal null}.
+	 */
+	@JsonProperty("page")
+	@JsonInclude(Include.NON_NULL)
+	public Object getMetadata() {
+		return metadata;
+	}
+}
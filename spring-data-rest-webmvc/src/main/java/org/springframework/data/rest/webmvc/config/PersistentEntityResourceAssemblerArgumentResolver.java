@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.projection.ProjectionDefinitions;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
@@ -44,6 +45,7 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 	private final @NonNull ProjectionDefinitions projectionDefinitions;
 	private final @NonNull ProjectionFactory projectionFactory;
 	private final @NonNull Associations links;
+	private final @NonNull RepositoryInvokerFactory invokerFactory;
 
 	/* 
 	 * (non-Javadoc)
@@ -66,6 +68,7 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 		PersistentEntityProjector projector = new PersistentEntityProjector(projectionDefinitions, projectionFactory,
 				projectionParameter, links.getMappings());
 
-		return new PersistentEntityResourceAssembler(entities, projector, links, linkProvider);
+		return new PersistentEntityResourceAssembler(entities, projector, links, linkProvider)
+				.withRepositoryInvokerFactory(invokerFactory);
 	}
 }
@@ -49,6 +49,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.geo.GeoModule;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.querydsl.QueryDslUtils;
 import org.springframework.data.querydsl.binding.QuerydslBindingsFactory;
@@ -66,6 +67,7 @@ import org.springframework.data.rest.core.event.ValidatingRepositoryEventListene
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceDescription;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.support.CountStrategy;
 import org.springframework.data.rest.core.support.DefaultSelfLinkProvider;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
 import org.springframework.data.rest.core.support.EntityLookup;
@@ -83,11 +85,14 @@ import org.springframework.data.rest.webmvc.RepositoryRestHandlerAdapter;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping;
 import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.data.rest.webmvc.ServerHttpRequestMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.TemplatedResources;
 import org.springframework.data.rest.webmvc.alps.AlpsJsonHttpMessageConverter;
 import org.springframework.data.rest.webmvc.alps.RootResourceInformationToAlpsDescriptorConverter;
 import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
 import org.springframework.data.rest.webmvc.json.EnumTranslator;
+import org.springframework.data.rest.webmvc.json.FieldSelectionFilterProvider;
+import org.springframework.data.rest.webmvc.json.FieldSelectionResponseBodyAdvice;
 import org.springframework.data.rest.webmvc.json.Jackson2DatatypeHelper;
 import org.springframework.data.rest.webmvc.json.JacksonMappingAwareSortTranslator;
 import org.springframework.data.rest.webmvc.json.JacksonSerializers;
@@ -99,20 +104,34 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.NestedEntitySerializer;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter.ValueTypeSchemaPropertyCustomizerFactory;
+import org.springframework.data.rest.webmvc.json.StreamingHalModule;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
+import org.springframework.data.rest.webmvc.support.AssociationLookup;
+import org.springframework.data.rest.webmvc.support.AssociationQueryExecutor;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.CachingResourceProcessorInvoker;
 import org.springframework.data.rest.webmvc.support.DefaultExcerptProjector;
 import org.springframework.data.rest.webmvc.support.DelegatingHandlerMapping;
+import org.springframework.data.rest.webmvc.support.DispatchingProjectionFactory;
 import org.springframework.data.rest.webmvc.support.DomainClassResolver;
 import org.springframework.data.rest.webmvc.support.ETagArgumentResolver;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.JpaAssociationQueryExecutor;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.JpaKeysetPagingExecutor;
+import org.springframework.data.rest.webmvc.support.JpaSliceExecutor;
+import org.springframework.data.rest.webmvc.support.KeysetPaging;
+import org.springframework.data.rest.webmvc.support.KeysetPagingExecutor;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
+import org.springframework.data.rest.webmvc.support.ReferencedEntityLoader;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RequestScopedSelfLinkProvider;
+import org.springframework.data.rest.webmvc.support.SliceExecutor;
+import org.springframework.data.rest.webmvc.support.SlicePaging;
 import org.springframework.data.util.AnnotatedTypeScanner;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.HateoasSortHandlerMethodArgumentResolver;
@@ -146,10 +165,14 @@ import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExc
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 /**
  * Main application configuration for Spring Data REST. To customize how the exporter works, subclass this and override
@@ -173,6 +196,10 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	private static final boolean IS_JPA_AVAILABLE = ClassUtils.isPresent("javax.persistence.EntityManager",
 			RepositoryRestMvcConfiguration.class.getClassLoader());
+	private static final boolean IS_SMILE_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.smile.SmileFactory", RepositoryRestMvcConfiguration.class.getClassLoader());
+	private static final boolean IS_CBOR_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.cbor.CBORFactory", RepositoryRestMvcConfiguration.class.getClassLoader());
 
 	@Autowired ApplicationContext applicationContext;
 
@@ -256,6 +283,73 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		}
 	}
 
+	/**
+	 * {@link KeysetPaging} using the {@link KeysetPagingExecutor}s registered in the application context, falling back
+	 * to a JPA based one if JPA is available.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public KeysetPaging keysetPaging() {
+
+		List<KeysetPagingExecutor> executors = new ArrayList<KeysetPagingExecutor>(
+				BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, KeysetPagingExecutor.class).values());
+
+		if (IS_JPA_AVAILABLE) {
+			executors.add(new JpaKeysetPagingExecutor(applicationContext, config()));
+		}
+
+		return new KeysetPaging(persistentEntities(), executors);
+	}
+
+	/**
+	 * {@link SlicePaging} using the {@link SliceExecutor}s registered in the application context, falling back to a JPA
+	 * based one if JPA is available.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public SlicePaging slicePaging() {
+
+		List<SliceExecutor> executors = new ArrayList<SliceExecutor>(
+				BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, SliceExecutor.class).values());
+
+		if (IS_JPA_AVAILABLE) {
+			executors.add(new JpaSliceExecutor(applicationContext, config()));
+		}
+
+		return new SlicePaging(executors);
+	}
+
+	/**
+	 * {@link AssociationLookup} using the {@link AssociationQueryExecutor}s registered in the application context, falling
+	 * back to a JPA based one if JPA is available and paging in memory otherwise.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public AssociationLookup associationLookup() {
+
+		List<AssociationQueryExecutor> executors = new ArrayList<AssociationQueryExecutor>(BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(applicationContext, AssociationQueryExecutor.class).values());
+
+		if (IS_JPA_AVAILABLE) {
+			executors.add(new JpaAssociationQueryExecutor(applicationContext, config()));
+		}
+
+		return new AssociationLookup(persistentEntities(), executors, defaultConversionService());
+	}
+
+	/**
+	 * {@link ReferencedEntityLoader} to load the entities referenced in requests to association resources in batches.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public ReferencedEntityLoader referencedEntityLoader() {
+		return new ReferencedEntityLoader(uriToEntityConverter(defaultConversionService()));
+	}
+
 	/**
 	 * Main configuration for the REST exporter.
 	 */
@@ -277,6 +371,18 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return config;
 	}
 
+	/**
+	 * The {@link CountStrategy} configured in {@link RepositoryRestConfiguration}, exposed as bean so that strategies
+	 * implementing {@link org.springframework.context.ApplicationListener} receive repository events, e.g. to evict
+	 * cached totals.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public CountStrategy countStrategy() {
+		return config().getCountStrategy();
+	}
+
 	@Bean
 	public static ProjectionDefinitionRegistar projectionDefinitionRegistrar(
 			ObjectFactory<RepositoryRestConfiguration> config) {
@@ -503,22 +609,86 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return converter;
 	}
 
+	/**
+	 * Returns the {@link HttpMessageConverter} to render {@link TemplatedResources} in
+	 * {@link RestMediaTypes#SPRING_DATA_TEMPLATED_HAL_JSON}. It's constrained to that type so that only the dedicated
+	 * collection resource handler serves the media type.
+	 * 
+	 * @return
+	 */
+	private TypeConstrainedMappingJackson2HttpMessageConverter templatedHalJacksonHttpMessageConverter() {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+				TemplatedResources.class);
+		converter.setObjectMapper(halObjectMapper());
+		converter.setSupportedMediaTypes(Arrays.asList(RestMediaTypes.SPRING_DATA_TEMPLATED_HAL_JSON));
+
+		return converter;
+	}
+
 	@Bean
 	public ObjectMapper halObjectMapper() {
+		return configureHalObjectMapper(basicObjectMapper());
+	}
+
+	private ObjectMapper configureHalObjectMapper(ObjectMapper mapper) {
 
 		RelProvider defaultedRelProvider = this.relProvider != null ? this.relProvider : new EvoInflectorRelProvider();
 
 		HalHandlerInstantiator instantiator = new HalHandlerInstantiator(defaultedRelProvider, curieProvider,
 				resourceDescriptionMessageSourceAccessor(), applicationContext.getAutowireCapableBeanFactory());
 
-		ObjectMapper mapper = basicObjectMapper();
 		mapper.registerModule(persistentEntityJackson2Module());
 		mapper.registerModule(new Jackson2HalModule());
+		mapper.registerModule(new StreamingHalModule(defaultedRelProvider, curieProvider));
 		mapper.setHandlerInstantiator(instantiator);
 
 		return mapper;
 	}
 
+	/**
+	 * Returns the {@link HttpMessageConverter}s to read and write resources in the binary Jackson formats Smile and CBOR,
+	 * both in plain and HAL flavor. Converters are only registered if the corresponding Jackson data format module is
+	 * present on the classpath.
+	 * 
+	 * @return
+	 */
+	private List<HttpMessageConverter<?>> binaryJacksonHttpMessageConverters() {
+
+		List<HttpMessageConverter<?>> converters = new ArrayList<HttpMessageConverter<?>>();
+
+		if (IS_SMILE_AVAILABLE) {
+			converters.addAll(binaryJacksonHttpMessageConverters(SmileFactoryProvider.getFactory(), RestMediaTypes.HAL_SMILE,
+					RestMediaTypes.SMILE));
+		}
+
+		if (IS_CBOR_AVAILABLE) {
+			converters.addAll(binaryJacksonHttpMessageConverters(CborFactoryProvider.getFactory(), RestMediaTypes.HAL_CBOR,
+					RestMediaTypes.CBOR));
+		}
+
+		return converters;
+	}
+
+	private List<HttpMessageConverter<?>> binaryJacksonHttpMessageConverters(JsonFactory factory, MediaType halMediaType,
+			MediaType mediaType) {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter halConverter = new ResourceSupportHttpMessageConverter(
+				Ordered.LOWEST_PRECEDENCE);
+		halConverter.setObjectMapper(configureHalObjectMapper(configureBasicObjectMapper(new ObjectMapper(factory))));
+		halConverter.setSupportedMediaTypes(Arrays.asList(halMediaType));
+
+		ObjectMapper mapper = configureBasicObjectMapper(new ObjectMapper(factory));
+		mapper.registerModule(persistentEntityJackson2Module());
+
+		TypeConstrainedMappingJackson2HttpMessageConverter converter = new ResourceSupportHttpMessageConverter(
+				Ordered.LOWEST_PRECEDENCE);
+		converter.setObjectMapper(mapper);
+		converter.setSupportedMediaTypes(Arrays.asList(mediaType));
+
+		return Arrays.<HttpMessageConverter<?>> asList(halConverter, converter);
+	}
+
 	/**
 	 * The {@link HttpMessageConverter} used to create {@literal text/uri-list} responses.
 	 * 
@@ -541,7 +711,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			processors.add(bean);
 		}
 
-		return new ResourceProcessorInvoker(processors);
+		return new CachingResourceProcessorInvoker(processors);
 	}
 
 	/**
@@ -563,10 +733,17 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		handlerAdapter.setWebBindingInitializer(initializer);
 		handlerAdapter.setMessageConverters(defaultMessageConverters());
 
+		List<ResponseBodyAdvice<?>> advices = new ArrayList<ResponseBodyAdvice<?>>();
+
 		if (config().getMetadataConfiguration().alpsEnabled()) {
-			handlerAdapter.setResponseBodyAdvice(Arrays.<ResponseBodyAdvice<?>> asList(alpsJsonHttpMessageConverter()));
+			advices.add(alpsJsonHttpMessageConverter());
 		}
 
+		advices.add(new FieldSelectionResponseBodyAdvice(associationLinks(),
+				objectMapper().getSerializationConfig().getFilterProvider()));
+
+		handlerAdapter.setResponseBodyAdvice(advices);
+
 		return handlerAdapter;
 	}
 
@@ -623,27 +800,43 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		LookupObjectSerializer lookupObjectSerializer = new LookupObjectSerializer(
 				OrderAwarePluginRegistry.create(getEntityLookups()));
 
-		return new PersistentEntityJackson2Module(associationLinks(), entities, uriToEntityConverter, linkCollector(),
-				repositoryInvokerFactory, serializer, lookupObjectSerializer);
+		PersistentEntityJackson2Module module = new PersistentEntityJackson2Module(associationLinks(), entities,
+				uriToEntityConverter, linkCollector(), repositoryInvokerFactory, serializer, lookupObjectSerializer);
+		module.setUseGeneratedAccessors(config().isEnableGeneratedPropertyAccessors());
+
+		return module;
 	}
 
 	@Bean
 	protected LinkCollector linkCollector() {
-		return new LinkCollector(persistentEntities(), selfLinkProvider(), associationLinks());
+
+		LinkCollector collector = new LinkCollector(persistentEntities(), selfLinkProvider(), associationLinks());
+		collector.warmUp();
+
+		return collector;
 	}
 
 	protected UriToEntityConverter uriToEntityConverter(ConversionService conversionService) {
-		return new UriToEntityConverter(persistentEntities(), repositoryInvokerFactory(conversionService), repositories());
+		return new UriToEntityConverter(persistentEntities(), repositoryInvokerFactory(conversionService), repositories(),
+				conversionService);
 	}
 
 	@Bean
 	public ExcerptProjector excerptProjector() {
+		return new DefaultExcerptProjector(projectionFactory(), resourceMappings());
+	}
 
-		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
-		projectionFactory.setBeanFactory(applicationContext);
-		projectionFactory.setResourceLoader(applicationContext);
-
-		return new DefaultExcerptProjector(projectionFactory, resourceMappings());
+	/**
+	 * The {@link ProjectionFactory} to create excerpts and projections with. Shared so that the projection metadata and
+	 * compiled expressions are only computed once. The {@link org.springframework.beans.factory.BeanFactory} and
+	 * {@link org.springframework.core.io.ResourceLoader} are handed in by the container.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public ProjectionFactory projectionFactory() {
+		return config().isEnableDispatchingProjections() ? new DispatchingProjectionFactory()
+				: new SpelAwareProxyProjectionFactory();
 	}
 
 	/**
@@ -670,10 +863,32 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	}
 
 	@Bean
-	public RepositoryInvokerFactory repositoryInvokerFactory(@Qualifier ConversionService defaultConversionService) {
+	public RepositoryInvokerFactory repositoryInvokerFactory(
+			@Qualifier final ConversionService defaultConversionService) {
+
+		ObjectFactory<RepositoryInvokerFactory> delegate = new ObjectFactory<RepositoryInvokerFactory>() {
 
-		return new UnwrappingRepositoryInvokerFactory(
-				new DefaultRepositoryInvokerFactory(repositories(), defaultConversionService), getEntityLookups());
+			@Override
+			public RepositoryInvokerFactory getObject() {
+				return new DefaultRepositoryInvokerFactory(repositories(), defaultConversionService);
+			}
+		};
+
+		UnwrappingRepositoryInvokerFactory factory = new UnwrappingRepositoryInvokerFactory(delegate, repositories(),
+				config(), getEntityLookups());
+
+		ResourceMappings mappings = resourceMappings();
+		List<Class<?>> exportedTypes = new ArrayList<Class<?>>();
+
+		for (Class<?> domainType : repositories()) {
+			if (mappings.exportsMappingFor(domainType)) {
+				exportedTypes.add(domainType);
+			}
+		}
+
+		factory.warmUp(exportedTypes);
+
+		return factory;
 	}
 
 	@Bean
@@ -693,6 +908,9 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			messageConverters.add(halJacksonHttpMessageConverter());
 		}
 
+		messageConverters.add(templatedHalJacksonHttpMessageConverter());
+		messageConverters.addAll(binaryJacksonHttpMessageConverters());
+
 		MappingJackson2HttpMessageConverter fallbackJsonConverter = new MappingJackson2HttpMessageConverter();
 		fallbackJsonConverter.setObjectMapper(basicObjectMapper());
 
@@ -758,7 +976,11 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	@Bean
 	public SelfLinkProvider selfLinkProvider() {
-		return new DefaultSelfLinkProvider(persistentEntities(), entityLinks(), getEntityLookups());
+
+		List<EntityLookup<?>> lookups = getEntityLookups();
+		SelfLinkProvider provider = new DefaultSelfLinkProvider(persistentEntities(), entityLinks(), lookups);
+
+		return new RequestScopedSelfLinkProvider(provider, persistentEntities(), lookups);
 	}
 
 	@Bean
@@ -777,13 +999,9 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	protected List<HandlerMethodArgumentResolver> defaultMethodArgumentResolvers() {
 
-		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
-		projectionFactory.setBeanFactory(applicationContext);
-		projectionFactory.setResourceLoader(applicationContext);
-
 		PersistentEntityResourceAssemblerArgumentResolver peraResolver = new PersistentEntityResourceAssemblerArgumentResolver(
-				persistentEntities(), selfLinkProvider(), config().getProjectionConfiguration(), projectionFactory,
-				associationLinks());
+				persistentEntities(), selfLinkProvider(), config().getProjectionConfiguration(), projectionFactory(),
+				associationLinks(), repositoryInvokerFactory(defaultConversionService()));
 
 		HateoasPageableHandlerMethodArgumentResolver pageableResolver = pageableResolver();
 
@@ -805,8 +1023,10 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	@Autowired GeoModule geoModule;
 
 	protected ObjectMapper basicObjectMapper() {
+		return configureBasicObjectMapper(new ObjectMapper());
+	}
 
-		ObjectMapper objectMapper = new ObjectMapper();
+	private ObjectMapper configureBasicObjectMapper(ObjectMapper objectMapper) {
 
 		objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
 		objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
@@ -822,6 +1042,10 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		configurerDelegate.configureJacksonObjectMapper(objectMapper);
 		configureJacksonObjectMapper(objectMapper);
 
+		// Wrap the filters configured so that field selections can be applied per response
+		FilterProvider filters = objectMapper.getSerializationConfig().getFilterProvider();
+		objectMapper.setFilterProvider(new FieldSelectionFilterProvider(filters));
+
 		return objectMapper;
 	}
 
@@ -891,6 +1115,32 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		}
 	}
 
+	/**
+	 * Creates the {@link JsonFactory} for Smile. Nested to only load the Smile types if the module is present on the
+	 * classpath.
+	 * 
+	 * @author agent
+	 */
+	private static class SmileFactoryProvider {
+
+		public static JsonFactory getFactory() {
+			return new SmileFactory();
+		}
+	}
+
+	/**
+	 * Creates the {@link JsonFactory} for CBOR. Nested to only load the CBOR types if the module is present on the
+	 * classpath.
+	 * 
+	 * @author agent
+	 */
+	private static class CborFactoryProvider {
+
+		public static JsonFactory getFactory() {
+			return new CBORFactory();
+		}
+	}
+
 	private static class ResourceSupportHttpMessageConverter extends TypeConstrainedMappingJackson2HttpMessageConverter
 			implements Ordered {
 
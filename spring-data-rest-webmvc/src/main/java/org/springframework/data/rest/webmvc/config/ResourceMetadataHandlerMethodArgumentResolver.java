@@ -24,7 +24,7 @@ import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.BaseUri;
-import org.springframework.data.rest.webmvc.util.UriUtils;
+import org.springframework.data.rest.webmvc.support.RepositoryRequestContext;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -80,18 +80,24 @@ public class ResourceMetadataHandlerMethodArgumentResolver implements HandlerMet
 	public ResourceMetadata resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
-		String lookupPath = baseUri.getRepositoryLookupPath(webRequest);
-		String repositoryKey = UriUtils.findMappingVariable("repository", parameter.getMethod(), lookupPath);
+		RepositoryRequestContext context = RepositoryRequestContext.of(webRequest, parameter.getMethod());
+
+		if (context.hasResourceMetadata()) {
+			return context.getResourceMetadata();
+		}
+
+		String repositoryKey = context.getRepositoryKey(baseUri);
 
 		if (!hasText(repositoryKey)) {
+			context.setResourceMetadata(null);
 			return null;
 		}
 
-		for (Class<?> domainType : repositories) {
-			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
-			if (mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return mapping;
-			}
+		ResourceMetadata mapping = mappings.getExportedMetadataFor(repositoryKey);
+
+		if (mapping != null && repositories.hasRepositoryFor(mapping.getDomainType())) {
+			context.setResourceMetadata(mapping);
+			return mapping;
 		}
 
 		throw new IllegalArgumentException(String.format("Could not resolve repository metadata for %s.", repositoryKey));
@@ -24,6 +24,7 @@ import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.support.RepositoryRequestContext;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -84,8 +85,15 @@ public class RootResourceInformationHandlerMethodArgumentResolver implements Han
 				binderFactory);
 
 		Class<?> domainType = resourceMetadata.getDomainType();
-		RepositoryInvoker repositoryInvoker = invokerFactory.getInvokerFor(domainType);
-		PersistentEntity<?, ?> persistentEntity = repositories.getPersistentEntity(domainType);
+		RepositoryRequestContext context = RepositoryRequestContext.of(webRequest, parameter.getMethod());
+
+		if (context.getInvoker() == null) {
+			context.setRepositoryInformation(repositories.getPersistentEntity(domainType),
+					invokerFactory.getInvokerFor(domainType));
+		}
+
+		RepositoryInvoker repositoryInvoker = context.getInvoker();
+		PersistentEntity<?, ?> persistentEntity = context.getPersistentEntity();
 
 		// TODO reject if ResourceMetadata cannot be resolved
 		return new RootResourceInformation(resourceMetadata, persistentEntity,
@@ -21,7 +21,6 @@ import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.hateoas.Link;
@@ -33,7 +32,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
-import org.springframework.util.StringUtils;
 
 /**
  * {@link Converter} to render all {@link Link}s contained in a {@link ResourceSupport} as {@code text/uri-list} and
@@ -91,20 +89,8 @@ public class UriListHttpMessageConverter implements HttpMessageConverter<Resourc
 
 		List<Link> links = new ArrayList<Link>();
 
-		Scanner scanner = new Scanner(inputMessage.getBody());
-
-		try {
-
-			while (scanner.hasNextLine()) {
-
-				String line = scanner.nextLine();
-				if (StringUtils.hasText(line)) {
-					links.add(new Link(line));
-				}
-			}
-
-		} finally {
-			scanner.close();
+		for (UriListReader reader = UriListReader.of(inputMessage); reader.hasNext();) {
+			links.add(new Link(reader.next()));
 		}
 
 		return new Resources<Object>(Collections.emptyList(), links);
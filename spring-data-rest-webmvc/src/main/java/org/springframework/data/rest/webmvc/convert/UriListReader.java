@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Reads the URIs of a {@code text/uri-list} body line by line, so that they can be processed while the body is still
+ * being read instead of holding all of them in memory. Blank lines are skipped.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class UriListReader implements Iterator<String> {
+
+	private static final Charset DEFAULT_CHARSET = Charset.forName("UTF-8");
+
+	private final BufferedReader reader;
+	private String next;
+
+	/**
+	 * Creates a new {@link UriListReader} for the given {@link InputStream} and {@link Charset}.
+	 *
+	 * @param stream must not be {@literal null}.
+	 * @param charset must not be {@literal null}.
+	 */
+	public UriListReader(InputStream stream, Charset charset) {
+
+		Assert.notNull(stream, "InputStream must not be null!");
+		Assert.notNull(charset, "Charset must not be null!");
+
+		this.reader = new BufferedReader(new InputStreamReader(stream, charset));
+	}
+
+	/**
+	 * Creates a new {@link UriListReader} for the body of the given {@link HttpInputMessage} using the charset of its
+	 * content type or UTF-8 if none is given.
+	 *
+	 * @param message must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	public static UriListReader of(HttpInputMessage message) throws IOException {
+
+		Assert.notNull(message, "HttpInputMessage must not be null!");
+
+		MediaType contentType = message.getHeaders().getContentType();
+		Charset charset = contentType == null || contentType.getCharset() == null ? DEFAULT_CHARSET
+				: contentType.getCharset();
+
+		return new UriListReader(message.getBody(), charset);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		try {
+
+			while (next == null) {
+
+				String line = reader.readLine();
+
+				if (line == null) {
+					return false;
+				}
+
+				if (StringUtils.hasText(line)) {
+					next = line;
+				}
+			}
+
+			return true;
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException("Could not read URI list!", o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public String next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		String result = next;
+		next = null;
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+}
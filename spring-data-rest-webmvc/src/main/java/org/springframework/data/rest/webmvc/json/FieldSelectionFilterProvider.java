@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import org.springframework.data.rest.webmvc.mapping.FieldSelection;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+/**
+ * {@link FilterProvider} to render only the properties selected by a {@link FieldSelection}. The serializers of
+ * persistent entities get {@link #FILTER_ID} assigned if the {@link com.fasterxml.jackson.databind.ObjectMapper} is
+ * configured with a {@link FieldSelectionFilterProvider}. Without a {@link FieldSelection}, the provider doesn't return
+ * a filter for that id so that Jackson renders all properties without any per property overhead. The
+ * {@link FieldSelection} of a request is resolved once per response and handed in via
+ * {@link FieldSelectionResponseBodyAdvice}.
+ * <p>
+ * Lookups for all other filter ids are forwarded to the {@link FilterProvider} originally configured.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class FieldSelectionFilterProvider extends FilterProvider {
+
+	public static final String FILTER_ID = FieldSelectionFilterProvider.class.getName();
+
+	private final FilterProvider delegate;
+	private final PropertyFilter filter;
+
+	/**
+	 * Creates a new {@link FieldSelectionFilterProvider} forwarding lookups for other filter ids to the given
+	 * {@link FilterProvider}.
+	 *
+	 * @param delegate can be {@literal null}.
+	 */
+	public FieldSelectionFilterProvider(FilterProvider delegate) {
+		this(delegate, null);
+	}
+
+	private FieldSelectionFilterProvider(FilterProvider delegate, FieldSelection selection) {
+
+		this.delegate = delegate;
+		this.filter = selection == null ? null : new FieldSelectingPropertyFilter(selection);
+	}
+
+	/**
+	 * Returns a {@link FieldSelectionFilterProvider} applying the given {@link FieldSelection} and forwarding to the given
+	 * {@link FilterProvider} for other filter ids. If the given {@link FilterProvider} is a
+	 * {@link FieldSelectionFilterProvider} itself, its delegate is used.
+	 *
+	 * @param provider can be {@literal null}.
+	 * @param selection must not be {@literal null}.
+	 * @return
+	 */
+	public static FieldSelectionFilterProvider of(FilterProvider provider, FieldSelection selection) {
+
+		Assert.notNull(selection, "FieldSelection must not be null!");
+
+		FilterProvider delegate = provider instanceof FieldSelectionFilterProvider
+				? ((FieldSelectionFilterProvider) provider).delegate : provider;
+
+		return new FieldSelectionFilterProvider(delegate, selection);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ser.FilterProvider#findFilter(java.lang.Object)
+	 */
+	@Override
+	@Deprecated
+	public BeanPropertyFilter findFilter(Object filterId) {
+		return FILTER_ID.equals(filterId) || delegate == null ? null : delegate.findFilter(filterId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ser.FilterProvider#findPropertyFilter(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public PropertyFilter findPropertyFilter(Object filterId, Object valueToFilter) {
+
+		if (FILTER_ID.equals(filterId)) {
+			return filter;
+		}
+
+		return delegate == null ? null : delegate.findPropertyFilter(filterId, valueToFilter);
+	}
+
+	/**
+	 * {@link PropertyFilter} to only render the properties included in a {@link FieldSelection}. Omitted properties are
+	 * not even read from the bean. Unwrapping properties are always rendered as they don't render a property of the
+	 * type themselves.
+	 *
+	 * @author agent
+	 */
+	private static class FieldSelectingPropertyFilter extends SimpleBeanPropertyFilter {
+
+		private final FieldSelection selection;
+
+		public FieldSelectingPropertyFilter(FieldSelection selection) {
+			this.selection = selection;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter#serializeAsField(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.ser.PropertyWriter)
+		 */
+		@Override
+		public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+				throws Exception {
+
+			if (isUnwrapping(writer) || selection.includes(ClassUtils.getUserClass(pojo), writer.getName())) {
+				writer.serializeAsField(pojo, gen, provider);
+			} else if (!gen.canOmitFields()) {
+				writer.serializeAsOmittedField(pojo, gen, provider);
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter#include(com.fasterxml.jackson.databind.ser.BeanPropertyWriter)
+		 */
+		@Override
+		protected boolean include(BeanPropertyWriter writer) {
+			return true;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter#include(com.fasterxml.jackson.databind.ser.PropertyWriter)
+		 */
+		@Override
+		protected boolean include(PropertyWriter writer) {
+			return true;
+		}
+
+		private static boolean isUnwrapping(PropertyWriter writer) {
+			return writer instanceof BeanPropertyWriter && ((BeanPropertyWriter) writer).isUnwrapping();
+		}
+	}
+}
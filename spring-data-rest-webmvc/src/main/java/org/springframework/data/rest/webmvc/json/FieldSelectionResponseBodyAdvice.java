@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.FieldSelection;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+
+/**
+ * {@link ResponseBodyAdvice} to resolve the {@link FieldSelection} of the current request once the response is about
+ * to be written and hand it to Jackson through a {@link FieldSelectionFilterProvider}. Responses for requests not
+ * selecting any fields are left untouched.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class FieldSelectionResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	private final Associations associations;
+	private final FilterProvider defaultFilters;
+
+	/**
+	 * Creates a new {@link FieldSelectionResponseBodyAdvice} using the given {@link Associations} to look up the
+	 * {@link FieldSelection} and the {@link FilterProvider} configured for the
+	 * {@link com.fasterxml.jackson.databind.ObjectMapper}s to use for all other filters.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @param defaultFilters can be {@literal null}.
+	 */
+	public FieldSelectionResponseBodyAdvice(Associations associations, FilterProvider defaultFilters) {
+
+		Assert.notNull(associations, "Associations must not be null!");
+
+		this.associations = associations;
+		this.defaultFilters = defaultFilters;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#supports(org.springframework.core.MethodParameter, java.lang.Class)
+	 */
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object, org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class, org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
+	 */
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+
+		if (body == null) {
+			return null;
+		}
+
+		FieldSelection selection = associations.getFieldSelection();
+
+		if (selection == null) {
+			return body;
+		}
+
+		MappingJacksonValue container = body instanceof MappingJacksonValue ? (MappingJacksonValue) body
+				: new MappingJacksonValue(body);
+		FilterProvider filters = container.getFilters() == null ? defaultFilters : container.getFilters();
+
+		container.setFilters(FieldSelectionFilterProvider.of(filters, selection));
+
+		return container;
+	}
+}
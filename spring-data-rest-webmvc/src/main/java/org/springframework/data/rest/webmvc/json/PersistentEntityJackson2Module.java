@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +47,11 @@ import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyPlan;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates.CompactedLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.Resource;
@@ -54,17 +59,23 @@ import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -89,6 +100,7 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
 import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 
 /**
  * Jackson 2 module to serialize and deserialize {@link PersistentEntityResource}s.
@@ -103,6 +115,11 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	private static final long serialVersionUID = -7289265674870906323L;
 	private static final Logger LOG = LoggerFactory.getLogger(PersistentEntityJackson2Module.class);
 	private static final TypeDescriptor URI_DESCRIPTOR = TypeDescriptor.valueOf(URI.class);
+	private static final boolean IS_AFTERBURNER_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.module.afterburner.AfterburnerModule",
+			PersistentEntityJackson2Module.class.getClassLoader());
+
+	private boolean useGeneratedAccessors = false;
 
 	/**
 	 * Creates a new {@link PersistentEntityJackson2Module} using the given {@link ResourceMappings}, {@link Repositories}
@@ -135,6 +152,40 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				new AssociationUriResolvingDeserializerModifier(entities, associations, converter, factory));
 	}
 
+	/**
+	 * Configures whether to install bytecode generated accessors for the properties of serialized and deserialized
+	 * types so that they're read and written through direct method calls instead of reflection. Requires Jackson's
+	 * Afterburner module to be present on the classpath, the setting is ignored otherwise. Types and properties no
+	 * accessors can be generated for (e.g. non-public ones or ones using custom serializers) keep using reflection.
+	 * 
+	 * @param useGeneratedAccessors
+	 * @since 2.6
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+		this.useGeneratedAccessors = useGeneratedAccessors;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.module.SimpleModule#setupModule(com.fasterxml.jackson.databind.Module.SetupContext)
+	 */
+	@Override
+	public void setupModule(SetupContext context) {
+
+		super.setupModule(context);
+
+		if (!useGeneratedAccessors) {
+			return;
+		}
+
+		if (IS_AFTERBURNER_AVAILABLE) {
+			AfterburnerModuleRegistrar.setupModule(context);
+		} else {
+			LOG.warn("Generated property accessors enabled but Jackson Afterburner module not found on the classpath! "
+					+ "Falling back to reflection.");
+		}
+	}
+
 	/**
 	 * Custom {@link JsonSerializer} for {@link PersistentEntityResource}s to turn associations into {@link Link}s.
 	 * Delegates to standard {@link Resource} serialization afterwards.
@@ -177,11 +228,23 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			}
 
 			Links links = getLinks(resource);
+			LinkTemplates templates = resource.getLinkTemplates();
+			CompactedLinks compacted = templates == null ? null : templates.compact(links);
 
 			if (TargetAware.class.isInstance(content)) {
 
 				TargetAware targetAware = (TargetAware) content;
-				provider.defaultSerializeValue(new ProjectionResource(targetAware, links), jgen);
+
+				provider.defaultSerializeValue(compacted == null ? new ProjectionResource(targetAware, links)
+						: new CompactedResource<ProjectionResourceContent>(
+								new ProjectionResourceContent(targetAware, targetAware.getClass().getInterfaces()[0]), compacted,
+								null),
+						jgen);
+				return;
+			}
+
+			if (compacted != null) {
+				provider.defaultSerializeValue(new CompactedResource<Object>(content, compacted, resource.getEmbeddeds()), jgen);
 				return;
 			}
 
@@ -215,6 +278,51 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 	}
 
+	/**
+	 * A {@link Resource} whose links were compacted against {@link LinkTemplates}. Renders the identifier segment and the
+	 * relation types of the association links covered by the templates instead of the links themselves. The relation
+	 * types are omitted if the item carries all association links covered by the templates.
+	 *
+	 * @author agent
+	 * @since 2.6
+	 */
+	static class CompactedResource<T> extends Resource<T> {
+
+		private final CompactedLinks compacted;
+		private final Iterable<?> embeddeds;
+
+		/**
+		 * Creates a new {@link CompactedResource} for the given content, {@link CompactedLinks} and embeddeds.
+		 * 
+		 * @param content must not be {@literal null}.
+		 * @param compacted must not be {@literal null}.
+		 * @param embeddeds can be {@literal null}.
+		 */
+		CompactedResource(T content, CompactedLinks compacted, Iterable<?> embeddeds) {
+
+			super(content, compacted.getLinks());
+
+			this.compacted = compacted;
+			this.embeddeds = embeddeds;
+		}
+
+		@JsonProperty("_id")
+		public String getResourceId() {
+			return compacted.getId();
+		}
+
+		@JsonProperty("_rels")
+		@JsonInclude(Include.NON_NULL)
+		public List<String> getRels() {
+			return compacted.getRels();
+		}
+
+		@JsonUnwrapped
+		public Iterable<?> getEmbedded() {
+			return embeddeds;
+		}
+	}
+
 	/**
 	 * {@link BeanSerializerModifier} to drop the property descriptors for associations.
 	 * 
@@ -242,46 +350,46 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				return builder;
 			}
 
+			EntityRenderingPlan plan = EntityRenderingPlan.of(entity, associations);
+			Map<String, String> internalNames = getInternalNames(beanDesc);
 			List<BeanPropertyWriter> result = new ArrayList<BeanPropertyWriter>();
 
 			for (BeanPropertyWriter writer : builder.getProperties()) {
 
-				// Skip exported associations
-				PersistentProperty<?> persistentProperty = findProperty(writer.getName(), entity, beanDesc);
+				String internalName = internalNames.get(writer.getName());
+				PropertyPlan property = internalName == null ? null : plan.getProperty(internalName);
 
-				if (persistentProperty == null) {
+				if (property == null) {
 					result.add(writer);
 					continue;
 				}
 
-				if (associations.isLookupType(persistentProperty)) {
+				switch (property.getType()) {
 
-					LOG.debug("Assigning lookup object serializer for {}.", persistentProperty);
-					writer.assignSerializer(lookupObjectSerializer);
-					result.add(writer);
-					continue;
-				}
+					case LOOKUP:
 
-				// Is there a default projection?
+						LOG.debug("Assigning lookup object serializer for {}.", property.getProperty());
+						writer.assignSerializer(lookupObjectSerializer);
+						break;
 
-				if (associations.isLinkableAssociation(persistentProperty)) {
-					continue;
-				}
+					// Skip exported associations, ids unless explicitly configured to expose and versions
+					case LINKABLE_ASSOCIATION:
+					case HIDDEN_ID:
+					case VERSION:
+						continue;
 
-				// Skip ids unless explicitly configured to expose
-				if (persistentProperty.isIdProperty() && !associations.isIdExposed(entity)) {
-					continue;
-				}
+					case NESTED_ENTITY:
 
-				if (persistentProperty.isVersionProperty()) {
-					continue;
-				}
+						if (!writer.isUnwrapping()) {
 
-				if (persistentProperty.isEntity() && !writer.isUnwrapping()) {
+							LOG.debug("Assigning nested entity serializer for {}.", property.getProperty());
+							writer.assignSerializer(nestedEntitySerializer);
+						}
 
-					LOG.debug("Assigning nested entity serializer for {}.", persistentProperty);
+						break;
 
-					writer.assignSerializer(nestedEntitySerializer);
+					default:
+						break;
 				}
 
 				result.add(writer);
@@ -289,28 +397,32 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 			builder.setProperties(result);
 
+			// Allow the properties to be filtered by the FieldSelection of the current request
+			if (builder.getFilterId() == null && config.getFilterProvider() instanceof FieldSelectionFilterProvider) {
+				builder.setFilterId(FieldSelectionFilterProvider.FILTER_ID);
+			}
+
 			return builder;
 		}
 
 		/**
-		 * Returns the {@link PersistentProperty} for the property with the given final name (the name that it will be
-		 * rendered under eventually).
+		 * Returns the internal property names by the final names (the names they will be rendered under eventually).
 		 * 
-		 * @param finalName the output name the property will be rendered under.
-		 * @param entity the {@link PersistentEntity} to find the property on.
 		 * @param description the Jackson {@link BeanDescription}.
 		 * @return
 		 */
-		private PersistentProperty<?> findProperty(String finalName, PersistentEntity<?, ?> entity,
-				BeanDescription description) {
+		private static Map<String, String> getInternalNames(BeanDescription description) {
+
+			List<BeanPropertyDefinition> definitions = description.findProperties();
+			Map<String, String> names = new HashMap<String, String>(definitions.size());
 
-			for (BeanPropertyDefinition definition : description.findProperties()) {
-				if (definition.getName().equals(finalName)) {
-					return entity.getPersistentProperty(definition.getInternalName());
+			for (BeanPropertyDefinition definition : definitions) {
+				if (!names.containsKey(definition.getName())) {
+					names.put(definition.getName(), definition.getInternalName());
 				}
 			}
 
-			return null;
+			return names;
 		}
 	}
 
@@ -347,28 +459,51 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 			if (value instanceof Collection) {
 
-				Collection<?> source = (Collection<?>) value;
-				List<Object> resources = new ArrayList<Object>();
+				EntityCache cache = new EntityCache();
 
-				for (Object element : source) {
-					resources.add(toResource(element));
+				gen.writeStartArray();
+
+				for (Object element : (Collection<?>) value) {
+					serializeElement(element, cache, gen, provider);
 				}
 
-				provider.defaultSerializeValue(resources, gen);
+				gen.writeEndArray();
 
 			} else if (value instanceof Map) {
 
-				Map<?, ?> source = (Map<?, ?>) value;
-				Map<Object, Object> resources = CollectionFactory.createApproximateMap(value.getClass(), source.size());
+				EntityCache cache = new EntityCache();
+
+				gen.writeStartObject();
+
+				for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+
+					Object key = entry.getKey();
+					JavaType keyType = provider.constructType(key == null ? Object.class : key.getClass());
+					JsonSerializer<Object> keySerializer = key == null ? provider.findNullKeySerializer(keyType, null)
+							: provider.findKeySerializer(keyType, null);
 
-				for (Entry<?, ?> entry : source.entrySet()) {
-					resources.put(entry.getKey(), toResource(entry.getValue()));
+					keySerializer.serialize(key, gen, provider);
+					serializeElement(entry.getValue(), cache, gen, provider);
 				}
 
-				provider.defaultSerializeValue(resources, gen);
+				gen.writeEndObject();
 
 			} else {
-				provider.defaultSerializeValue(toResource(value), gen);
+				provider.defaultSerializeValue(toResource(value, new EntityCache()), gen);
+			}
+		}
+
+		/**
+		 * Serializes the given element right away, so that collections and maps don't have to be copied into resource
+		 * instances as a whole before rendering.
+		 */
+		private void serializeElement(Object element, EntityCache cache, JsonGenerator gen, SerializerProvider provider)
+				throws IOException {
+
+			if (element == null) {
+				provider.defaultSerializeNull(gen);
+			} else {
+				provider.defaultSerializeValue(toResource(element, cache), gen);
 			}
 		}
 
@@ -382,14 +517,36 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			serialize(value, gen, provider);
 		}
 
-		private Resource<Object> toResource(Object value) {
+		private Resource<Object> toResource(Object value, EntityCache cache) {
 
-			PersistentEntity<?, ?> entity = entities.getPersistentEntity(value.getClass());
+			PersistentEntity<?, ?> entity = cache.getPersistentEntity(value.getClass());
 
 			return invoker.invokeProcessorsFor(PersistentEntityResource.build(value, entity).//
 					withEmbedded(assembler.getEmbeddedResources(value)).//
 					buildNested());
 		}
+
+		/**
+		 * Remembers the {@link PersistentEntity} looked up last, as the elements of a nested collection are usually of the
+		 * same type.
+		 *
+		 * @author agent
+		 */
+		private class EntityCache {
+
+			private Class<?> type;
+			private PersistentEntity<?, ?> entity;
+
+			public PersistentEntity<?, ?> getPersistentEntity(Class<?> type) {
+
+				if (!type.equals(this.type)) {
+					this.entity = entities.getPersistentEntity(type);
+					this.type = type;
+				}
+
+				return entity;
+			}
+		}
 	}
 
 	/**
@@ -434,6 +591,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 					JsonDeserializer<?> deserializer = wrapIfCollection(persistentProperty, repositoryInvokingDeserializer,
 							config);
 
+					if (isCollection(persistentProperty)) {
+						deserializer = new RepositoryInvokingCollectionDeserializer(persistentProperty, deserializer, factory);
+					}
+
 					builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), false);
 					continue;
 				}
@@ -445,6 +606,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				UriStringDeserializer uriStringDeserializer = new UriStringDeserializer(persistentProperty, converter);
 				JsonDeserializer<?> deserializer = wrapIfCollection(persistentProperty, uriStringDeserializer, config);
 
+				if (isCollection(persistentProperty)) {
+					deserializer = new UriStringCollectionDeserializer(persistentProperty, deserializer, converter);
+				}
+
 				builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), false);
 			}
 
@@ -463,6 +628,177 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			CollectionValueInstantiator instantiator = new CollectionValueInstantiator(property);
 			return new CollectionDeserializer(collectionType, elementDeserializer, null, instantiator);
 		}
+
+		private static boolean isCollection(PersistentProperty<?> property) {
+			return Collection.class.isAssignableFrom(property.getType());
+		}
+	}
+
+	/**
+	 * {@link JsonDeserializer} for collection properties that reads all elements of a JSON array before resolving them
+	 * in one go, so that they can be looked up in batches instead of one by one. Values other than arrays are handed to
+	 * the given delegate.
+	 * 
+	 * @author agent
+	 * @since 2.6
+	 */
+	private static abstract class BatchResolvingCollectionDeserializer extends StdDeserializer<Object> {
+
+		private static final long serialVersionUID = 5371463519227165489L;
+
+		private final PersistentProperty<?> property;
+		private final JsonDeserializer<?> delegate;
+		private final CollectionValueInstantiator instantiator;
+
+		/**
+		 * Creates a new {@link BatchResolvingCollectionDeserializer} for the given {@link PersistentProperty} and
+		 * delegate {@link JsonDeserializer}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param delegate must not be {@literal null}.
+		 */
+		protected BatchResolvingCollectionDeserializer(PersistentProperty<?> property, JsonDeserializer<?> delegate) {
+
+			super(property.getType());
+
+			this.property = property;
+			this.delegate = delegate;
+			this.instantiator = new CollectionValueInstantiator(property);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+
+			if (!jp.isExpectedStartArrayToken()) {
+				return delegate.deserialize(jp, ctxt);
+			}
+
+			List<String> sources = new ArrayList<String>();
+			JsonToken token;
+
+			while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+
+				if (token == JsonToken.VALUE_NULL) {
+					sources.add(null);
+				} else if (token.isScalarValue()) {
+					sources.add(jp.getValueAsString());
+				} else {
+					return ctxt.handleUnexpectedToken(property.getActualType(), jp);
+				}
+			}
+
+			Collection<Object> result = (Collection<Object>) instantiator.createUsingDefault(ctxt);
+			result.addAll(resolveAll(sources, ctxt));
+
+			return result;
+		}
+
+		/**
+		 * Deserialize by ignoring the {@link TypeDeserializer}, as the elements will either resolve to {@literal null} or
+		 * a concrete instance anyway.
+		 * 
+		 * @see com.fasterxml.jackson.databind.deser.std.StdDeserializer#deserializeWithType(com.fasterxml.jackson.core.JsonParser,
+		 *      com.fasterxml.jackson.databind.DeserializationContext,
+		 *      com.fasterxml.jackson.databind.jsontype.TypeDeserializer)
+		 */
+		@Override
+		public Object deserializeWithType(JsonParser jp, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+				throws IOException {
+			return deserialize(jp, ctxt);
+		}
+
+		protected PersistentProperty<?> getProperty() {
+			return property;
+		}
+
+		/**
+		 * Resolves the given source values (some of which might be {@literal null}) into the elements of the collection.
+		 * 
+		 * @param sources will never be {@literal null}.
+		 * @param ctxt will never be {@literal null}.
+		 * @return the resolved elements in the order of the given sources.
+		 * @throws IOException
+		 */
+		protected abstract List<Object> resolveAll(List<String> sources, DeserializationContext ctxt) throws IOException;
+	}
+
+	/**
+	 * {@link BatchResolvingCollectionDeserializer} to interpret the elements of collection associations as URIs and
+	 * resolve them using {@link UriToEntityConverter#convertAll(List, Class)}, i.e. usually with a single repository
+	 * call.
+	 * 
+	 * @author agent
+	 * @since 2.6
+	 * @see UriStringDeserializer
+	 */
+	static class UriStringCollectionDeserializer extends BatchResolvingCollectionDeserializer {
+
+		private static final long serialVersionUID = -6281624937416417650L;
+		private static final String UNEXPECTED_VALUE = "Expected URI cause property %s points to the managed domain type!";
+
+		private final UriToEntityConverter converter;
+
+		/**
+		 * Creates a new {@link UriStringCollectionDeserializer} for the given {@link PersistentProperty} and delegate
+		 * {@link JsonDeserializer} using the given {@link UriToEntityConverter}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param delegate must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 */
+		public UriStringCollectionDeserializer(PersistentProperty<?> property, JsonDeserializer<?> delegate,
+				UriToEntityConverter converter) {
+
+			super(property, delegate);
+
+			this.converter = converter;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.BatchResolvingCollectionDeserializer#resolveAll(java.util.List, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		protected List<Object> resolveAll(List<String> sources, DeserializationContext ctxt) throws IOException {
+
+			List<URI> uris = new ArrayList<URI>(sources.size());
+
+			for (String source : sources) {
+
+				if (!StringUtils.hasText(source)) {
+					continue;
+				}
+
+				try {
+					uris.add(new UriTemplate(source).expand());
+				} catch (IllegalArgumentException o_O) {
+					throw ctxt.weirdStringException(source, URI.class, String.format(UNEXPECTED_VALUE, getProperty()));
+				}
+			}
+
+			List<Object> resolved;
+
+			try {
+				resolved = converter.convertAll(uris, getProperty().getActualType());
+			} catch (IllegalArgumentException o_O) {
+				throw ctxt.weirdStringException(sources.toString(), URI.class,
+						String.format(UNEXPECTED_VALUE, getProperty()));
+			}
+
+			Iterator<Object> iterator = resolved.iterator();
+			List<Object> result = new ArrayList<Object>(sources.size());
+
+			for (String source : sources) {
+				result.add(StringUtils.hasText(source) ? iterator.next() : null);
+			}
+
+			return result;
+		}
 	}
 
 	/**
@@ -748,6 +1084,54 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 	}
 
+	/**
+	 * {@link BatchResolvingCollectionDeserializer} for collections of lookup types. As {@link EntityLookup}s can only
+	 * look up individual entities, it resolves every distinct identifier only once.
+	 * 
+	 * @author agent
+	 * @since 2.6
+	 * @see RepositoryInvokingDeserializer
+	 */
+	private static class RepositoryInvokingCollectionDeserializer extends BatchResolvingCollectionDeserializer {
+
+		private static final long serialVersionUID = 2970381564726318934L;
+		private final RepositoryInvoker invoker;
+
+		private RepositoryInvokingCollectionDeserializer(PersistentProperty<?> property, JsonDeserializer<?> delegate,
+				RepositoryInvokerFactory factory) {
+
+			super(property, delegate);
+			this.invoker = factory.getInvokerFor(property.getActualType());
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.BatchResolvingCollectionDeserializer#resolveAll(java.util.List, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		protected List<Object> resolveAll(List<String> sources, DeserializationContext ctxt) throws IOException {
+
+			Map<String, Object> resolved = new HashMap<String, Object>(sources.size());
+			List<Object> result = new ArrayList<Object>(sources.size());
+
+			for (String source : sources) {
+
+				if (source == null) {
+					result.add(null);
+					continue;
+				}
+
+				if (!resolved.containsKey(source)) {
+					resolved.put(source, invoker.invokeFindOne(source));
+				}
+
+				result.add(resolved.get(source));
+			}
+
+			return result;
+		}
+	}
+
 	@RequiredArgsConstructor
 	public static class LookupObjectSerializer extends ToStringSerializer {
 
@@ -783,4 +1167,17 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			return lookup.getResourceIdentifier(value).toString();
 		}
 	}
+
+	/**
+	 * Registers the serializer and deserializer modifiers of Jackson's {@link AfterburnerModule}. Nested to only load
+	 * the Afterburner types if the module is present on the classpath.
+	 *
+	 * @author agent
+	 */
+	private static class AfterburnerModuleRegistrar {
+
+		public static void setupModule(SetupContext context) {
+			new AfterburnerModule().setupModule(context);
+		}
+	}
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.springframework.data.rest.webmvc.StreamingContent;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.hal.CurieProvider;
+import org.springframework.hateoas.hal.HalEmbeddedBuilder;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Jackson module to render {@link Resources} holding {@link StreamingContent} in HAL element by element. The default
+ * HAL serializer for {@link Resources} collects all elements grouped by relation before writing them, which would
+ * assemble the entire content up front. Register after {@link org.springframework.hateoas.hal.Jackson2HalModule}.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class StreamingHalModule extends SimpleModule {
+
+	private static final long serialVersionUID = 3415361349574736232L;
+
+	/**
+	 * Creates a new {@link StreamingHalModule} using the given {@link RelProvider} and {@link CurieProvider} to
+	 * determine the relations the elements are rendered under.
+	 *
+	 * @param relProvider must not be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 */
+	public StreamingHalModule(final RelProvider relProvider, final CurieProvider curieProvider) {
+
+		super(new Version(2, 0, 0, null, "org.springframework.data.rest", "jackson-module"));
+
+		Assert.notNull(relProvider, "RelProvider must not be null!");
+
+		setSerializerModifier(new BeanSerializerModifier() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see com.fasterxml.jackson.databind.ser.BeanSerializerModifier#changeProperties(com.fasterxml.jackson.databind.SerializationConfig, com.fasterxml.jackson.databind.BeanDescription, java.util.List)
+			 */
+			@Override
+			public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+					List<BeanPropertyWriter> beanProperties) {
+
+				if (!Resources.class.isAssignableFrom(beanDesc.getBeanClass())) {
+					return beanProperties;
+				}
+
+				for (int i = 0; i < beanProperties.size(); i++) {
+
+					BeanPropertyWriter writer = beanProperties.get(i);
+
+					if ("_embedded".equals(writer.getName())) {
+						beanProperties.set(i, new StreamingEmbeddedPropertyWriter(writer, relProvider, curieProvider));
+					}
+				}
+
+				return beanProperties;
+			}
+		});
+	}
+
+	/**
+	 * {@link BeanPropertyWriter} to render {@link StreamingContent} as HAL {@code _embedded} element by element. Regular
+	 * content is handed to the original writer.
+	 *
+	 * @author agent
+	 */
+	static class StreamingEmbeddedPropertyWriter extends BeanPropertyWriter {
+
+		private static final long serialVersionUID = -4577208328519637409L;
+
+		private final BeanPropertyWriter delegate;
+		private final transient RelProvider relProvider;
+		private final transient CurieProvider curieProvider;
+
+		public StreamingEmbeddedPropertyWriter(BeanPropertyWriter delegate, RelProvider relProvider,
+				CurieProvider curieProvider) {
+
+			super(delegate);
+
+			this.delegate = delegate;
+			this.relProvider = relProvider;
+			this.curieProvider = curieProvider;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#rename(com.fasterxml.jackson.databind.util.NameTransformer)
+		 */
+		@Override
+		public StreamingEmbeddedPropertyWriter rename(NameTransformer transformer) {
+			return new StreamingEmbeddedPropertyWriter(delegate.rename(transformer), relProvider, curieProvider);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#assignSerializer(com.fasterxml.jackson.databind.JsonSerializer)
+		 */
+		@Override
+		public void assignSerializer(JsonSerializer<Object> serializer) {
+
+			super.assignSerializer(serializer);
+			delegate.assignSerializer(serializer);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#assignNullSerializer(com.fasterxml.jackson.databind.JsonSerializer)
+		 */
+		@Override
+		public void assignNullSerializer(JsonSerializer<Object> serializer) {
+
+			super.assignNullSerializer(serializer);
+			delegate.assignNullSerializer(serializer);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#assignTypeSerializer(com.fasterxml.jackson.databind.jsontype.TypeSerializer)
+		 */
+		@Override
+		public void assignTypeSerializer(TypeSerializer serializer) {
+
+			super.assignTypeSerializer(serializer);
+			delegate.assignTypeSerializer(serializer);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#serializeAsField(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+
+			StreamingContent<?> content = StreamingContent.of((Resources<?>) bean);
+
+			if (content == null) {
+				delegate.serializeAsField(bean, gen, provider);
+				return;
+			}
+
+			Iterator<?> iterator = content.iterator();
+
+			// Mimic the omission of empty content
+			if (!iterator.hasNext()) {
+				return;
+			}
+
+			gen.writeFieldName(getName());
+			gen.writeStartObject();
+
+			String currentRel = null;
+
+			while (iterator.hasNext()) {
+
+				HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, curieProvider, true);
+				builder.add(iterator.next());
+
+				for (Entry<String, Object> entry : builder.asMap().entrySet()) {
+
+					if (!entry.getKey().equals(currentRel)) {
+
+						if (currentRel != null) {
+							gen.writeEndArray();
+						}
+
+						currentRel = entry.getKey();
+
+						gen.writeFieldName(currentRel);
+						gen.writeStartArray();
+					}
+
+					Object value = entry.getValue();
+
+					if (value instanceof Collection) {
+						for (Object element : (Collection<?>) value) {
+							provider.defaultSerializeValue(element, gen);
+						}
+					} else {
+						provider.defaultSerializeValue(value, gen);
+					}
+				}
+			}
+
+			if (currentRel != null) {
+				gen.writeEndArray();
+			}
+
+			gen.writeEndObject();
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#serializeAsElement(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+			delegate.serializeAsElement(bean, gen, provider);
+		}
+	}
+}
@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
@@ -30,6 +32,7 @@ import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyPlan;
 import org.springframework.hateoas.Link;
 import org.springframework.util.Assert;
 
@@ -45,9 +48,35 @@ public class Associations {
 
 	private final @NonNull @Getter ResourceMappings mappings;
 	private final @NonNull RepositoryRestConfiguration config;
+	private final ConcurrentMap<PersistentEntity<?, ?>, EntityRenderingPlan> plans = new ConcurrentHashMap<PersistentEntity<?, ?>, EntityRenderingPlan>();
 
 	/**
-	 * Returns the links to render for the given {@link Association}.
+	 * Returns the {@link EntityRenderingPlan} for the given {@link PersistentEntity}. Plans are computed once per entity
+	 * and kept for the lifetime of the {@link Associations} instance.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.6
+	 */
+	public EntityRenderingPlan getRenderingPlan(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		EntityRenderingPlan plan = plans.get(entity);
+
+		if (plan != null) {
+			return plan;
+		}
+
+		plan = new EntityRenderingPlan(entity, this);
+		EntityRenderingPlan existing = plans.putIfAbsent(entity, plan);
+
+		return existing == null ? plan : existing;
+	}
+
+	/**
+	 * Returns the links to render for the given {@link Association}. Rel and path of the link are taken from the
+	 * {@link EntityRenderingPlan} of the association's owner if available.
 	 * 
 	 * @param association must not be {@literal null}.
 	 * @param path must not be {@literal null}.
@@ -58,9 +87,15 @@ public class Associations {
 		Assert.notNull(association, "Association must not be null!");
 		Assert.notNull(path, "Base path must not be null!");
 
+		PersistentProperty<?> property = association.getInverse();
+		PropertyPlan plan = getRenderingPlan(property.getOwner()).getProperty(property.getName());
+
+		if (plan != null && plan.isLinkableAssociation() && plan.getPath() != null) {
+			return Collections.singletonList(new Link(path.slash(plan.getPath()).toString(), plan.getRel()));
+		}
+
 		if (isLinkableAssociation(association)) {
 
-			PersistentProperty<?> property = association.getInverse();
 			ResourceMetadata metadata = mappings.getMetadataFor(property.getOwner().getType());
 			ResourceMapping propertyMapping = metadata.getMappingFor(property);
 
@@ -86,6 +121,16 @@ public class Associations {
 		return mappings.getMetadataFor(type);
 	}
 
+	/**
+	 * Returns the {@link FieldSelection} of the current request.
+	 * 
+	 * @return the {@link FieldSelection} or {@literal null} if the current request doesn't restrict the fields to render.
+	 * @since 2.6
+	 */
+	public FieldSelection getFieldSelection() {
+		return FieldSelection.getCurrent(config.getFieldsParamName(), mappings);
+	}
+
 	/**
 	 * Returns whether the type of the given {@link PersistentProperty} is configured as lookup type.
 	 * 
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.mapping;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.rest.core.Path;
+import org.springframework.data.rest.core.mapping.ResourceMapping;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.hateoas.Link;
+import org.springframework.util.Assert;
+
+/**
+ * Precomputed, immutable classification of the properties of a {@link PersistentEntity} that determines how they are
+ * rendered. The serializer modifier, the {@link LinkCollector} and the
+ * {@link org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler} consult the same plan, so the classification
+ * that involves multiple {@link ResourceMetadata} lookups and configuration checks is only done once per entity and not
+ * once per property and rendered instance.
+ * <p>
+ * Plans are held by the {@link Associations} instance they were created for as they depend on its configuration.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class EntityRenderingPlan {
+
+	private static final String AMBIGUOUS_ASSOCIATIONS = "Detected multiple association links with same relation type! Disambiguate association %s using @RestResource!";
+
+	private final @Getter PersistentEntity<?, ?> entity;
+	private final Map<String, PropertyPlan> properties;
+	private final PropertyPlan[] linkableAssociations;
+	private final Associations associations;
+
+	/**
+	 * Creates a new {@link EntityRenderingPlan} for the given {@link PersistentEntity} and {@link Associations}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @throws MappingException in case multiple linkable associations use the same relation type.
+	 */
+	EntityRenderingPlan(PersistentEntity<?, ?> entity, final Associations associations) {
+
+		this.entity = entity;
+		this.associations = associations;
+
+		final boolean idExposed = associations.isIdExposed(entity);
+		final ResourceMetadata metadata = associations.getMetadataFor(entity.getType());
+		final Map<String, PropertyPlan> properties = new HashMap<String, PropertyPlan>();
+		final List<PropertyPlan> linkableAssociations = new ArrayList<PropertyPlan>();
+
+		entity.doWithProperties(new SimplePropertyHandler() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
+			 */
+			@Override
+			public void doWithPersistentProperty(PersistentProperty<?> property) {
+				properties.put(property.getName(), PropertyPlan.of(property, associations, metadata, idExposed));
+			}
+		});
+
+		entity.doWithAssociations(new SimpleAssociationHandler() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
+			 */
+			@Override
+			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+
+				PersistentProperty<?> property = association.getInverse();
+				PropertyPlan plan = PropertyPlan.of(property, associations, metadata, idExposed);
+
+				properties.put(property.getName(), plan);
+
+				if (plan.isLinkableAssociation()) {
+					linkableAssociations.add(plan);
+				}
+			}
+		});
+
+		this.properties = Collections.unmodifiableMap(properties);
+		this.linkableAssociations = linkableAssociations.toArray(new PropertyPlan[linkableAssociations.size()]);
+
+		verifyUniqueAssociationRels(this.linkableAssociations);
+	}
+
+	/**
+	 * Returns the {@link EntityRenderingPlan} for the given {@link PersistentEntity} and {@link Associations}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see Associations#getRenderingPlan(PersistentEntity)
+	 */
+	public static EntityRenderingPlan of(PersistentEntity<?, ?> entity, Associations associations) {
+
+		Assert.notNull(associations, "Associations must not be null!");
+
+		return associations.getRenderingPlan(entity);
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan} for the property with the given name.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the {@link PropertyPlan} or {@literal null} if the entity doesn't have a property with the given name.
+	 */
+	public PropertyPlan getProperty(String name) {
+		return properties.get(name);
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan}s of all linkable associations in the order of their declaration. The returned
+	 * array is shared and must not be modified.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public PropertyPlan[] getLinkableAssociations() {
+		return linkableAssociations;
+	}
+
+	/**
+	 * Adds the {@link Link}s for all linkable associations of an instance exposed under the given {@link Path} to the
+	 * given {@link List}.
+	 *
+	 * @param base must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @see Associations#getLinksFor(Association, Path)
+	 */
+	public void addAssociationLinks(Path base, List<Link> links) {
+		addAssociationLinks(base, links, null);
+	}
+
+	/**
+	 * Adds the {@link Link}s for the linkable associations of an instance exposed under the given {@link Path} to the
+	 * given {@link List}, restricted to the associations selected by the given names.
+	 *
+	 * @param base must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @param fields the relation types or property names of the associations to link, {@literal null} to link all.
+	 * @see PropertyPlan#isSelectedBy(Set)
+	 */
+	public void addAssociationLinks(Path base, List<Link> links, Set<String> fields) {
+
+		Assert.notNull(base, "Base path must not be null!");
+		Assert.notNull(links, "Links must not be null!");
+
+		for (PropertyPlan association : linkableAssociations) {
+			if (association.isSelectedBy(fields)) {
+				links.addAll(associations.getLinksFor(association.getProperty().getAssociation(), base));
+			}
+		}
+	}
+
+	/**
+	 * Verifies that all linkable associations use distinct relation types. Done once on plan creation so that rendering
+	 * instances doesn't have to repeat the check.
+	 *
+	 * @param linkableAssociations must not be {@literal null}.
+	 * @throws MappingException in case multiple linkable associations use the same relation type.
+	 */
+	private static void verifyUniqueAssociationRels(PropertyPlan[] linkableAssociations) {
+
+		Set<String> rels = new HashSet<String>(linkableAssociations.length);
+
+		for (PropertyPlan plan : linkableAssociations) {
+			if (!rels.add(plan.getRel())) {
+				throw new MappingException(String.format(AMBIGUOUS_ASSOCIATIONS, plan.getProperty().toString()));
+			}
+		}
+	}
+
+	/**
+	 * The ways a {@link PersistentProperty} can be rendered.
+	 *
+	 * @author agent
+	 */
+	public static enum PropertyType {
+
+		/**
+		 * A property whose type is configured as lookup type, i.e. rendered as its lookup identifier.
+		 */
+		LOOKUP,
+
+		/**
+		 * An association pointing to an exported resource that is rendered as link.
+		 */
+		LINKABLE_ASSOCIATION,
+
+		/**
+		 * An identifier property that is not configured to be exposed.
+		 */
+		HIDDEN_ID,
+
+		/**
+		 * The version property, not rendered as it's exposed through the {@code ETag} header.
+		 */
+		VERSION,
+
+		/**
+		 * A property referring to a nested entity, rendered inline with its own links.
+		 */
+		NESTED_ENTITY,
+
+		/**
+		 * Any other property, rendered as is.
+		 */
+		PLAIN;
+	}
+
+	/**
+	 * The rendering information for a single {@link PersistentProperty}.
+	 *
+	 * @author agent
+	 */
+	@Getter
+	public static class PropertyPlan {
+
+		private final PersistentProperty<?> property;
+		private final PropertyType type;
+		private final String rel;
+		private final Path path;
+
+		private PropertyPlan(PersistentProperty<?> property, PropertyType type, ResourceMapping mapping) {
+
+			this.property = property;
+			this.type = type;
+			this.rel = mapping == null ? null : mapping.getRel();
+			this.path = mapping == null ? null : mapping.getPath();
+		}
+
+		private static PropertyPlan of(PersistentProperty<?> property, Associations associations,
+				ResourceMetadata metadata, boolean idExposed) {
+
+			if (associations.isLookupType(property)) {
+				return new PropertyPlan(property, PropertyType.LOOKUP, null);
+			}
+
+			if (associations.isLinkableAssociation(property)) {
+				return new PropertyPlan(property, PropertyType.LINKABLE_ASSOCIATION,
+						metadata == null ? null : metadata.getMappingFor(property));
+			}
+
+			if (property.isIdProperty() && !idExposed) {
+				return new PropertyPlan(property, PropertyType.HIDDEN_ID, null);
+			}
+
+			if (property.isVersionProperty()) {
+				return new PropertyPlan(property, PropertyType.VERSION, null);
+			}
+
+			return new PropertyPlan(property, property.isEntity() ? PropertyType.NESTED_ENTITY : PropertyType.PLAIN, null);
+		}
+
+		/**
+		 * Returns whether the property is a linkable association.
+		 *
+		 * @return
+		 */
+		public boolean isLinkableAssociation() {
+			return PropertyType.LINKABLE_ASSOCIATION.equals(type);
+		}
+
+		/**
+		 * Returns whether the property is contained in the given selection of relation types and property names.
+		 *
+		 * @param fields can be {@literal null}, which selects all properties.
+		 * @return
+		 */
+		public boolean isSelectedBy(Set<String> fields) {
+			return fields == null || fields.contains(property.getName()) || rel != null && fields.contains(rel);
+		}
+	}
+}
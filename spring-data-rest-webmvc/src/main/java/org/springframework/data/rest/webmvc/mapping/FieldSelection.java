@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.mapping;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.support.RepositoryRequestContext;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * The properties and links selected for rendering by the client (sparse fieldsets). Selections are expressed through a
+ * request parameter (named {@code fields} by default) carrying a comma separated list of property names and link
+ * relations:
+ * <ul>
+ * <li>{@code fields=firstname,lastname} restricts the representation of the domain type the request is targeted
+ * at.</li>
+ * <li>{@code fields[addresses]=city} restricts the representation of the domain type exposed under the given
+ * collection or item resource relation, which also applies to nested and embedded instances of that type.</li>
+ * </ul>
+ * Types not mentioned in the request are rendered completely. The selection for a type is computed once per request
+ * and then looked up by type.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class FieldSelection {
+
+	private static final String ATTRIBUTE_NAME = FieldSelection.class.getName();
+	private static final Object NO_SELECTION = new Object();
+
+	private final ResourceMappings mappings;
+	private final Class<?> primaryType;
+	private final Set<String> primaryFields;
+	private final Map<String, Set<String>> fieldsByRel;
+	private final Map<Class<?>, Set<String>> cache = new HashMap<Class<?>, Set<String>>();
+
+	private FieldSelection(ResourceMappings mappings, Class<?> primaryType, Set<String> primaryFields,
+			Map<String, Set<String>> fieldsByRel) {
+
+		this.mappings = mappings;
+		this.primaryType = primaryType;
+		this.primaryFields = primaryFields;
+		this.fieldsByRel = fieldsByRel;
+	}
+
+	/**
+	 * Creates a {@link FieldSelection} from the given request parameters.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @param parameterName must not be {@literal null} or empty.
+	 * @param mappings must not be {@literal null}.
+	 * @param primaryType the domain type the request is targeted at, can be {@literal null}.
+	 * @return the {@link FieldSelection} or {@literal null} if the parameters don't select any fields.
+	 */
+	public static FieldSelection of(Map<String, String[]> parameters, String parameterName, ResourceMappings mappings,
+			Class<?> primaryType) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.hasText(parameterName, "Parameter name must not be null or empty!");
+		Assert.notNull(mappings, "ResourceMappings must not be null!");
+
+		Set<String> primaryFields = null;
+		Map<String, Set<String>> fieldsByRel = new HashMap<String, Set<String>>();
+		String prefix = parameterName.concat("[");
+
+		for (Entry<String, String[]> entry : parameters.entrySet()) {
+
+			String name = entry.getKey();
+
+			if (name.equals(parameterName)) {
+				primaryFields = parseFields(entry.getValue());
+			} else if (name.startsWith(prefix) && name.endsWith("]") && name.length() > prefix.length() + 1) {
+				fieldsByRel.put(name.substring(prefix.length(), name.length() - 1), parseFields(entry.getValue()));
+			}
+		}
+
+		if (fieldsByRel.isEmpty() && (primaryFields == null || primaryType == null)) {
+			return null;
+		}
+
+		return new FieldSelection(mappings, primaryType, primaryFields, fieldsByRel);
+	}
+
+	/**
+	 * Returns the {@link FieldSelection} for the current request. The selection is parsed once per request and kept as
+	 * request attribute as soon as the {@link ResourceMetadata} of the request has been resolved.
+	 *
+	 * @param parameterName can be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @return the {@link FieldSelection} or {@literal null} if there's no current request or it doesn't select any
+	 *         fields.
+	 */
+	public static FieldSelection getCurrent(String parameterName, ResourceMappings mappings) {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (!StringUtils.hasText(parameterName) || !(attributes instanceof ServletRequestAttributes)) {
+			return null;
+		}
+
+		Object selection = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+		if (selection == null) {
+
+			RepositoryRequestContext context = RepositoryRequestContext.getCurrent(attributes);
+			HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+			selection = of(request.getParameterMap(), parameterName, mappings, getPrimaryType(context));
+
+			// Only cache once the request was resolved to its domain type as the selection might refer to it
+			if (context != null && context.hasResourceMetadata()) {
+				attributes.setAttribute(ATTRIBUTE_NAME, selection == null ? NO_SELECTION : selection,
+						RequestAttributes.SCOPE_REQUEST);
+			}
+		}
+
+		return selection == null || selection == NO_SELECTION ? null : (FieldSelection) selection;
+	}
+
+	/**
+	 * Returns the names of the properties and link relations selected for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the selected names or {@literal null} if the type is not restricted.
+	 */
+	public Set<String> getFieldsFor(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (cache.containsKey(type)) {
+			return cache.get(type);
+		}
+
+		Set<String> fields = lookupFieldsFor(type);
+		cache.put(type, fields);
+
+		return fields;
+	}
+
+	/**
+	 * Returns whether the property or link relation with the given name shall be rendered for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @return
+	 */
+	public boolean includes(Class<?> type, String name) {
+
+		Set<String> fields = getFieldsFor(type);
+		return fields == null || fields.contains(name);
+	}
+
+	private Set<String> lookupFieldsFor(Class<?> type) {
+
+		if (!fieldsByRel.isEmpty()) {
+
+			ResourceMetadata metadata = mappings.getMetadataFor(type);
+
+			if (metadata != null) {
+
+				Set<String> fields = fieldsByRel.get(metadata.getRel());
+				fields = fields == null ? fieldsByRel.get(metadata.getItemResourceRel()) : fields;
+
+				if (fields != null) {
+					return fields;
+				}
+			}
+		}
+
+		return primaryType != null && primaryType.equals(type) ? primaryFields : null;
+	}
+
+	private static Class<?> getPrimaryType(RepositoryRequestContext context) {
+
+		ResourceMetadata metadata = context == null ? null : context.getResourceMetadata();
+
+		return metadata == null ? null : metadata.getDomainType();
+	}
+
+	private static Set<String> parseFields(String[] values) {
+
+		Set<String> fields = new HashSet<String>();
+
+		for (String value : values) {
+			for (String field : StringUtils.commaDelimitedListToStringArray(value)) {
+				if (StringUtils.hasText(field)) {
+					fields.add(field.trim());
+				}
+			}
+		}
+
+		return Collections.unmodifiableSet(fields);
+	}
+}
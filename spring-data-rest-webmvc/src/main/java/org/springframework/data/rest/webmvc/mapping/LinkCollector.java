@@ -15,26 +15,18 @@
  */
 package org.springframework.data.rest.webmvc.mapping;
 
-import lombok.Getter;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
-import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.rest.core.Path;
-import org.springframework.data.rest.core.mapping.ResourceMapping;
-import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyPlan;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.util.Assert;
@@ -99,45 +91,88 @@ public class LinkCollector {
 			return links;
 		}
 
+		PropertyPlan[] associations = EntityRenderingPlan.of(entity, associationLinks).getLinkableAssociations();
+
+		boolean hasSelfLink = links.hasLink(Link.REL_SELF);
+		List<Link> result = new ArrayList<Link>(existingLinks.size() + associations.length + 1);
+
+		if (!hasSelfLink) {
+			result.add(selfLink);
+		}
+
+		result.addAll(existingLinks);
+
 		Path path = new Path(selfLink.expand().getHref());
+		Set<String> fields = getSelectedFields(entity);
+
+		for (PropertyPlan association : associations) {
+			if (association.isSelectedBy(fields)) {
+				result.addAll(associationLinks.getLinksFor(association.getProperty().getAssociation(), path));
+			}
+		}
 
-		LinkCollectingAssociationHandler handler = new LinkCollectingAssociationHandler(entities, path, associationLinks);
-		entity.doWithAssociations(handler);
+		return new Links(result);
+	}
 
-		List<Link> result = new ArrayList<Link>(existingLinks);
-		result.addAll(handler.getLinks());
+	/**
+	 * Precomputes the {@link EntityRenderingPlan}s for all {@link PersistentEntity} instances currently known, so that
+	 * the first requests don't have to pay for it. The plans are kept by the {@link Associations} for their lifetime.
+	 * 
+	 * @throws org.springframework.data.mapping.model.MappingException in case an entity uses the same relation type for
+	 *           multiple linkable associations.
+	 * @see Associations#getRenderingPlan(PersistentEntity)
+	 */
+	public void warmUp() {
 
-		return addSelfLinkIfNecessary(object, result);
+		for (PersistentEntity<?, ?> entity : entities) {
+			associationLinks.getRenderingPlan(entity);
+		}
 	}
 
 	public Links getLinksForNested(Object object, List<Link> existing) {
 
 		PersistentEntity<?, ?> entity = entities.getPersistentEntity(object.getClass());
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(object);
 
-		NestedLinkCollectingAssociationHandler handler = new NestedLinkCollectingAssociationHandler(links,
-				entity.getPropertyAccessor(object), associationLinks);
-		entity.doWithAssociations(handler);
+		List<Link> result = new ArrayList<Link>();
+		result.addAll(existing);
 
-		List<Link> links = new ArrayList<Link>();
-		links.addAll(existing);
-		links.addAll(handler.getLinks());
+		Set<String> fields = getSelectedFields(entity);
 
-		return new Links(links);
-	}
+		for (PropertyPlan association : EntityRenderingPlan.of(entity, associationLinks).getLinkableAssociations()) {
 
-	private Links addSelfLinkIfNecessary(Object object, List<Link> existing) {
+			// Don't even read associations not selected
+			if (!association.isSelectedBy(fields)) {
+				continue;
+			}
+
+			Object value = accessor.getProperty(association.getProperty());
 
-		Links result = new Links(existing);
+			if (value == null) {
+				continue;
+			}
 
-		if (result.hasLink(Link.REL_SELF)) {
-			return result;
+			for (Object element : asCollection(value)) {
+				if (element != null) {
+					result.add(links.createSelfLinkFor(element).withRel(association.getRel()));
+				}
+			}
 		}
 
-		List<Link> list = new ArrayList<Link>();
-		list.add(createSelfLink(object, result));
-		list.addAll(existing);
+		return new Links(result);
+	}
+
+	/**
+	 * Returns the names of the properties and link relations selected for rendering for the given
+	 * {@link PersistentEntity} in the current request.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the selected names or {@literal null} if all of them shall be rendered.
+	 */
+	private Set<String> getSelectedFields(PersistentEntity<?, ?> entity) {
 
-		return new Links(list);
+		FieldSelection selection = associationLinks.getFieldSelection();
+		return selection == null ? null : selection.getFieldsFor(entity.getType());
 	}
 
 	private Link createSelfLink(Object object, Links existing) {
@@ -150,114 +185,19 @@ public class LinkCollector {
 	}
 
 	/**
-	 * {@link SimpleAssociationHandler} that will collect {@link Link}s for all linkable associations.
+	 * Returns the given object as {@link Collection}, i.e. the object as is if it's a collection already or wrapped into
+	 * a single-element collection otherwise.
 	 *
-	 * @author Oliver Gierke
-	 * @since 2.1
+	 * @param object can be {@literal null}.
+	 * @return
 	 */
-	@RequiredArgsConstructor
-	private static class LinkCollectingAssociationHandler implements SimpleAssociationHandler {
-
-		private static final String AMBIGUOUS_ASSOCIATIONS = "Detected multiple association links with same relation type! Disambiguate association %s using @RestResource!";
-
-		private final @NonNull PersistentEntities entities;
-		private final @NonNull Path basePath;
-		private final @NonNull Associations associationLinks;
-		private final @NonNull List<Link> links = new ArrayList<Link>();
-
-		/**
-		 * Returns the links collected after the {@link Association} has been traversed.
-		 *
-		 * @return the links
-		 */
-		public List<Link> getLinks() {
-			return links;
-		}
-
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
-		 */
-		@Override
-		public void doWithAssociation(final Association<? extends PersistentProperty<?>> association) {
-
-			if (associationLinks.isLinkableAssociation(association)) {
+	@SuppressWarnings("unchecked")
+	private static Collection<Object> asCollection(Object object) {
 
-				PersistentProperty<?> property = association.getInverse();
-				Links existingLinks = new Links(links);
-
-				for (Link link : associationLinks.getLinksFor(association, basePath)) {
-					if (existingLinks.hasLink(link.getRel())) {
-						throw new MappingException(String.format(AMBIGUOUS_ASSOCIATIONS, property.toString()));
-					} else {
-						links.add(link);
-					}
-				}
-			}
+		if (object instanceof Collection) {
+			return (Collection<Object>) object;
 		}
-	}
-
-	@RequiredArgsConstructor
-	private static class NestedLinkCollectingAssociationHandler implements SimpleAssociationHandler {
-
-		private final SelfLinkProvider selfLinks;
-		private final PersistentPropertyAccessor accessor;
-		private final Associations associations;
-		private final @Getter List<Link> links = new ArrayList<Link>();
-
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
-		 */
-		@Override
-		public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
-
-			if (!associations.isLinkableAssociation(association)) {
-				return;
-			}
-
-			PersistentProperty<?> property = association.getInverse();
-			Object value = accessor.getProperty(property);
 
-			if (value == null) {
-				return;
-			}
-
-			ResourceMetadata metadata = associations.getMappings().getMetadataFor(property.getOwner().getType());
-			ResourceMapping propertyMapping = metadata.getMappingFor(property);
-
-			for (Object element : asCollection(value)) {
-				if (element != null)
-					links.add(getLinkFor(element, propertyMapping));
-			}
-		}
-
-		/**
-		 * Returns a link pointing to the given entity using the given {@link ResourceMapping} to detect the link relation.
-		 *
-		 * @param entity must not be {@literal null}.
-		 * @param mapping must not be {@literal null}.
-		 * @return
-		 */
-		private Link getLinkFor(Object entity, ResourceMapping mapping) {
-			return selfLinks.createSelfLinkFor(entity).withRel(mapping.getRel());
-		}
-
-		/**
-		 * Returns the given object as {@link Collection}, i.e. the object as is if it's a collection already or wrapped
-		 * into a single-element collection otherwise.
-		 *
-		 * @param object can be {@literal null}.
-		 * @return
-		 */
-		@SuppressWarnings("unchecked")
-		private static Collection<Object> asCollection(Object object) {
-
-			if (object instanceof Collection) {
-				return (Collection<Object>) object;
-			}
-
-			return Collections.singleton(object);
-		}
+		return Collections.singleton(object);
 	}
 }
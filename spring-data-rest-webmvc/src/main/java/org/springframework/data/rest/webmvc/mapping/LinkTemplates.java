@@ -0,0 +1,238 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.mapping;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.springframework.data.rest.core.Path;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * URI templates for the links of the items of a collection resource. All items of a collection share the same item
+ * resource base URI, so their self, item resource and association links only differ in the identifier segment. Instead
+ * of rendering fully qualified links for every item, the templates can be rendered once for the collection and every
+ * item only carries its identifier segment and the relation types of the association links it has.
+ * <p>
+ * Templates are derived from a sample item and expose the identifier segment as {@value #ID_VARIABLE} variable. As
+ * usually all items carry all association links, items only list the association relation types they have if they
+ * lack some of them.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class LinkTemplates {
+
+	public static final String ID_VARIABLE = "id";
+	private static final String ID_PLACEHOLDER = "{" + ID_VARIABLE + "}";
+
+	private final String base;
+	private final Map<String, String> suffixes;
+	private final Set<String> associationRels;
+
+	private LinkTemplates(String base, Map<String, String> suffixes, Set<String> associationRels) {
+
+		this.base = base;
+		this.suffixes = suffixes;
+		this.associationRels = associationRels;
+	}
+
+	/**
+	 * Creates {@link LinkTemplates} from the links of the given sample item {@link Resource} and the association links
+	 * described by the given {@link EntityRenderingPlan}.
+	 *
+	 * @param sample must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return the {@link LinkTemplates} or {@literal null} if the self link of the sample doesn't end with an
+	 *         identifier segment.
+	 */
+	public static LinkTemplates of(Resource<?> sample, EntityRenderingPlan plan) {
+
+		Assert.notNull(sample, "Sample resource must not be null!");
+		Assert.notNull(plan, "EntityRenderingPlan must not be null!");
+
+		Link self = sample.getId();
+
+		if (self == null) {
+			return null;
+		}
+
+		String href = self.expand().getHref();
+		int index = href.lastIndexOf('/');
+
+		if (index < 0 || index == href.length() - 1) {
+			return null;
+		}
+
+		String base = href.substring(0, index + 1);
+		String id = href.substring(index + 1);
+
+		Map<String, String> suffixes = new LinkedHashMap<String, String>();
+
+		for (Link link : sample.getLinks()) {
+
+			String suffix = getSuffix(link.getHref(), base, id);
+
+			if (suffix != null) {
+				suffixes.put(link.getRel(), suffix);
+			}
+		}
+
+		List<Link> associationLinks = new ArrayList<Link>();
+		plan.addAssociationLinks(new Path(href), associationLinks);
+
+		Set<String> associationRels = new HashSet<String>();
+
+		for (Link link : associationLinks) {
+
+			String suffix = getSuffix(link.getHref(), base, id);
+
+			if (suffix != null) {
+				suffixes.put(link.getRel(), suffix);
+				associationRels.add(link.getRel());
+			}
+		}
+
+		return new LinkTemplates(base, suffixes, associationRels);
+	}
+
+	/**
+	 * Returns the URI templates by relation type.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, String> getTemplates() {
+
+		Map<String, String> templates = new LinkedHashMap<String, String>(suffixes.size());
+
+		for (Entry<String, String> entry : suffixes.entrySet()) {
+			templates.put(entry.getKey(), base.concat(ID_PLACEHOLDER).concat(entry.getValue()));
+		}
+
+		return templates;
+	}
+
+	/**
+	 * Compacts the given {@link Link}s of an item into its identifier segment, the relation types of the association
+	 * links covered by the templates and the links that can't be expressed through the templates.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @return the {@link CompactedLinks} or {@literal null} if the links can't be compacted as they don't contain a self
+	 *         link pointing to an item resource covered by the templates.
+	 */
+	public CompactedLinks compact(Iterable<Link> links) {
+
+		Assert.notNull(links, "Links must not be null!");
+
+		String id = null;
+
+		for (Link link : links) {
+			if (Link.REL_SELF.equals(link.getRel())) {
+				id = getId(link.expand().getHref());
+				break;
+			}
+		}
+
+		if (id == null) {
+			return null;
+		}
+
+		List<String> rels = new ArrayList<String>();
+		List<Link> remaining = new ArrayList<Link>();
+
+		for (Link link : links) {
+
+			String rel = link.getRel();
+			String suffix = suffixes.get(rel);
+
+			if (suffix == null || !matches(link.getHref(), id, suffix)) {
+				remaining.add(link);
+			} else if (associationRels.contains(rel)) {
+				rels.add(rel);
+			}
+		}
+
+		// Items carrying all association links don't need to list them
+		return new CompactedLinks(id, rels.size() == associationRels.size() ? null : Collections.unmodifiableList(rels),
+				Collections.unmodifiableList(remaining));
+	}
+
+	private String getId(String href) {
+
+		if (!href.startsWith(base) || href.length() == base.length()) {
+			return null;
+		}
+
+		String id = href.substring(base.length());
+		return id.indexOf('/') < 0 && id.indexOf('?') < 0 ? id : null;
+	}
+
+	private boolean matches(String href, String id, String suffix) {
+
+		return href.length() == base.length() + id.length() + suffix.length() //
+				&& href.startsWith(base) //
+				&& href.startsWith(id, base.length()) //
+				&& href.endsWith(suffix);
+	}
+
+	private static String getSuffix(String href, String base, String id) {
+
+		String prefix = base.concat(id);
+
+		if (!href.startsWith(prefix)) {
+			return null;
+		}
+
+		String suffix = href.substring(prefix.length());
+
+		return suffix.isEmpty() || suffix.startsWith("/") || suffix.startsWith("{") ? suffix : null;
+	}
+
+	/**
+	 * The links of an item compacted against {@link LinkTemplates}.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class CompactedLinks {
+
+		/**
+		 * The identifier segment of the item's URI.
+		 */
+		String id;
+
+		/**
+		 * The relation types of the association links expressed through the templates or {@literal null} if the item
+		 * carries all association links the templates cover.
+		 */
+		List<String> rels;
+
+		/**
+		 * The links that can't be expressed through the templates.
+		 */
+		List<Link> links;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Looks up the members of collection associations using the first {@link AssociationQueryExecutor} supporting the
+ * association. Falls back to paging the members in memory if none does.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class AssociationLookup {
+
+	private final PersistentEntities entities;
+	private final List<AssociationQueryExecutor> executors;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link AssociationLookup} for the given {@link PersistentEntities}, {@link AssociationQueryExecutor}s
+	 * and {@link ConversionService}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param executors must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public AssociationLookup(PersistentEntities entities, List<? extends AssociationQueryExecutor> executors,
+			ConversionService conversionService) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(executors, "AssociationQueryExecutors must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.entities = entities;
+		this.executors = new ArrayList<AssociationQueryExecutor>(executors);
+		this.executors.add(new InMemoryAssociationQueryExecutor());
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the {@link Page} of members of the given collection property of the given owner. If a sort is requested,
+	 * the members are additionally sorted by their identifier to guarantee a stable order across pages. Otherwise the
+	 * order of the association is retained.
+	 *
+	 * @param owner must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if the members of the property can't be looked up.
+	 * @see #supports(PersistentProperty)
+	 */
+	public Page<Object> getPage(Object owner, PersistentProperty<?> property, Pageable pageable) {
+
+		Assert.notNull(pageable, "Pageable must not be null!");
+
+		AssociationQuery query = getQuery(owner, property);
+		AssociationQueryExecutor executor = getExecutorFor(query);
+
+		String idProperty = query.getTarget().getIdProperty().getName();
+		Sort sort = pageable.getSort();
+
+		if (sort == null || sort.getOrderFor(idProperty) != null) {
+			return executor.findAll(query, pageable);
+		}
+
+		return executor.findAll(query,
+				new PageRequest(pageable.getPageNumber(), pageable.getPageSize(), sort.and(new Sort(idProperty))));
+	}
+
+	/**
+	 * Returns the member of the given collection property of the given owner identified by the given identifier.
+	 *
+	 * @param owner must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param id must not be {@literal null} or empty.
+	 * @return the member or {@literal null} if the association doesn't contain an entity with the given identifier.
+	 * @throws IllegalArgumentException if the members of the property can't be looked up.
+	 * @see #supports(PersistentProperty)
+	 */
+	public Object getMember(Object owner, PersistentProperty<?> property, String id) {
+
+		Assert.hasText(id, "Identifier must not be null or empty!");
+
+		AssociationQuery query = getQuery(owner, property);
+		AssociationQueryExecutor executor = getExecutorFor(query);
+		Class<?> idType = query.getTarget().getIdProperty().getType();
+
+		if (!conversionService.canConvert(String.class, idType)) {
+			return executor.findOne(query, id);
+		}
+
+		try {
+			return executor.findOne(query, conversionService.convert(id, idType));
+		} catch (ConversionException o_O) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether the members of the given property can be looked up.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supports(PersistentProperty<?> property) {
+
+		Assert.notNull(property, "PersistentProperty must not be null!");
+
+		if (!property.isCollectionLike()) {
+			return false;
+		}
+
+		PersistentEntity<?, ?> target = entities.getPersistentEntity(property.getActualType());
+
+		return target != null && target.hasIdProperty();
+	}
+
+	private AssociationQuery getQuery(Object owner, PersistentProperty<?> property) {
+
+		Assert.notNull(owner, "Owner must not be null!");
+		Assert.isTrue(supports(property), String.format("Cannot look up members of %s!", property));
+
+		return new AssociationQuery(owner, property, entities.getPersistentEntity(property.getActualType()));
+	}
+
+	private AssociationQueryExecutor getExecutorFor(AssociationQuery query) {
+
+		for (AssociationQueryExecutor executor : executors) {
+			if (executor.supports(query)) {
+				return executor;
+			}
+		}
+
+		throw new IllegalStateException(String.format("No AssociationQueryExecutor found for %s!", query.getProperty()));
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.Value;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * SPI to look up the members of a collection association in a store specific way instead of loading the entire
+ * collection into memory. Implementations registered as Spring beans are picked up automatically.
+ *
+ * @author agent
+ * @since 2.6
+ * @see AssociationLookup
+ */
+public interface AssociationQueryExecutor {
+
+	/**
+	 * Returns whether the executor can look up the members of the association described by the given
+	 * {@link AssociationQuery}.
+	 *
+	 * @param query will never be {@literal null}.
+	 * @return
+	 */
+	boolean supports(AssociationQuery query);
+
+	/**
+	 * Returns the {@link Page} of members of the association for the given {@link Pageable}.
+	 *
+	 * @param query will never be {@literal null}.
+	 * @param pageable will never be {@literal null}, its {@link org.springframework.data.domain.Sort} is guaranteed to
+	 *          contain the identifier property of the target entity if present. Without one, the order of the
+	 *          association is expected to be retained.
+	 * @return must not be {@literal null}.
+	 */
+	Page<Object> findAll(AssociationQuery query, Pageable pageable);
+
+	/**
+	 * Returns the member of the association with the given identifier.
+	 *
+	 * @param query will never be {@literal null}.
+	 * @param id will never be {@literal null}, converted into the identifier type of the target entity.
+	 * @return the member or {@literal null} if the association doesn't contain an entity with the given identifier.
+	 */
+	Object findOne(AssociationQuery query, Object id);
+
+	/**
+	 * A query for the members of a collection association.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class AssociationQuery {
+
+		/**
+		 * The entity owning the association.
+		 */
+		Object owner;
+
+		/**
+		 * The collection property pointing to the members.
+		 */
+		PersistentProperty<?> property;
+
+		/**
+		 * The {@link PersistentEntity} of the members.
+		 */
+		PersistentEntity<?, ?> target;
+	}
+}
@@ -23,7 +23,6 @@ import org.springframework.data.rest.webmvc.BaseUri;
 import org.springframework.data.rest.webmvc.config.ResourceMetadataHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
-import org.springframework.data.rest.webmvc.util.UriUtils;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -88,6 +87,12 @@ public class BackendIdHandlerMethodArgumentResolver implements HandlerMethodArgu
 					Serializable.class.getSimpleName(), parameterType.getSimpleName(), parameter.getMethod()));
 		}
 
+		RepositoryRequestContext context = RepositoryRequestContext.of(request, parameter.getMethod());
+
+		if (context.hasId()) {
+			return context.getId();
+		}
+
 		ResourceMetadata metadata = resourceMetadataResolver.resolveArgument(parameter, mavContainer, request,
 				binderFactory);
 
@@ -96,8 +101,10 @@ public class BackendIdHandlerMethodArgumentResolver implements HandlerMethodArgu
 		}
 
 		BackendIdConverter pluginFor = idConverters.getPluginFor(metadata.getDomainType(), DefaultIdConverter.INSTANCE);
-		String lookupPath = baseUri.getRepositoryLookupPath(request);
-		return pluginFor.fromRequestId(UriUtils.findMappingVariable("id", parameter.getMethod(), lookupPath),
-				metadata.getDomainType());
+		Serializable id = pluginFor.fromRequestId(context.getMappingVariable("id", baseUri), metadata.getDomainType());
+
+		context.setId(id);
+
+		return id;
 	}
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.rest.webmvc.StreamingContent;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResourceProcessorInvoker} that keeps an index of which {@link ResourceProcessor}s can possibly apply to a
+ * combination of reference type and content type and skips the processor invocation entirely if none does. The actual
+ * invocation is still left to the superclass, so that the matching semantics for the processors that might apply stay
+ * untouched.
+ * <p>
+ * Most resources rendered don't have any processor registered for them, so the type matching done for every
+ * registered processor, every resource and every element of a {@link Resources} instance can usually be replaced by a
+ * single map lookup per type combination.
+ * <p>
+ * The elements of {@link Resources} holding {@link StreamingContent} are processed while they're rendered, so that the
+ * content doesn't have to be assembled up front. Only if a processor for the {@link Resources} themselves is registered
+ * the content is assembled and processed eagerly as such a processor might inspect or replace it.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class CachingResourceProcessorInvoker extends ResourceProcessorInvoker {
+
+	private final List<ProcessorTarget> targets;
+	private final Map<CacheKey, Boolean> cache = new ConcurrentHashMap<CacheKey, Boolean>();
+	private final Converter<Object, Object> elementProcessor = new Converter<Object, Object>() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+		 */
+		@Override
+		public Object convert(Object source) {
+			return source instanceof ResourceSupport ? invokeProcessorsFor((ResourceSupport) source) : source;
+		}
+	};
+
+	/**
+	 * Creates a new {@link CachingResourceProcessorInvoker} for the given {@link ResourceProcessor}s.
+	 *
+	 * @param processors must not be {@literal null}.
+	 */
+	public CachingResourceProcessorInvoker(Collection<ResourceProcessor<?>> processors) {
+
+		super(processors);
+
+		Assert.notNull(processors, "ResourceProcessors must not be null!");
+
+		this.targets = new ArrayList<ProcessorTarget>(processors.size());
+
+		for (ResourceProcessor<?> processor : processors) {
+			this.targets.add(ProcessorTarget.of(processor));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker#invokeProcessorsFor(org.springframework.hateoas.ResourceSupport)
+	 */
+	@Override
+	public <T extends ResourceSupport> T invokeProcessorsFor(T value) {
+
+		Assert.notNull(value, "Value must not be null!");
+
+		return invokeProcessorsFor(value, ResolvableType.forClass(value.getClass()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker#invokeProcessorsFor(org.springframework.hateoas.ResourceSupport, org.springframework.core.ResolvableType)
+	 */
+	@Override
+	public <T extends ResourceSupport> T invokeProcessorsFor(T value, ResolvableType referenceType) {
+
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(referenceType, "Reference type must not be null!");
+
+		if (value instanceof Resources && !targets.isEmpty()) {
+
+			Resources<?> resources = (Resources<?>) value;
+			StreamingContent<?> content = StreamingContent.of(resources);
+
+			if (content != null && !hasProcessorsFor(getRawType(referenceType), value)) {
+				content.map(elementProcessor).applyTo(resources);
+				return value;
+			}
+		}
+
+		return hasProcessorsFor(value, referenceType) ? super.invokeProcessorsFor(value, referenceType) : value;
+	}
+
+	/**
+	 * Returns whether any of the registered {@link ResourceProcessor}s might have to be invoked for the given value and
+	 * reference type. For {@link Resources} this includes the processors applying to its elements.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param referenceType must not be {@literal null}.
+	 * @return
+	 */
+	private boolean hasProcessorsFor(Object value, ResolvableType referenceType) {
+
+		if (targets.isEmpty()) {
+			return false;
+		}
+
+		if (hasProcessorsFor(getRawType(referenceType), value)) {
+			return true;
+		}
+
+		if (!Resources.class.isAssignableFrom(getRawType(referenceType))) {
+			return false;
+		}
+
+		// Elements are processed using their actual type as reference type
+		for (Object element : (Resources<?>) value) {
+			if (element != null && hasProcessorsFor(element.getClass(), element)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean hasProcessorsFor(Class<?> referenceType, Object value) {
+
+		Class<?> contentType = getContentType(value);
+		CacheKey key = new CacheKey(referenceType, contentType);
+		Boolean result = cache.get(key);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = false;
+
+		for (ProcessorTarget target : targets) {
+			if (target.mightApplyTo(referenceType, contentType)) {
+				result = true;
+				break;
+			}
+		}
+
+		cache.put(key, result);
+
+		return result;
+	}
+
+	private static Class<?> getContentType(Object value) {
+
+		if (!(value instanceof Resource)) {
+			return null;
+		}
+
+		Object content = ((Resource<?>) value).getContent();
+		return content == null ? null : content.getClass();
+	}
+
+	private static Class<?> getRawType(ResolvableType type) {
+
+		Class<?> rawType = type.getRawClass();
+		return rawType == null ? Object.class : rawType;
+	}
+
+	/**
+	 * The type a {@link ResourceProcessor} is declared for. Only captures the necessary conditions for a processor to be
+	 * invoked, i.e. the final decision is left to the {@link ResourceProcessorInvoker}.
+	 *
+	 * @author agent
+	 */
+	private static class ProcessorTarget {
+
+		private final Class<?> rawType;
+		private final ResolvableType resourceContentType;
+
+		private ProcessorTarget(ResolvableType targetType) {
+
+			this.rawType = getRawType(targetType);
+			this.resourceContentType = Resource.class.isAssignableFrom(rawType) ? findResourceContentType(targetType)
+					: null;
+		}
+
+		public static ProcessorTarget of(ResourceProcessor<?> processor) {
+			return new ProcessorTarget(ResolvableType.forClass(ResourceProcessor.class, processor.getClass()).getGeneric(0));
+		}
+
+		/**
+		 * Returns whether the processor might apply to values of the given reference type carrying content of the given
+		 * type.
+		 *
+		 * @param referenceType must not be {@literal null}.
+		 * @param contentType can be {@literal null}.
+		 * @return
+		 */
+		public boolean mightApplyTo(Class<?> referenceType, Class<?> contentType) {
+
+			if (!rawType.isAssignableFrom(referenceType)) {
+				return false;
+			}
+
+			if (resourceContentType == null || !Resource.class.isAssignableFrom(referenceType)) {
+				return true;
+			}
+
+			return contentType != null && resourceContentType.isAssignableFrom(ResolvableType.forClass(contentType));
+		}
+
+		private static ResolvableType findResourceContentType(ResolvableType source) {
+
+			Class<?> rawType = getRawType(source);
+
+			if (Object.class.equals(rawType)) {
+				return null;
+			}
+
+			if (Resource.class.equals(rawType)) {
+				return source.getGeneric(0);
+			}
+
+			return findResourceContentType(source.getSuperType());
+		}
+	}
+
+	/**
+	 * Cache key for a combination of reference type and content type.
+	 *
+	 * @author agent
+	 */
+	@Value
+	private static class CacheKey {
+
+		Class<?> referenceType;
+		Class<?> contentType;
+	}
+}
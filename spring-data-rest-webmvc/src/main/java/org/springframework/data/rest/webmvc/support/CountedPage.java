@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.rest.core.support.CountStrategy;
+
+/**
+ * A page whose total number of elements was determined by a {@link CountStrategy} and thus might be estimated.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 4867542153542917367L;
+
+	private final boolean exact;
+
+	/**
+	 * Creates a new {@link CountedPage}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param total the total number of elements.
+	 * @param exact whether the total number of elements is exact.
+	 */
+	public CountedPage(List<T> content, Pageable pageable, long total, boolean exact) {
+
+		super(content, pageable, total);
+
+		this.exact = exact;
+	}
+
+	/**
+	 * Returns whether the total number of elements is exact or estimated.
+	 *
+	 * @return
+	 */
+	public boolean isTotalExact() {
+		return exact;
+	}
+}
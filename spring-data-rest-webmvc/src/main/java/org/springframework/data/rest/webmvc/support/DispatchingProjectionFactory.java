@@ -0,0 +1,535 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link SpelAwareProxyProjectionFactory} that precomputes how to implement a projection interface for a particular
+ * source type on first use. The projections created are instances of a JDK proxy class generated once per projection
+ * interface, dispatching each getter through a lookup table prepared for the (projection interface, source type) pair:
+ * <ul>
+ * <li>Getters of closed projections directly invoke the corresponding getter of the source (or read the field if
+ * there's no getter).</li>
+ * <li>Getters annotated with {@link Value} evaluate the expression compiled to bytecode by the SpEL compiler on first
+ * use.</li>
+ * </ul>
+ * This avoids the AOP interceptor chain set up per projection instance and the interpreted SpEL evaluation of the
+ * default implementation. The return values are post-processed the same way, i.e. nested projections, collections and
+ * maps of them are projected and other values converted if necessary.
+ * <p>
+ * Projection interfaces containing methods that can't be handled that way (setters, default methods, properties the
+ * source type doesn't expose) as well as {@link Map} sources fall back to the proxies created by the superclass.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class DispatchingProjectionFactory extends SpelAwareProxyProjectionFactory {
+
+	private static final ConversionService CONVERSION_SERVICE = new DefaultConversionService();
+	private static final Object NO_TEMPLATE = new Object();
+
+	private final Map<TemplateKey, Object> templates = new ConcurrentReferenceHashMap<TemplateKey, Object>();
+	private final StandardEvaluationContext evaluationContext;
+
+	private SpelExpressionParser parser;
+	private ClassLoader classLoader;
+
+	/**
+	 * Creates a new {@link DispatchingProjectionFactory}.
+	 */
+	public DispatchingProjectionFactory() {
+
+		this.classLoader = ClassUtils.getDefaultClassLoader();
+		this.parser = createParser(classLoader);
+		this.evaluationContext = new StandardEvaluationContext();
+		this.evaluationContext.addPropertyAccessor(new MapAccessor());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.SpelAwareProxyProjectionFactory#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		super.setBeanFactory(beanFactory);
+
+		this.evaluationContext.setBeanResolver(beanFactory == null ? null : new BeanFactoryResolver(beanFactory));
+		this.templates.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.ProxyProjectionFactory#setResourceLoader(org.springframework.core.io.ResourceLoader)
+	 */
+	@Override
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+
+		super.setResourceLoader(resourceLoader);
+
+		this.classLoader = resourceLoader.getClassLoader();
+		this.parser = createParser(classLoader);
+		this.templates.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.ProxyProjectionFactory#createProjection(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T createProjection(Class<T> projectionType, Object source) {
+
+		Assert.notNull(projectionType, "Projection type must not be null!");
+
+		if (source == null || projectionType.isInstance(source) || !projectionType.isInterface()) {
+			return super.createProjection(projectionType, source);
+		}
+
+		ProjectionTemplate template = getTemplate(projectionType, source.getClass());
+
+		return template == null ? super.createProjection(projectionType, source) : (T) template.createProjection(source);
+	}
+
+	private ProjectionTemplate getTemplate(Class<?> projectionType, Class<?> sourceType) {
+
+		TemplateKey key = new TemplateKey(projectionType, sourceType);
+		Object template = templates.get(key);
+
+		if (template == null) {
+
+			template = ProjectionTemplate.of(projectionType, sourceType, this);
+			template = template == null ? NO_TEMPLATE : template;
+
+			templates.put(key, template);
+		}
+
+		return template == NO_TEMPLATE ? null : (ProjectionTemplate) template;
+	}
+
+	private static SpelExpressionParser createParser(ClassLoader classLoader) {
+		return new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, classLoader));
+	}
+
+	/**
+	 * The precomputed implementation of a projection interface for a particular source type.
+	 *
+	 * @author agent
+	 */
+	private static class ProjectionTemplate {
+
+		private final Constructor<?> constructor;
+		private final Map<Method, PropertyAccessor> accessors;
+		private final Method targetMethod, targetClassMethod;
+
+		private ProjectionTemplate(Constructor<?> constructor, Map<Method, PropertyAccessor> accessors) {
+
+			this.constructor = constructor;
+			this.accessors = accessors;
+			this.targetMethod = ReflectionUtils.findMethod(TargetAware.class, "getTarget");
+			this.targetClassMethod = ReflectionUtils.findMethod(TargetAware.class, "getTargetClass");
+		}
+
+		/**
+		 * Creates a {@link ProjectionTemplate} for the given projection interface and source type.
+		 *
+		 * @param projectionType must not be {@literal null}.
+		 * @param sourceType must not be {@literal null}.
+		 * @param factory must not be {@literal null}.
+		 * @return the {@link ProjectionTemplate} or {@literal null} if the projection can't be precomputed.
+		 */
+		public static ProjectionTemplate of(Class<?> projectionType, Class<?> sourceType,
+				DispatchingProjectionFactory factory) {
+
+			if (Map.class.isAssignableFrom(sourceType)) {
+				return null;
+			}
+
+			Map<Method, PropertyAccessor> accessors = new HashMap<Method, PropertyAccessor>();
+
+			for (Method method : projectionType.getMethods()) {
+
+				// Default methods
+				if (!Modifier.isAbstract(method.getModifiers())) {
+					return null;
+				}
+
+				ValueProcessor processor = new ValueProcessor(method, factory);
+				Value annotation = method.getAnnotation(Value.class);
+
+				if (annotation != null) {
+
+					Expression expression = factory.parser.parseExpression(annotation.value(),
+							ParserContext.TEMPLATE_EXPRESSION);
+					accessors.put(method, new ExpressionAccessor(expression, factory.evaluationContext, processor));
+
+					continue;
+				}
+
+				PropertyAccessor accessor = SourcePropertyAccessor.of(method, sourceType, processor);
+
+				if (accessor == null) {
+					return null;
+				}
+
+				accessors.put(method, accessor);
+			}
+
+			try {
+
+				Class<?> proxyType = Proxy.getProxyClass(factory.classLoader, projectionType, TargetAware.class);
+				return new ProjectionTemplate(proxyType.getConstructor(InvocationHandler.class), accessors);
+
+			} catch (IllegalArgumentException o_O) {
+				return null;
+			} catch (NoSuchMethodException o_O) {
+				return null;
+			}
+		}
+
+		/**
+		 * Creates a new projection for the given source.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @return
+		 */
+		public Object createProjection(Object source) {
+			return BeanUtils.instantiateClass(constructor, new ProjectionInvocationHandler(this, source));
+		}
+	}
+
+	/**
+	 * {@link InvocationHandler} dispatching the invocations on a projection to the precomputed
+	 * {@link PropertyAccessor}s.
+	 *
+	 * @author agent
+	 */
+	private static class ProjectionInvocationHandler implements InvocationHandler {
+
+		private final ProjectionTemplate template;
+		private final Object target;
+
+		public ProjectionInvocationHandler(ProjectionTemplate template, Object target) {
+
+			this.template = template;
+			this.target = target;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			PropertyAccessor accessor = template.accessors.get(method);
+
+			if (accessor != null) {
+				return accessor.getValue(target, args);
+			}
+
+			if (method.equals(template.targetMethod)) {
+				return target;
+			}
+
+			if (method.equals(template.targetClassMethod)) {
+				return target.getClass();
+			}
+
+			if (ReflectionUtils.isEqualsMethod(method)) {
+				return proxy == args[0];
+			}
+
+			if (ReflectionUtils.isHashCodeMethod(method)) {
+				return System.identityHashCode(proxy);
+			}
+
+			if (ReflectionUtils.isToStringMethod(method)) {
+				return target.toString();
+			}
+
+			throw new IllegalStateException(String.format("Unexpected invocation of %s on projection!", method));
+		}
+	}
+
+	/**
+	 * Obtains the value for a projection method from a source object.
+	 *
+	 * @author agent
+	 */
+	private static interface PropertyAccessor {
+
+		/**
+		 * Returns the value for the projection method from the given source object.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param args the arguments the projection method was invoked with, can be {@literal null}.
+		 * @return
+		 */
+		Object getValue(Object source, Object[] args);
+	}
+
+	/**
+	 * {@link PropertyAccessor} reading the property from the source via its getter or field.
+	 *
+	 * @author agent
+	 */
+	private static class SourcePropertyAccessor implements PropertyAccessor {
+
+		private final Method getter;
+		private final Field field;
+		private final ValueProcessor processor;
+
+		private SourcePropertyAccessor(Method getter, Field field, ValueProcessor processor) {
+
+			this.getter = getter;
+			this.field = field;
+			this.processor = processor;
+		}
+
+		/**
+		 * Creates a {@link SourcePropertyAccessor} for the property the given projection method refers to.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @param sourceType must not be {@literal null}.
+		 * @param processor must not be {@literal null}.
+		 * @return the {@link SourcePropertyAccessor} or {@literal null} if the method is not a getter or the source type
+		 *         doesn't expose the property.
+		 */
+		public static SourcePropertyAccessor of(Method method, Class<?> sourceType, ValueProcessor processor) {
+
+			PropertyDescriptor descriptor = BeanUtils.findPropertyForMethod(method);
+
+			if (descriptor == null || !method.equals(descriptor.getReadMethod())) {
+				return null;
+			}
+
+			PropertyDescriptor sourceDescriptor = BeanUtils.getPropertyDescriptor(sourceType, descriptor.getName());
+			Method getter = sourceDescriptor == null ? null : sourceDescriptor.getReadMethod();
+
+			if (getter != null) {
+
+				ReflectionUtils.makeAccessible(getter);
+				return new SourcePropertyAccessor(getter, null, processor);
+			}
+
+			Field field = ReflectionUtils.findField(sourceType, descriptor.getName());
+
+			if (field == null) {
+				return null;
+			}
+
+			ReflectionUtils.makeAccessible(field);
+			return new SourcePropertyAccessor(null, field, processor);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.support.DispatchingProjectionFactory.PropertyAccessor#getValue(java.lang.Object, java.lang.Object[])
+		 */
+		@Override
+		public Object getValue(Object source, Object[] args) {
+
+			Object value = getter != null ? ReflectionUtils.invokeMethod(getter, source)
+					: ReflectionUtils.getField(field, source);
+
+			return processor.process(value);
+		}
+	}
+
+	/**
+	 * {@link PropertyAccessor} evaluating a SpEL expression against the source.
+	 *
+	 * @author agent
+	 */
+	private static class ExpressionAccessor implements PropertyAccessor {
+
+		private static final Object[] NO_ARGS = new Object[0];
+
+		private final Expression expression;
+		private final EvaluationContext context;
+		private final ValueProcessor processor;
+
+		public ExpressionAccessor(Expression expression, EvaluationContext context, ValueProcessor processor) {
+
+			this.expression = expression;
+			this.context = context;
+			this.processor = processor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.support.DispatchingProjectionFactory.PropertyAccessor#getValue(java.lang.Object, java.lang.Object[])
+		 */
+		@Override
+		public Object getValue(Object source, Object[] args) {
+			Object root = new TargetWrapper(source, args == null ? NO_ARGS : args);
+			return processor.process(expression.getValue(context, root));
+		}
+	}
+
+	/**
+	 * Post-processes the raw values obtained for a projection method: projects nested values, collections and maps of
+	 * them if necessary and converts other values into the method's return type.
+	 *
+	 * @author agent
+	 */
+	private static class ValueProcessor {
+
+		private final TypeInformation<?> type;
+		private final Class<?> rawType;
+		private final DispatchingProjectionFactory factory;
+
+		public ValueProcessor(Method method, DispatchingProjectionFactory factory) {
+
+			this.type = ClassTypeInformation.fromReturnTypeOf(method);
+			this.rawType = type.getType();
+			this.factory = factory;
+		}
+
+		public Object process(Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (type.isCollectionLike() && !ClassUtils.isPrimitiveArray(rawType)) {
+				return projectCollectionElements(asCollection(value));
+			}
+
+			if (type.isMap()) {
+				return projectMapValues((Map<?, ?>) value);
+			}
+
+			if (!rawType.isInstance(value) && CONVERSION_SERVICE.canConvert(value.getClass(), rawType)) {
+				return CONVERSION_SERVICE.convert(value, rawType);
+			}
+
+			return getProjection(value, rawType);
+		}
+
+		private Object projectCollectionElements(Collection<?> sources) {
+
+			Class<?> elementType = type.getComponentType().getType();
+			Collection<Object> result = CollectionFactory.createCollection(rawType.isArray() ? List.class : rawType,
+					sources.size());
+
+			for (Object source : sources) {
+				result.add(getProjection(source, elementType));
+			}
+
+			return rawType.isArray() ? result.toArray((Object[]) Array.newInstance(elementType, result.size())) : result;
+		}
+
+		private Map<Object, Object> projectMapValues(Map<?, ?> sources) {
+
+			Class<?> valueType = type.getMapValueType().getType();
+			Map<Object, Object> result = CollectionFactory.createMap(rawType, sources.size());
+
+			for (Entry<?, ?> source : sources.entrySet()) {
+				result.put(source.getKey(), getProjection(source.getValue(), valueType));
+			}
+
+			return result;
+		}
+
+		private Object getProjection(Object value, Class<?> type) {
+			return value == null || ClassUtils.isAssignable(type, value.getClass()) ? value
+					: factory.createProjection(type, value);
+		}
+
+		private static Collection<?> asCollection(Object source) {
+
+			if (source instanceof Collection) {
+				return (Collection<?>) source;
+			}
+
+			if (source.getClass().isArray()) {
+				return Arrays.asList(ObjectUtils.toObjectArray(source));
+			}
+
+			return Collections.singleton(source);
+		}
+	}
+
+	/**
+	 * The root object of the SpEL expressions of open projections, exposing the source as {@code target} and the method
+	 * arguments as {@code args}.
+	 *
+	 * @author agent
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class TargetWrapper {
+
+		private final Object target;
+		private final Object[] args;
+	}
+
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static class TemplateKey {
+
+		private final Class<?> projectionType;
+		private final Class<?> sourceType;
+	}
+}
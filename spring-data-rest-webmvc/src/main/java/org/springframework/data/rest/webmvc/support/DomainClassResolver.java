@@ -21,17 +21,18 @@ import lombok.RequiredArgsConstructor;
 import java.lang.reflect.Method;
 
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.BaseUri;
-import org.springframework.data.rest.webmvc.util.UriUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.NativeWebRequest;
 
 /**
  * Resolves a domain class from a web request. Domain class resolution is only available for {@link NativeWebRequest web
- * requests} related to mapped and exported {@link Repositories}.
+ * requests} related to mapped and exported {@link Repositories}. Requests to association resources resolve to the
+ * domain type of the association's members.
  *
  * @author Mark Paluch
  * @author Oliver Gierke
@@ -57,23 +58,47 @@ public class DomainClassResolver {
 		Assert.notNull(method, "Method must not be null!");
 		Assert.notNull(webRequest, "NativeWebRequest must not be null!");
 
-		String lookupPath = baseUri.getRepositoryLookupPath(webRequest);
-		String repositoryKey = UriUtils.findMappingVariable("repository", method, lookupPath);
+		RepositoryRequestContext context = RepositoryRequestContext.of(webRequest, method);
+		String repositoryKey = context.getRepositoryKey(baseUri);
 
 		if (!StringUtils.hasText(repositoryKey)) {
-			throw new IllegalArgumentException(String.format("Could not determine a repository key from %s.", lookupPath));
+			throw new IllegalArgumentException(
+					String.format("Could not determine a repository key from %s.", context.getLookupPath(baseUri)));
 		}
 
-		for (Class<?> domainType : repositories) {
+		ResourceMetadata mapping = mappings.getExportedMetadataFor(repositoryKey);
 
-			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
+		if (mapping != null && repositories.hasRepositoryFor(mapping.getDomainType())) {
 
-			if (mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return domainType;
-			}
+			Class<?> propertyType = getPropertyType(mapping, context.getMappingVariable("property", baseUri));
+			return propertyType == null ? mapping.getDomainType() : propertyType;
 		}
 
 		throw new IllegalArgumentException(
 				String.format("Could not resolve an exported domain type for %s.", repositoryKey));
 	}
+
+	/**
+	 * Returns the domain type of the members of the exported association with the given mapped path.
+	 *
+	 * @param mapping must not be {@literal null}.
+	 * @param propertyPath can be {@literal null}.
+	 * @return the domain type or {@literal null} if the path doesn't point to an exported association.
+	 */
+	private Class<?> getPropertyType(ResourceMetadata mapping, String propertyPath) {
+
+		if (!StringUtils.hasText(propertyPath)) {
+			return null;
+		}
+
+		PropertyAwareResourceMapping propertyMapping = mapping.getProperty(propertyPath);
+
+		if (propertyMapping == null || !propertyMapping.isExported()) {
+			return null;
+		}
+
+		Class<?> type = propertyMapping.getProperty().getActualType();
+
+		return repositories.hasRepositoryFor(type) ? type : null;
+	}
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * {@link AssociationQueryExecutor} reading the members of the association from the owning entity and paging them in
+ * memory. Used as fallback for stores that don't provide a dedicated {@link AssociationQueryExecutor}. Sort properties
+ * are expected to be {@link Comparable}.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class InMemoryAssociationQueryExecutor implements AssociationQueryExecutor {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.AssociationQueryExecutor#supports(org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery)
+	 */
+	@Override
+	public boolean supports(AssociationQuery query) {
+		return query.getProperty().isCollectionLike();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.AssociationQueryExecutor#findAll(org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Page<Object> findAll(AssociationQuery query, Pageable pageable) {
+
+		List<Object> members = getMembers(query);
+
+		if (pageable.getSort() != null) {
+			Collections.sort(members, new SortComparator(pageable.getSort()));
+		}
+
+		int from = Math.min(pageable.getOffset(), members.size());
+		int to = Math.min(from + pageable.getPageSize(), members.size());
+
+		return new PageImpl<Object>(new ArrayList<Object>(members.subList(from, to)), pageable, members.size());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.AssociationQueryExecutor#findOne(org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery, java.lang.Object)
+	 */
+	@Override
+	public Object findOne(AssociationQuery query, Object id) {
+
+		for (Object member : getMembers(query)) {
+
+			Object identifier = query.getTarget().getIdentifierAccessor(member).getIdentifier();
+
+			if (identifier != null && id.toString().equals(identifier.toString())) {
+				return member;
+			}
+		}
+
+		return null;
+	}
+
+	private static List<Object> getMembers(AssociationQuery query) {
+
+		PersistentProperty<?> property = query.getProperty();
+		Object value = property.getOwner().getPropertyAccessor(query.getOwner()).getProperty(property);
+
+		if (value == null) {
+			return new ArrayList<Object>();
+		}
+
+		List<Object> members = new ArrayList<Object>();
+
+		for (Object member : (Iterable<?>) value) {
+			members.add(member);
+		}
+
+		return members;
+	}
+
+	/**
+	 * {@link Comparator} ordering objects by the properties of a {@link Sort}.
+	 *
+	 * @author agent
+	 */
+	private static class SortComparator implements Comparator<Object> {
+
+		private final Sort sort;
+
+		public SortComparator(Sort sort) {
+			this.sort = sort;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public int compare(Object left, Object right) {
+
+			DirectFieldAccessFallbackBeanWrapper leftWrapper = new DirectFieldAccessFallbackBeanWrapper(left);
+			DirectFieldAccessFallbackBeanWrapper rightWrapper = new DirectFieldAccessFallbackBeanWrapper(right);
+
+			for (Order order : sort) {
+
+				int result = compareValues(leftWrapper.getPropertyValue(order.getProperty()),
+						rightWrapper.getPropertyValue(order.getProperty()));
+
+				if (result != 0) {
+					return order.isAscending() ? result : -result;
+				}
+			}
+
+			return 0;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static int compareValues(Object left, Object right) {
+
+			if (left == null || right == null) {
+				return left == right ? 0 : left == null ? -1 : 1;
+			}
+
+			return ((Comparable) left).compareTo(right);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * {@link KeysetPagingExecutor} that reads the items sorted through the {@link RepositoryInvoker} and skips the ones not
+ * following the {@link Keyset} in memory. Every request reads all items up to the end of the requested page, so
+ * navigating to deeper pages gets as expensive as offset paging. Only use it for in-memory stores like the key-value
+ * one, where there is no query to push the keyset predicate into. Not registered by default, keyset paged collection
+ * resources of domain types no {@link KeysetPagingExecutor} supports fall back to offset paging. Declare it as Spring
+ * bean to use it.
+ * <p>
+ * {@literal null} values are considered to precede all other values unless the {@link Order} requests
+ * {@link NullHandling#NULLS_LAST}, independently of the direction. The store is expected to sort the items returned by
+ * {@link RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)} the same way.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class InMemoryKeysetPagingExecutor implements KeysetPagingExecutor {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.KeysetPagingExecutor#supports(java.lang.Class, org.springframework.data.repository.support.RepositoryInvoker)
+	 */
+	@Override
+	public boolean supports(Class<?> domainType, RepositoryInvoker invoker) {
+		return invoker.exposesFindAll();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.KeysetPagingExecutor#findAll(org.springframework.data.repository.support.RepositoryInvoker, org.springframework.data.rest.webmvc.support.KeysetPagingExecutor.KeysetQuery)
+	 */
+	@Override
+	public List<?> findAll(RepositoryInvoker invoker, KeysetQuery query) {
+
+		List<Object> result = new ArrayList<Object>(query.getLimit());
+		boolean following = query.getKeyset() == null;
+
+		for (Object element : invoker.invokeFindAll(query.getSort())) {
+
+			if (result.size() == query.getLimit()) {
+				break;
+			}
+
+			// Items are sorted, so all items after the first one following the keyset follow it, too
+			if (following || compare(element, query) > 0) {
+				following = true;
+				result.add(element);
+			}
+		}
+
+		return result;
+	}
+
+	private static int compare(Object element, KeysetQuery query) {
+
+		DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(element);
+
+		for (Order order : query.getSort()) {
+
+			int result = compareValues(wrapper.getPropertyValue(order.getProperty()),
+					query.getKeyset().getValue(order.getProperty()), order);
+
+			if (result != 0) {
+				return result;
+			}
+		}
+
+		return 0;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compareValues(Object left, Object right, Order order) {
+
+		if (left == null || right == null) {
+
+			if (left == right) {
+				return 0;
+			}
+
+			boolean nullsLast = NullHandling.NULLS_LAST.equals(order.getNullHandling());
+			return (left == null) == nullsLast ? 1 : -1;
+		}
+
+		int result = ((Comparable) left).compareTo(right);
+
+		return order.isAscending() ? result : -result;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+/**
+ * An exception being thrown in case the cursor handed to a keyset paged collection resource can't be used.
+ *
+ * @author agent
+ * @since 2.6
+ * @see Keyset#parse(String, Class)
+ */
+public class InvalidCursorException extends RuntimeException {
+
+	private static final long serialVersionUID = -4361328862429186517L;
+
+	/**
+	 * Creates a new {@link InvalidCursorException} for the given cursor and cause.
+	 *
+	 * @param cursor can be {@literal null}.
+	 * @param cause can be {@literal null}.
+	 */
+	public InvalidCursorException(String cursor, Throwable cause) {
+		super(String.format("Invalid cursor %s!", cursor), cause);
+	}
+}
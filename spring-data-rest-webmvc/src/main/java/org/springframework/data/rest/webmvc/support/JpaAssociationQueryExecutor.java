@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.ListJoin;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link AssociationQueryExecutor} issuing JPA criteria queries joining the members of the association from the owning
+ * entity, so that only the requested members are loaded instead of initializing the entire collection. Without a
+ * requested sort, members are ordered by the {@link OrderColumn} or {@link OrderBy} declared on the association and
+ * by their identifier otherwise. As the query is not issued through the repository, only associations to domain types
+ * direct queries were explicitly allowed for are supported.
+ *
+ * @author agent
+ * @since 2.6
+ * @see RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+ */
+public class JpaAssociationQueryExecutor extends JpaQuerySupport implements AssociationQueryExecutor {
+
+	private final RepositoryRestConfiguration configuration;
+
+	/**
+	 * Creates a new {@link JpaAssociationQueryExecutor} looking up the {@link EntityManagerFactory}s from the given
+	 * {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public JpaAssociationQueryExecutor(ListableBeanFactory beanFactory, RepositoryRestConfiguration configuration) {
+
+		super(beanFactory, configuration);
+
+		this.configuration = configuration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.AssociationQueryExecutor#supports(org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery)
+	 */
+	@Override
+	public boolean supports(AssociationQuery query) {
+
+		PersistentProperty<?> property = query.getProperty();
+		PersistentEntity<?, ?> owner = property.getOwner();
+		Class<?> targetType = query.getTarget().getType();
+
+		return property.isCollectionLike() && owner.hasIdProperty() && query.getTarget().hasIdProperty()
+				&& configuration.isDirectQueryAllowedFor(targetType) && getEntityManager(owner.getType()) != null
+				&& getEntityManager(targetType) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.AssociationQueryExecutor#findAll(org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Page<Object> findAll(AssociationQuery query, Pageable pageable) {
+
+		EntityManager em = getEntityManager(query.getProperty().getOwner().getType());
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+
+		CriteriaQuery<Object> criteria = builder.createQuery(Object.class);
+		Root<?> root = criteria.from(query.getProperty().getOwner().getType());
+
+		PersistentProperty<?> property = query.getProperty();
+		boolean indexed = pageable.getSort() == null && property.findAnnotation(OrderColumn.class) != null;
+		Join<?, ?> members = indexed ? root.joinList(property.getName()) : root.join(property.getName());
+
+		List<Order> orders = indexed ? Collections.singletonList(builder.asc(((ListJoin<?, ?>) members).index()))
+				: toOrders(pageable.getSort() == null ? getDefaultSort(query) : pageable.getSort(), members, builder);
+
+		criteria.select(members).where(isOwner(query, root, builder)).orderBy(orders);
+
+		List<Object> content = em.createQuery(criteria).//
+				setFirstResult(pageable.getOffset()).//
+				setMaxResults(pageable.getPageSize()).//
+				getResultList();
+
+		return new PageImpl<Object>(content, pageable, getTotal(query, pageable, content, em));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.AssociationQueryExecutor#findOne(org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery, java.lang.Object)
+	 */
+	@Override
+	public Object findOne(AssociationQuery query, Object id) {
+
+		EntityManager em = getEntityManager(query.getProperty().getOwner().getType());
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+
+		CriteriaQuery<Object> criteria = builder.createQuery(Object.class);
+		Root<?> root = criteria.from(query.getProperty().getOwner().getType());
+		Join<?, ?> members = root.join(query.getProperty().getName());
+
+		Predicate isMember = builder.equal(members.get(query.getTarget().getIdProperty().getName()), id);
+		criteria.select(members).where(isOwner(query, root, builder), isMember);
+
+		List<Object> result = em.createQuery(criteria).setMaxResults(1).getResultList();
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	/**
+	 * Returns the {@link Sort} declared through {@link OrderBy} on the association or the one by the identifier of the
+	 * members if none is declared.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return
+	 */
+	private static Sort getDefaultSort(AssociationQuery query) {
+
+		String idProperty = query.getTarget().getIdProperty().getName();
+		OrderBy orderBy = query.getProperty().findAnnotation(OrderBy.class);
+
+		if (orderBy == null || !StringUtils.hasText(orderBy.value())) {
+			return new Sort(idProperty);
+		}
+
+		List<Sort.Order> orders = new ArrayList<Sort.Order>();
+
+		for (String element : orderBy.value().split(",")) {
+
+			String[] parts = element.trim().split("\\s+");
+			Direction direction = parts.length > 1 ? Direction.fromString(parts[1]) : Direction.ASC;
+
+			orders.add(new Sort.Order(direction, parts[0]));
+		}
+
+		return new Sort(orders);
+	}
+
+	/**
+	 * Returns the total number of members of the association, only issuing a count query if it can't be derived from
+	 * the given content of the requested page.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @param em must not be {@literal null}.
+	 * @return
+	 */
+	private static long getTotal(AssociationQuery query, Pageable pageable, List<Object> content, EntityManager em) {
+
+		if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+			return pageable.getOffset() + content.size();
+		}
+
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Long> criteria = builder.createQuery(Long.class);
+		Root<?> root = criteria.from(query.getProperty().getOwner().getType());
+
+		criteria.select(builder.count(root.join(query.getProperty().getName()))).where(isOwner(query, root, builder));
+
+		return em.createQuery(criteria).getSingleResult();
+	}
+
+	/**
+	 * Returns the {@link Predicate} restricting the given {@link Root} to the owner of the association.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param root must not be {@literal null}.
+	 * @param builder must not be {@literal null}.
+	 * @return
+	 */
+	private static Predicate isOwner(AssociationQuery query, Root<?> root, CriteriaBuilder builder) {
+
+		PersistentEntity<?, ?> owner = query.getProperty().getOwner();
+		Object id = owner.getIdentifierAccessor(query.getOwner()).getIdentifier();
+
+		return builder.equal(root.get(owner.getIdProperty().getName()), id);
+	}
+}
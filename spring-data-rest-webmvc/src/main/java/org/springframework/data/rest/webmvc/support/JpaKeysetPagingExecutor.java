@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+
+/**
+ * {@link KeysetPagingExecutor} issuing a JPA criteria query that restricts the items to the ones following the
+ * {@link Keyset} and limits the result instead of skipping an offset. As the query is not issued through the
+ * repository, requests filtered through a Querydsl predicate aren't supported and only domain types direct queries
+ * were explicitly allowed for are. Sort properties are expected to be non-{@literal null}.
+ *
+ * @author agent
+ * @since 2.6
+ * @see RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+ */
+public class JpaKeysetPagingExecutor extends JpaQuerySupport implements KeysetPagingExecutor {
+
+	/**
+	 * Creates a new {@link JpaKeysetPagingExecutor} looking up the {@link EntityManagerFactory}s from the given
+	 * {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public JpaKeysetPagingExecutor(ListableBeanFactory beanFactory, RepositoryRestConfiguration configuration) {
+		super(beanFactory, configuration);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.KeysetPagingExecutor#findAll(org.springframework.data.repository.support.RepositoryInvoker, org.springframework.data.rest.webmvc.support.KeysetPagingExecutor.KeysetQuery)
+	 */
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public List<?> findAll(RepositoryInvoker invoker, KeysetQuery query) {
+
+		Class<Object> domainType = (Class<Object>) query.getDomainType();
+		EntityManager em = getEntityManager(domainType);
+
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Object> criteria = builder.createQuery(domainType);
+		Root<Object> root = criteria.from(domainType);
+
+		List<javax.persistence.criteria.Order> orders = new ArrayList<javax.persistence.criteria.Order>();
+		List<Predicate> alternatives = new ArrayList<Predicate>();
+		List<Predicate> equalities = new ArrayList<Predicate>();
+
+		for (Sort.Order order : query.getSort()) {
+
+			Expression<? extends Comparable> path = (Expression<? extends Comparable>) getPath(root, order.getProperty());
+			orders.add(order.isAscending() ? builder.asc(path) : builder.desc(path));
+
+			if (query.getKeyset() == null) {
+				continue;
+			}
+
+			Comparable value = (Comparable) query.getKeyset().getValue(order.getProperty());
+
+			List<Predicate> conjunction = new ArrayList<Predicate>(equalities);
+			conjunction.add(order.isAscending() ? builder.greaterThan(path, value) : builder.lessThan(path, value));
+
+			alternatives.add(builder.and(conjunction.toArray(new Predicate[conjunction.size()])));
+			equalities.add(builder.equal(path, value));
+		}
+
+		if (!alternatives.isEmpty()) {
+			criteria.where(builder.or(alternatives.toArray(new Predicate[alternatives.size()])));
+		}
+
+		criteria.select(root).orderBy(orders);
+
+		return em.createQuery(criteria).setMaxResults(query.getLimit()).getResultList();
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.metamodel.EntityType;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.querydsl.QueryDslUtils;
+import org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.util.Assert;
+
+/**
+ * Base class for components issuing JPA criteria queries for the collection resources of JPA managed domain types
+ * directly instead of through the repository. Requests filtered through a Querydsl predicate are not supported. As the
+ * queries bypass the repository, only domain types direct queries were explicitly allowed for are supported.
+ *
+ * @author agent
+ * @since 2.6
+ * @see RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+ */
+abstract class JpaQuerySupport {
+
+	private final ListableBeanFactory beanFactory;
+	private final RepositoryRestConfiguration configuration;
+	private volatile Map<Class<?>, EntityManager> entityManagers;
+
+	/**
+	 * Creates a new {@link JpaQuerySupport} looking up the {@link EntityManagerFactory}s from the given
+	 * {@link ListableBeanFactory} and only supporting the domain types the given {@link RepositoryRestConfiguration}
+	 * allows direct queries for.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	protected JpaQuerySupport(ListableBeanFactory beanFactory, RepositoryRestConfiguration configuration) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null!");
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null!");
+
+		this.beanFactory = beanFactory;
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Returns whether queries can be issued for the given domain type and {@link RepositoryInvoker}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supports(Class<?> domainType, RepositoryInvoker invoker) {
+
+		if (!configuration.isDirectQueryAllowedFor(domainType)) {
+			return false;
+		}
+
+		if (QueryDslUtils.QUERY_DSL_PRESENT && invoker instanceof QuerydslRepositoryInvokerAdapter) {
+			return false;
+		}
+
+		return getEntityManagers().containsKey(domainType);
+	}
+
+	/**
+	 * Returns the {@link EntityManager} managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	protected EntityManager getEntityManager(Class<?> domainType) {
+		return getEntityManagers().get(domainType);
+	}
+
+	/**
+	 * Returns the criteria {@link Order}s for the given {@link Sort}.
+	 *
+	 * @param sort can be {@literal null}.
+	 * @param root the {@link Path} the sort properties are relative to, must not be {@literal null}.
+	 * @param builder must not be {@literal null}.
+	 * @return
+	 */
+	protected static List<Order> toOrders(Sort sort, Path<?> root, CriteriaBuilder builder) {
+
+		List<Order> orders = new ArrayList<Order>();
+
+		if (sort == null) {
+			return orders;
+		}
+
+		for (Sort.Order order : sort) {
+
+			Path<?> path = getPath(root, order.getProperty());
+			orders.add(order.isAscending() ? builder.asc(path) : builder.desc(path));
+		}
+
+		return orders;
+	}
+
+	/**
+	 * Returns the {@link Path} for the given, potentially nested property.
+	 *
+	 * @param root the {@link Path} the property is relative to, must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	protected static Path<?> getPath(Path<?> root, String property) {
+
+		Path<?> path = root;
+
+		for (String segment : property.split("\\.")) {
+			path = path.get(segment);
+		}
+
+		return path;
+	}
+
+	private Map<Class<?>, EntityManager> getEntityManagers() {
+
+		Map<Class<?>, EntityManager> entityManagers = this.entityManagers;
+
+		if (entityManagers != null) {
+			return entityManagers;
+		}
+
+		entityManagers = new HashMap<Class<?>, EntityManager>();
+
+		for (EntityManagerFactory factory : BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(beanFactory, EntityManagerFactory.class).values()) {
+
+			EntityManager em = SharedEntityManagerCreator.createSharedEntityManager(factory);
+
+			for (EntityType<?> type : factory.getMetamodel().getEntities()) {
+				entityManagers.put(type.getJavaType(), em);
+			}
+		}
+
+		this.entityManagers = entityManagers;
+
+		return entityManagers;
+	}
+}
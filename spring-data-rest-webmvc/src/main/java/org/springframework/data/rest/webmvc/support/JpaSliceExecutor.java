@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+
+/**
+ * {@link SliceExecutor} issuing a JPA criteria query for a single element more than requested to find out whether
+ * there's a next slice instead of counting all elements. As the query bypasses the repository, only domain types direct
+ * queries were explicitly allowed for are supported.
+ *
+ * @author agent
+ * @since 2.6
+ * @see RepositoryRestConfiguration#allowDirectQueriesFor(Class...)
+ */
+public class JpaSliceExecutor extends JpaQuerySupport implements SliceExecutor {
+
+	/**
+	 * Creates a new {@link JpaSliceExecutor} looking up the {@link EntityManagerFactory}s from the given
+	 * {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public JpaSliceExecutor(ListableBeanFactory beanFactory, RepositoryRestConfiguration configuration) {
+		super(beanFactory, configuration);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.SliceExecutor#findAll(org.springframework.data.repository.support.RepositoryInvoker, java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Slice<Object> findAll(RepositoryInvoker invoker, Class<?> domainType, Pageable pageable) {
+
+		Class<Object> type = (Class<Object>) domainType;
+		EntityManager em = getEntityManager(type);
+
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Object> criteria = builder.createQuery(type);
+		Root<Object> root = criteria.from(type);
+
+		criteria.select(root).orderBy(toOrders(pageable.getSort(), root, builder));
+
+		List<Object> content = em.createQuery(criteria) //
+				.setFirstResult(pageable.getOffset()) //
+				.setMaxResults(pageable.getPageSize() + 1) //
+				.getResultList();
+
+		boolean hasNext = content.size() > pageable.getPageSize();
+
+		return new SliceImpl<Object>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.util.Assert;
+import org.springframework.util.Base64Utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The values of the sort properties of an item of a keyset paged collection resource, i.e. the position a page starts
+ * after. Keysets are exposed to clients as opaque, URL safe cursors.
+ *
+ * @author agent
+ * @since 2.6
+ * @see KeysetPaging
+ */
+public class Keyset {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final String BACKWARD_KEY = "b";
+	private static final String VALUES_KEY = "k";
+
+	private final Map<String, Object> values;
+	private final boolean backward;
+
+	private Keyset(Map<String, Object> values, boolean backward) {
+
+		this.values = values;
+		this.backward = backward;
+	}
+
+	/**
+	 * Creates a new {@link Keyset} from the values of the given {@link Sort}'s properties of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param backward whether the keyset is to be used to navigate to the preceding items.
+	 * @return
+	 */
+	public static Keyset of(Object entity, Sort sort, boolean backward) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+
+		DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+
+		for (Order order : sort) {
+			values.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+		}
+
+		return new Keyset(Collections.unmodifiableMap(values), backward);
+	}
+
+	/**
+	 * Parses the given cursor into a {@link Keyset} converting the values into the types of the given domain type's
+	 * properties.
+	 *
+	 * @param cursor must not be {@literal null} or empty.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @throws InvalidCursorException in case the given cursor can't be parsed.
+	 */
+	public static Keyset parse(String cursor, Class<?> domainType) {
+
+		Assert.hasText(cursor, "Cursor must not be null or empty!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		JsonNode source = null;
+
+		try {
+			source = MAPPER.readTree(Base64Utils.decodeFromUrlSafeString(cursor));
+		} catch (IOException o_O) {
+			throw new InvalidCursorException(cursor, o_O);
+		} catch (IllegalArgumentException o_O) {
+			throw new InvalidCursorException(cursor, o_O);
+		}
+
+		JsonNode keys = source == null ? null : source.get(VALUES_KEY);
+
+		if (keys == null || !keys.isObject()) {
+			throw new InvalidCursorException(cursor, null);
+		}
+
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		Iterator<Entry<String, JsonNode>> fields = keys.fields();
+
+		while (fields.hasNext()) {
+
+			Entry<String, JsonNode> field = fields.next();
+
+			try {
+
+				Class<?> type = PropertyPath.from(field.getKey(), domainType).getLeafProperty().getType();
+				values.put(field.getKey(), MAPPER.treeToValue(field.getValue(), type));
+
+			} catch (IOException o_O) {
+				throw new InvalidCursorException(cursor, o_O);
+			} catch (RuntimeException o_O) {
+				throw new InvalidCursorException(cursor, o_O);
+			}
+		}
+
+		return new Keyset(Collections.unmodifiableMap(values), source.path(BACKWARD_KEY).asBoolean());
+	}
+
+	/**
+	 * Returns whether the {@link Keyset} is to be used to navigate to the items preceding it.
+	 *
+	 * @return
+	 */
+	public boolean isBackward() {
+		return backward;
+	}
+
+	/**
+	 * Returns the value of the given sort property.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	public Object getValue(String property) {
+		return values.get(property);
+	}
+
+	/**
+	 * Returns whether the {@link Keyset} contains values for all properties of the given {@link Sort}.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @return
+	 */
+	public boolean covers(Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null!");
+
+		for (Order order : sort) {
+			if (!values.containsKey(order.getProperty())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the opaque, URL safe cursor representation of the {@link Keyset}.
+	 *
+	 * @return
+	 */
+	public String toCursor() {
+
+		Map<String, Object> source = new LinkedHashMap<String, Object>(2);
+		source.put(BACKWARD_KEY, backward);
+		source.put(VALUES_KEY, values);
+
+		try {
+			return Base64Utils.encodeToUrlSafeString(MAPPER.writeValueAsBytes(source));
+		} catch (JsonProcessingException o_O) {
+			throw new IllegalStateException(String.format("Could not render keyset %s as cursor!", values), o_O);
+		}
+	}
+}
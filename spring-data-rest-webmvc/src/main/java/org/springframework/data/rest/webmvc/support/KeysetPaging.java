@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.webmvc.support.KeysetPagingExecutor.KeysetQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Looks up the pages of keyset paged collection resources. Instead of skipping an offset, a page starts after the
+ * {@link Keyset} of the last item of the previous page (or before the one of the first item of the next page), which
+ * keeps the lookup of pages deep into large collections as cheap as the one of the first page. The sort is
+ * complemented by the identifier property to guarantee a stable, unique order.
+ *
+ * @author agent
+ * @since 2.6
+ * @see KeysetPagingExecutor
+ */
+public class KeysetPaging {
+
+	private final PersistentEntities entities;
+	private final List<KeysetPagingExecutor> executors;
+
+	/**
+	 * Creates a new {@link KeysetPaging} for the given {@link PersistentEntities} and {@link KeysetPagingExecutor}s.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param executors must not be {@literal null}.
+	 */
+	public KeysetPaging(PersistentEntities entities, List<? extends KeysetPagingExecutor> executors) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(executors, "KeysetPagingExecutors must not be null!");
+
+		this.entities = entities;
+		this.executors = new ArrayList<KeysetPagingExecutor>(executors);
+	}
+
+	/**
+	 * Returns the {@link KeysetWindow} of items of the given domain type for the given {@link Pageable} and cursor.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param cursor can be {@literal null} to look up the first page.
+	 * @return the {@link KeysetWindow} or {@literal null} if the domain type can't be paged by keyset.
+	 * @throws InvalidCursorException in case the given cursor can't be used.
+	 */
+	public KeysetWindow getWindow(RepositoryInvoker invoker, Class<?> domainType, Pageable pageable, String cursor) {
+
+		Assert.notNull(invoker, "RepositoryInvoker must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+
+		Sort sort = getKeysetSort(domainType, pageable.getSort());
+		KeysetPagingExecutor executor = invoker.exposesFindAll() ? getExecutorFor(domainType, invoker) : null;
+
+		if (sort == null || executor == null) {
+			return null;
+		}
+
+		Keyset keyset = StringUtils.hasText(cursor) ? Keyset.parse(cursor, domainType) : null;
+
+		if (keyset != null && !keyset.covers(sort)) {
+			throw new InvalidCursorException(cursor, null);
+		}
+
+		boolean backward = keyset != null && keyset.isBackward();
+		int size = pageable.getPageSize();
+
+		List<?> result = executor.findAll(invoker,
+				new KeysetQuery(domainType, backward ? invert(sort) : sort, keyset, size + 1));
+
+		boolean more = result.size() > size;
+		List<Object> content = new ArrayList<Object>(more ? result.subList(0, size) : result);
+
+		if (backward) {
+			Collections.reverse(content);
+		}
+
+		if (content.isEmpty()) {
+			return new KeysetWindow(content, null, null);
+		}
+
+		boolean hasNext = backward ? keyset != null : more;
+		boolean hasPrevious = backward ? more : keyset != null;
+
+		String next = hasNext ? Keyset.of(content.get(content.size() - 1), sort, false).toCursor() : null;
+		String previous = hasPrevious ? Keyset.of(content.get(0), sort, true).toCursor() : null;
+
+		return new KeysetWindow(content, next, previous);
+	}
+
+	private KeysetPagingExecutor getExecutorFor(Class<?> domainType, RepositoryInvoker invoker) {
+
+		for (KeysetPagingExecutor executor : executors) {
+			if (executor.supports(domainType, invoker)) {
+				return executor;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the given {@link Sort} complemented by the identifier property of the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return the {@link Sort} or {@literal null} if the domain type doesn't have an identifier property.
+	 */
+	private Sort getKeysetSort(Class<?> domainType, Sort sort) {
+
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(domainType);
+		PersistentProperty<?> idProperty = entity == null ? null : entity.getIdProperty();
+
+		if (idProperty == null) {
+			return null;
+		}
+
+		Sort idSort = new Sort(idProperty.getName());
+
+		if (sort == null) {
+			return idSort;
+		}
+
+		return sort.getOrderFor(idProperty.getName()) == null ? sort.and(idSort) : sort;
+	}
+
+	/**
+	 * Returns the reverse of the given {@link Sort}, i.e. inverts the direction and the position of {@literal null}
+	 * values of all of its {@link Order}s.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @return
+	 */
+	private static Sort invert(Sort sort) {
+
+		List<Order> orders = new ArrayList<Order>();
+
+		for (Order order : sort) {
+
+			NullHandling nullHandling = NullHandling.NULLS_LAST.equals(order.getNullHandling()) ? NullHandling.NULLS_FIRST
+					: NullHandling.NULLS_LAST;
+
+			orders.add(order.with(order.isAscending() ? Direction.DESC : Direction.ASC).with(nullHandling));
+		}
+
+		return new Sort(orders);
+	}
+
+	/**
+	 * A page of a keyset paged collection resource.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class KeysetWindow {
+
+		/**
+		 * The items of the page.
+		 */
+		List<Object> content;
+
+		/**
+		 * The cursor pointing to the next page, {@literal null} if there's no next page.
+		 */
+		String next;
+
+		/**
+		 * The cursor pointing to the previous page, {@literal null} if there's no previous page.
+		 */
+		String previous;
+	}
+}
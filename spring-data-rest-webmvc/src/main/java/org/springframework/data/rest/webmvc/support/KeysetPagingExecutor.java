@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.Value;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+
+/**
+ * SPI to look up the items of a keyset paged collection resource in a store specific way. Implementations registered
+ * as Spring beans are picked up automatically.
+ *
+ * @author agent
+ * @since 2.6
+ * @see KeysetPaging
+ */
+public interface KeysetPagingExecutor {
+
+	/**
+	 * Returns whether the executor can look up items of the given domain type for the given {@link RepositoryInvoker}.
+	 *
+	 * @param domainType will never be {@literal null}.
+	 * @param invoker will never be {@literal null}.
+	 * @return
+	 */
+	boolean supports(Class<?> domainType, RepositoryInvoker invoker);
+
+	/**
+	 * Returns at most {@link KeysetQuery#getLimit()} items ordered by {@link KeysetQuery#getSort()} that follow the
+	 * {@link KeysetQuery#getKeyset()} in that order. All items are to be returned from the start if no {@link Keyset} is
+	 * given.
+	 *
+	 * @param invoker will never be {@literal null}.
+	 * @param query will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	List<?> findAll(RepositoryInvoker invoker, KeysetQuery query);
+
+	/**
+	 * A query for the items following a {@link Keyset}.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class KeysetQuery {
+
+		/**
+		 * The domain type to look up items of.
+		 */
+		Class<?> domainType;
+
+		/**
+		 * The order of the items, the last sort property is guaranteed to be unique.
+		 */
+		Sort sort;
+
+		/**
+		 * The {@link Keyset} to start after, {@literal null} to start from the first item.
+		 */
+		Keyset keyset;
+
+		/**
+		 * The maximum number of items to return.
+		 */
+		int limit;
+	}
+}
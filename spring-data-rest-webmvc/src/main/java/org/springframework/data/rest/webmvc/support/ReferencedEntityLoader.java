@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Loads the entities referenced by URIs in fixed-size batches, i.e. usually with one
+ * {@link CrudRepository#findAll(Iterable)} per batch. The URIs are consumed lazily so that large lists of references
+ * can be processed while they're still being read.
+ *
+ * @author agent
+ * @since 2.6
+ * @see UriToEntityConverter#convertAll(List, Class)
+ */
+public class ReferencedEntityLoader {
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	private final UriToEntityConverter converter;
+	private final int batchSize;
+
+	/**
+	 * Creates a new {@link ReferencedEntityLoader} using the given {@link UriToEntityConverter} and the
+	 * {@value #DEFAULT_BATCH_SIZE} as batch size.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	public ReferencedEntityLoader(UriToEntityConverter converter) {
+		this(converter, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link ReferencedEntityLoader} using the given {@link UriToEntityConverter} and batch size.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public ReferencedEntityLoader(UriToEntityConverter converter, int batchSize) {
+
+		Assert.notNull(converter, "UriToEntityConverter must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.converter = converter;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the batches of entities of the given type referenced by the given URIs. Every batch is loaded once it's
+	 * requested from the returned {@link Iterator}. References that can't be resolved result in {@literal null}
+	 * elements.
+	 *
+	 * @param uris must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Iterator<List<Object>> load(final Iterator<String> uris, final Class<?> type) {
+
+		Assert.notNull(uris, "URIs must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		return new Iterator<List<Object>>() {
+
+			@Override
+			public boolean hasNext() {
+				return uris.hasNext();
+			}
+
+			@Override
+			public List<Object> next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				List<URI> batch = new ArrayList<URI>(batchSize);
+
+				while (uris.hasNext() && batch.size() < batchSize) {
+					batch.add(new UriTemplate(uris.next()).expand());
+				}
+
+				return converter.convertAll(batch, type);
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.BaseUri;
+import org.springframework.data.rest.webmvc.util.UriUtils;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+
+/**
+ * Request scoped holder for the repository related information derived from the current request. The argument resolvers
+ * for {@link ResourceMetadata}, {@link org.springframework.data.rest.webmvc.RootResourceInformation} and
+ * {@link BackendId} all work on the same lookup path, repository key and id segment, so the first one to need a
+ * particular piece of information computes it and all others read it from here.
+ * <p>
+ * The context is bound to the handler {@link Method} it was created for as the mapping variables depend on its request
+ * mapping.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class RepositoryRequestContext {
+
+	private static final String ATTRIBUTE_NAME = RepositoryRequestContext.class.getName();
+
+	private final NativeWebRequest request;
+	private final Method method;
+
+	private String lookupPath;
+	private boolean lookupPathResolved;
+
+	private String repositoryKey;
+	private boolean repositoryKeyResolved;
+
+	private boolean metadataResolved;
+	private ResourceMetadata metadata;
+
+	private PersistentEntity<?, ?> persistentEntity;
+	private RepositoryInvoker invoker;
+
+	private boolean idResolved;
+	private Serializable id;
+
+	/**
+	 * Creates a new {@link RepositoryRequestContext} for the given {@link NativeWebRequest} and handler {@link Method}.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	private RepositoryRequestContext(NativeWebRequest request, Method method) {
+
+		this.request = request;
+		this.method = method;
+	}
+
+	/**
+	 * Returns the {@link RepositoryRequestContext} for the given {@link NativeWebRequest} and handler {@link Method}.
+	 * Creates a new one and registers it as request attribute if none is present yet or the existing one was created for
+	 * a different handler method.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static RepositoryRequestContext of(NativeWebRequest request, Method method) {
+
+		Assert.notNull(request, "NativeWebRequest must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		Object candidate = request.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+		if (candidate instanceof RepositoryRequestContext && ((RepositoryRequestContext) candidate).method.equals(method)) {
+			return (RepositoryRequestContext) candidate;
+		}
+
+		RepositoryRequestContext context = new RepositoryRequestContext(request, method);
+		request.setAttribute(ATTRIBUTE_NAME, context, RequestAttributes.SCOPE_REQUEST);
+
+		return context;
+	}
+
+	/**
+	 * Returns the {@link RepositoryRequestContext} registered with the given {@link RequestAttributes}.
+	 *
+	 * @param attributes must not be {@literal null}.
+	 * @return the current {@link RepositoryRequestContext} or {@literal null} if none was created for the request yet.
+	 */
+	public static RepositoryRequestContext getCurrent(RequestAttributes attributes) {
+
+		Assert.notNull(attributes, "RequestAttributes must not be null!");
+
+		Object candidate = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+		return candidate instanceof RepositoryRequestContext ? (RepositoryRequestContext) candidate : null;
+	}
+
+	/**
+	 * Returns the lookup path within the repository URI space of the given {@link BaseUri}.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @return the lookup path or {@literal null} in case the request is not pointing into the repository URI space.
+	 * @see BaseUri#getRepositoryLookupPath(NativeWebRequest)
+	 */
+	public String getLookupPath(BaseUri baseUri) {
+
+		Assert.notNull(baseUri, "BaseUri must not be null!");
+
+		if (!lookupPathResolved) {
+			this.lookupPath = baseUri.getRepositoryLookupPath(request);
+			this.lookupPathResolved = true;
+		}
+
+		return lookupPath;
+	}
+
+	/**
+	 * Returns the repository key, i.e. the value of the {@code repository} mapping variable, from the lookup path.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @return the repository key or {@literal null} if not present.
+	 */
+	public String getRepositoryKey(BaseUri baseUri) {
+
+		if (!repositoryKeyResolved) {
+			this.repositoryKey = getMappingVariable("repository", baseUri);
+			this.repositoryKeyResolved = true;
+		}
+
+		return repositoryKey;
+	}
+
+	/**
+	 * Returns the value of the mapping variable with the given name from the lookup path.
+	 *
+	 * @param variable must not be {@literal null} or empty.
+	 * @param baseUri must not be {@literal null}.
+	 * @return the variable value or {@literal null} if not present.
+	 */
+	public String getMappingVariable(String variable, BaseUri baseUri) {
+		return UriUtils.findMappingVariable(variable, method, getLookupPath(baseUri));
+	}
+
+	/**
+	 * Returns whether the {@link ResourceMetadata} has already been resolved for the current request.
+	 *
+	 * @return
+	 */
+	public boolean hasResourceMetadata() {
+		return metadataResolved;
+	}
+
+	/**
+	 * Returns the {@link ResourceMetadata} resolved for the current request.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public ResourceMetadata getResourceMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * Registers the {@link ResourceMetadata} resolved for the current request.
+	 *
+	 * @param metadata can be {@literal null}.
+	 */
+	public void setResourceMetadata(ResourceMetadata metadata) {
+
+		this.metadata = metadata;
+		this.metadataResolved = true;
+	}
+
+	/**
+	 * Returns the {@link PersistentEntity} of the domain type backing the current request.
+	 *
+	 * @return can be {@literal null} if not resolved yet.
+	 */
+	public PersistentEntity<?, ?> getPersistentEntity() {
+		return persistentEntity;
+	}
+
+	/**
+	 * Returns the {@link RepositoryInvoker} for the domain type backing the current request.
+	 *
+	 * @return can be {@literal null} if not resolved yet.
+	 */
+	public RepositoryInvoker getInvoker() {
+		return invoker;
+	}
+
+	/**
+	 * Registers the {@link PersistentEntity} and the raw {@link RepositoryInvoker} for the domain type backing the
+	 * current request.
+	 *
+	 * @param persistentEntity can be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 */
+	public void setRepositoryInformation(PersistentEntity<?, ?> persistentEntity, RepositoryInvoker invoker) {
+
+		Assert.notNull(invoker, "RepositoryInvoker must not be null!");
+
+		this.persistentEntity = persistentEntity;
+		this.invoker = invoker;
+	}
+
+	/**
+	 * Returns whether the backend identifier has already been resolved for the current request.
+	 *
+	 * @return
+	 */
+	public boolean hasId() {
+		return idResolved;
+	}
+
+	/**
+	 * Returns the backend identifier resolved for the current request.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public Serializable getId() {
+		return id;
+	}
+
+	/**
+	 * Registers the backend identifier resolved for the current request.
+	 *
+	 * @param id can be {@literal null}.
+	 */
+	public void setId(Serializable id) {
+
+		this.id = id;
+		this.idResolved = true;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.hateoas.Link;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link SelfLinkProvider} that memoizes the self links created by a delegate {@link SelfLinkProvider} per entity
+ * instance for the duration of the current request. Rendering a single entity asks for its self link multiple times
+ * (the resource assembler, the {@link org.springframework.data.rest.webmvc.mapping.LinkCollector} and the
+ * {@code Location} header), so this avoids repeatedly resolving the identifier and building the URI.
+ * <p>
+ * Instances are tracked by identity. A cached link is only reused as long as the value the link is built from has not
+ * changed, i.e. the value exposed by the {@link EntityLookup} registered for the type or the identifier otherwise. That
+ * way instances that get an identifier assigned or their lookup property changed during the request don't end up with a
+ * stale link. Outside of a request, all calls are forwarded to the delegate.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class RequestScopedSelfLinkProvider implements SelfLinkProvider {
+
+	private static final String ATTRIBUTE_NAME = RequestScopedSelfLinkProvider.class.getName();
+
+	private final SelfLinkProvider delegate;
+	private final PersistentEntities entities;
+	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+
+	/**
+	 * Creates a new {@link RequestScopedSelfLinkProvider} for the given delegate {@link SelfLinkProvider} and
+	 * {@link PersistentEntities}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 */
+	public RequestScopedSelfLinkProvider(SelfLinkProvider delegate, PersistentEntities entities) {
+		this(delegate, entities, Collections.<EntityLookup<?>> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link RequestScopedSelfLinkProvider} for the given delegate {@link SelfLinkProvider},
+	 * {@link PersistentEntities} and the {@link EntityLookup}s the delegate uses to build the links.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 */
+	public RequestScopedSelfLinkProvider(SelfLinkProvider delegate, PersistentEntities entities,
+			List<? extends EntityLookup<?>> lookups) {
+
+		Assert.notNull(delegate, "Delegate SelfLinkProvider must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(lookups, "EntityLookups must not be null!");
+
+		this.delegate = delegate;
+		this.entities = entities;
+		this.lookups = OrderAwarePluginRegistry.create(lookups);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.SelfLinkProvider#createSelfLinkFor(java.lang.Object)
+	 */
+	@Override
+	public Link createSelfLinkFor(Object instance) {
+
+		Assert.notNull(instance, "Domain object must not be null!");
+
+		Map<Object, CachedLink> cache = getCache();
+
+		if (cache == null) {
+			return delegate.createSelfLinkFor(instance);
+		}
+
+		Object resourceId = getResourceId(instance);
+		CachedLink cached = cache.get(instance);
+
+		if (cached != null && ObjectUtils.nullSafeEquals(cached.resourceId, resourceId)) {
+			return cached.link;
+		}
+
+		Link link = delegate.createSelfLinkFor(instance);
+		cache.put(instance, new CachedLink(resourceId, link));
+
+		return link;
+	}
+
+	/**
+	 * Returns the value the self link of the given instance is built from.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private Object getResourceId(Object instance) {
+
+		EntityLookup<Object> lookup = (EntityLookup<Object>) lookups.getPluginFor(instance.getClass());
+
+		if (lookup != null) {
+			return lookup.getResourceIdentifier(instance);
+		}
+
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(instance.getClass());
+		return entity == null ? null : entity.getIdentifierAccessor(instance).getIdentifier();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Object, CachedLink> getCache() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return null;
+		}
+
+		Object cache = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+		if (cache == null) {
+			cache = new IdentityHashMap<Object, CachedLink>();
+			attributes.setAttribute(ATTRIBUTE_NAME, cache, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return (Map<Object, CachedLink>) cache;
+	}
+
+	/**
+	 * A {@link Link} along side the value it was built from.
+	 *
+	 * @author agent
+	 */
+	private static class CachedLink {
+
+		private final Object resourceId;
+		private final Link link;
+
+		public CachedLink(Object resourceId, Link link) {
+
+			this.resourceId = resourceId;
+			this.link = link;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.support.RepositoryInvoker;
+
+/**
+ * SPI to look up a {@link Slice} of a collection resource without counting all of its elements in a store specific
+ * way. Implementations registered as Spring beans are picked up automatically.
+ *
+ * @author agent
+ * @since 2.6
+ * @see SlicePaging
+ */
+public interface SliceExecutor {
+
+	/**
+	 * Returns whether the executor can look up slices of the given domain type for the given {@link RepositoryInvoker}.
+	 *
+	 * @param domainType will never be {@literal null}.
+	 * @param invoker will never be {@literal null}.
+	 * @return
+	 */
+	boolean supports(Class<?> domainType, RepositoryInvoker invoker);
+
+	/**
+	 * Returns the {@link Slice} of elements of the given domain type for the given {@link Pageable}.
+	 *
+	 * @param invoker will never be {@literal null}.
+	 * @param domainType will never be {@literal null}.
+	 * @param pageable will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Slice<Object> findAll(RepositoryInvoker invoker, Class<?> domainType, Pageable pageable);
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.CountStrategy;
+import org.springframework.data.rest.core.support.CountStrategy.CountQuery;
+import org.springframework.data.rest.core.support.CountStrategy.Counter;
+import org.springframework.data.rest.core.support.CountStrategy.Total;
+import org.springframework.util.Assert;
+
+/**
+ * Looks up {@link Slice}s of collection resources using the first {@link SliceExecutor} supporting the domain type.
+ * Falls back to looking up a single element more than requested through the {@link RepositoryInvoker} if none does, so
+ * that stores skip the count query for the last page at least. Also looks up {@link Page}s whose total number
+ * of elements is determined by a non-exact {@link CountStrategy} to avoid the count query for every page.
+ *
+ * @author agent
+ * @since 2.6
+ */
+public class SlicePaging {
+
+	private static final Pageable SINGLE_ELEMENT = new PageRequest(0, 1);
+
+	private final List<SliceExecutor> executors;
+
+	/**
+	 * Creates a new {@link SlicePaging} for the given {@link SliceExecutor}s.
+	 *
+	 * @param executors must not be {@literal null}.
+	 */
+	public SlicePaging(List<? extends SliceExecutor> executors) {
+
+		Assert.notNull(executors, "SliceExecutors must not be null!");
+
+		this.executors = new ArrayList<SliceExecutor>(executors);
+	}
+
+	/**
+	 * Returns the {@link Slice} of elements of the given domain type for the given {@link Pageable}.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 */
+	public Slice<Object> getSlice(RepositoryInvoker invoker, Class<?> domainType, Pageable pageable) {
+
+		Assert.notNull(invoker, "RepositoryInvoker must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+
+		SliceExecutor executor = getExecutorFor(domainType, invoker);
+
+		if (executor != null) {
+			return executor.findAll(invoker, domainType, pageable);
+		}
+
+		Iterable<Object> result = invoker.invokeFindAll(new LookaheadPageable(pageable));
+		List<Object> content = new ArrayList<Object>();
+
+		for (Object element : result) {
+			content.add(element);
+		}
+
+		// Repositories not supporting pagination return all elements
+		if (!(result instanceof Slice)) {
+			return new SliceImpl<Object>(content, pageable, false);
+		}
+
+		boolean hasNext = content.size() > pageable.getPageSize();
+
+		return new SliceImpl<Object>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	/**
+	 * Returns the {@link Page} of elements of the given domain type for the given {@link Pageable}. Unless the given
+	 * {@link CountStrategy} is exact, the elements are looked up as {@link Slice} through the first supporting
+	 * {@link SliceExecutor} and the total number of elements is determined by the {@link CountStrategy}. Without a
+	 * supporting {@link SliceExecutor} the elements are looked up through the {@link RepositoryInvoker} as before,
+	 * counting them anyway.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param strategy must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return a {@link CountedPage} in case the total number of elements was determined by the {@link CountStrategy},
+	 *         the result of {@link RepositoryInvoker#invokeFindAll(Pageable)} otherwise.
+	 */
+	public Iterable<Object> getPage(final RepositoryInvoker invoker, Class<?> domainType, Pageable pageable,
+			CountStrategy strategy, CountQuery query) {
+
+		Assert.notNull(invoker, "RepositoryInvoker must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+		Assert.notNull(strategy, "CountStrategy must not be null!");
+		Assert.notNull(query, "CountQuery must not be null!");
+
+		SliceExecutor executor = strategy.isExact() ? null : getExecutorFor(domainType, invoker);
+
+		if (executor == null) {
+			return invoker.invokeFindAll(pageable);
+		}
+
+		Slice<Object> slice = executor.findAll(invoker, domainType, pageable);
+		List<Object> content = slice.getContent();
+		long minimum = pageable.getOffset() + content.size();
+
+		// Last page reached, total known without counting
+		if (!slice.hasNext() && (!content.isEmpty() || pageable.getOffset() == 0)) {
+			return new CountedPage<Object>(content, pageable, minimum, true);
+		}
+
+		Total total = strategy.count(query, new Counter() {
+
+			@Override
+			public long count() {
+				return getTotal(invoker.invokeFindAll(SINGLE_ELEMENT));
+			}
+		});
+
+		if (content.isEmpty()) {
+			return new CountedPage<Object>(content, pageable, total.getValue(), total.isExact());
+		}
+
+		// Don't let a stale total contradict the slice just read
+		long value = Math.max(total.getValue(), slice.hasNext() ? minimum + 1 : minimum);
+
+		return new CountedPage<Object>(content, pageable, value, total.isExact() && value == total.getValue());
+	}
+
+	private SliceExecutor getExecutorFor(Class<?> domainType, RepositoryInvoker invoker) {
+
+		for (SliceExecutor executor : invoker.exposesFindAll() ? executors : Collections.<SliceExecutor> emptyList()) {
+			if (executor.supports(domainType, invoker)) {
+				return executor;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@link Pageable} requesting a single element more than the given one at the same offset, so that the existence of
+	 * a next slice can be detected from the content. A {@link PageRequest} for the increased size would shift the offset
+	 * of all but the first page.
+	 *
+	 * @author agent
+	 */
+	private static class LookaheadPageable implements Pageable {
+
+		private final Pageable delegate;
+
+		public LookaheadPageable(Pageable delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#getPageNumber()
+		 */
+		@Override
+		public int getPageNumber() {
+			return delegate.getPageNumber();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#getPageSize()
+		 */
+		@Override
+		public int getPageSize() {
+			return delegate.getPageSize() + 1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#getOffset()
+		 */
+		@Override
+		public int getOffset() {
+			return delegate.getOffset();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#getSort()
+		 */
+		@Override
+		public Sort getSort() {
+			return delegate.getSort();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#next()
+		 */
+		@Override
+		public Pageable next() {
+			return new LookaheadPageable(delegate.next());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#previousOrFirst()
+		 */
+		@Override
+		public Pageable previousOrFirst() {
+			return new LookaheadPageable(delegate.previousOrFirst());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#first()
+		 */
+		@Override
+		public Pageable first() {
+			return new LookaheadPageable(delegate.first());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.domain.Pageable#hasPrevious()
+		 */
+		@Override
+		public boolean hasPrevious() {
+			return delegate.hasPrevious();
+		}
+	}
+
+	private static long getTotal(Iterable<Object> result) {
+
+		if (result instanceof Page) {
+			return ((Page<?>) result).getTotalElements();
+		}
+
+		long total = 0;
+
+		for (Iterator<Object> iterator = result.iterator(); iterator.hasNext(); iterator.next()) {
+			total++;
+		}
+
+		return total;
+	}
+}
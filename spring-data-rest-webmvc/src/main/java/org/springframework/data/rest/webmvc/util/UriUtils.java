@@ -20,7 +20,10 @@ import java.util.Map;
 
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.util.UriTemplate;
 
 /**
  * Utility methods to work with requests and URIs.
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public abstract class UriUtils {
 
 	private static AnnotationMappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final Map<Method, MappingTemplate> TEMPLATES = new ConcurrentReferenceHashMap<Method, MappingTemplate>();
 
 	private UriUtils() {}
 
@@ -46,15 +50,191 @@ public abstract class UriUtils {
 		Assert.hasText(variable, "Variable name must not be null or empty!");
 		Assert.notNull(method, "Method must not be null!");
 
-		String mapping = DISCOVERER.getMapping(method);
+		return getTemplateFor(method).getVariable(variable, lookupPath);
+	}
+
+	/**
+	 * Eagerly prepares the mapping of the given handler {@link Method} so that the first request for it doesn't have to
+	 * do so.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @since 2.6
+	 */
+	public static void precompileMapping(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		String mapping;
+
+		try {
+			mapping = DISCOVERER.getMapping(method);
+		} catch (IllegalStateException o_O) {
+			// Multiple mappings, nothing we could prepare as lookups fail for those anyway
+			return;
+		}
+
+		if (mapping != null) {
+			getTemplateFor(method);
+		}
+	}
+
+	private static MappingTemplate getTemplateFor(Method method) {
+
+		MappingTemplate template = TEMPLATES.get(method);
+
+		if (template == null) {
+			template = MappingTemplate.of(DISCOVERER.getMapping(method));
+			TEMPLATES.put(method, template);
+		}
+
+		return template;
+	}
+
+	/**
+	 * A pre-parsed request mapping. Mappings solely consisting of literal segments and segments that are a plain
+	 * variable (e.g. {@code /{repository}/search/{search}}) are matched by walking the path segment by segment if the
+	 * path has as many segments as the mapping. For those paths, the variables cannot span multiple segments, so the
+	 * result is the same as the one of {@link UriTemplate#match(String)}. Every other path (e.g. one with additional
+	 * trailing segments a {@link UriTemplate} variable would match greedily) and every other mapping (regular expression
+	 * constraints, wildcards, variables embedded in literals) is matched using a {@link UriTemplate} that is compiled
+	 * once.
+	 * 
+	 * @author agent
+	 * @since 2.6
+	 */
+	private static class MappingTemplate {
+
+		private final String mapping;
+		private final String[] segments;
+		private final boolean[] variables;
+		private volatile UriTemplate fallback;
+
+		private MappingTemplate(String mapping, String[] segments, boolean[] variables, UriTemplate fallback) {
+
+			this.mapping = mapping;
+			this.segments = segments;
+			this.variables = variables;
+			this.fallback = fallback;
+		}
+
+		/**
+		 * Creates a new {@link MappingTemplate} for the given mapping.
+		 * 
+		 * @param mapping must not be {@literal null} or empty.
+		 * @return
+		 */
+		public static MappingTemplate of(String mapping) {
+
+			String[] segments = StringUtils.delimitedListToStringArray(mapping, "/");
+			boolean[] variables = new boolean[segments.length];
+
+			for (int i = 0; i < segments.length; i++) {
+
+				String segment = segments[i];
 
-		Map<String, String> variables = new org.springframework.web.util.UriTemplate(mapping).match(lookupPath);
-		String value = variables.get(variable);
+				if (isPlainVariable(segment)) {
+					segments[i] = segment.substring(1, segment.length() - 1);
+					variables[i] = true;
+				} else if (!isLiteral(segment)) {
+					return new MappingTemplate(mapping, null, null, new UriTemplate(mapping));
+				}
+			}
 
-		if (value != null) {
-			return value;
+			return new MappingTemplate(mapping, segments, variables, null);
 		}
 
-		return null;
+		/**
+		 * Returns the value of the variable with the given name within the given path.
+		 * 
+		 * @param name must not be {@literal null} or empty.
+		 * @param path can be {@literal null}.
+		 * @return the value of the variable or {@literal null} if the path doesn't match the mapping or the mapping does
+		 *         not contain a variable of the given name.
+		 */
+		public String getVariable(String name, String path) {
+
+			if (path == null) {
+				return null;
+			}
+
+			if (segments == null || countSegments(path) != segments.length) {
+				return getFallback().match(path).get(name);
+			}
+
+			int variableStart = -1;
+			int variableEnd = -1;
+			int start = 0;
+
+			for (int i = 0; i < segments.length; i++) {
+
+				boolean last = i == segments.length - 1;
+				int end = last ? path.length() : path.indexOf('/', start);
+
+				if (variables[i]) {
+
+					if (variableStart == -1 && segments[i].equals(name)) {
+						variableStart = start;
+						variableEnd = end;
+					}
+
+				} else if (end - start != segments[i].length() || !path.startsWith(segments[i], start)) {
+					return null;
+				}
+
+				start = end + 1;
+			}
+
+			return variableStart == -1 ? null : path.substring(variableStart, variableEnd);
+		}
+
+		private UriTemplate getFallback() {
+
+			UriTemplate fallback = this.fallback;
+
+			if (fallback == null) {
+				fallback = new UriTemplate(mapping);
+				this.fallback = fallback;
+			}
+
+			return fallback;
+		}
+
+		private static int countSegments(String path) {
+
+			int count = 1;
+
+			for (int i = 0; i < path.length(); i++) {
+				if (path.charAt(i) == '/') {
+					count++;
+				}
+			}
+
+			return count;
+		}
+
+		private static boolean isPlainVariable(String segment) {
+
+			int length = segment.length();
+
+			if (length < 3 || segment.charAt(0) != '{' || segment.charAt(length - 1) != '}') {
+				return false;
+			}
+
+			for (int i = 1; i < length - 1; i++) {
+
+				char c = segment.charAt(i);
+
+				if (c == '{' || c == '}' || c == ':') {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static boolean isLiteral(String segment) {
+			return segment.indexOf('{') == -1 && segment.indexOf('}') == -1 && segment.indexOf('*') == -1
+					&& segment.indexOf('?') == -1;
+		}
 	}
 }
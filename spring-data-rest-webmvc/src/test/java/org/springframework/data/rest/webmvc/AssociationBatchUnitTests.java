@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
+import org.springframework.data.rest.core.support.BatchingRepositoryInvoker;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.support.ExcerptProjector;
+
+/**
+ * Unit tests for {@link AssociationBatch}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AssociationBatchUnitTests {
+
+	@Mock RepositoryRestConfiguration configuration;
+	@Mock ExcerptProjector projector;
+	@Mock RepositoryInvokerFactory invokerFactory;
+	@Mock BatchingRepositoryInvoker invoker;
+
+	KeyValueMappingContext context;
+	PersistentEntities entities;
+	Associations associations;
+	PersistentProperty<?> property, collectionProperty;
+
+	@Before
+	public void setUp() {
+
+		this.context = new KeyValueMappingContext();
+		this.context.getPersistentEntity(Order.class);
+
+		this.entities = new PersistentEntities(Arrays.asList(context));
+		this.associations = new Associations(new PersistentEntitiesResourceMappings(entities), configuration);
+		this.property = context.getPersistentEntity(Order.class).getPersistentProperty("customer");
+		this.collectionProperty = context.getPersistentEntity(Order.class).getPersistentProperty("previousCustomers");
+
+		when(invokerFactory.getInvokerFor(Customer.class)).thenReturn(invoker);
+		when(invoker.hasBatchFindMethod()).thenReturn(true);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void loadsTargetsOfAllInstancesWithSingleQuery() {
+
+		Customer dave = new Customer(1L), carter = new Customer(2L);
+
+		when(projector.hasExcerptProjection(Customer.class)).thenReturn(true);
+		when(invoker.invokeFindAll(Mockito.any(Iterable.class))).thenReturn(Arrays.<Object> asList(dave, carter));
+
+		AssociationBatch batch = AssociationBatch.load(
+				Arrays.asList(new Order(new Customer(1L)), new Order(new Customer(2L)), new Order(new Customer(1L))), entities,
+				associations, projector, invokerFactory);
+
+		ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(invoker, times(1)).invokeFindAll(captor.capture());
+
+		assertThat((Iterable<Object>) captor.getValue(), contains((Object) 1L, 2L));
+		assertThat(batch.getTarget(property, new Customer(1L)), is((Object) dave));
+		assertThat(batch.getTarget(property, new Customer(2L)), is((Object) carter));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void loadsElementsOfCollectionAssociationsWithSingleQuery() {
+
+		Customer dave = new Customer(1L), carter = new Customer(2L), oliver = new Customer(3L);
+
+		when(projector.hasExcerptProjection(Customer.class)).thenReturn(true);
+		when(invoker.invokeFindAll(Mockito.any(Iterable.class)))
+				.thenReturn(Arrays.<Object> asList(dave, carter, oliver));
+
+		Order first = new Order(new Customer(1L), new Customer(2L));
+		Order second = new Order(new Customer(3L), new Customer(2L));
+
+		AssociationBatch batch = AssociationBatch.load(Arrays.asList(first, second), entities, associations, projector,
+				invokerFactory);
+
+		ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(invoker, times(1)).invokeFindAll(captor.capture());
+
+		assertThat((Iterable<Object>) captor.getValue(), containsInAnyOrder((Object) 1L, 2L, 3L));
+		assertThat(batch.getTarget(collectionProperty, new Customer(2L)), is((Object) carter));
+		assertThat(batch.getTarget(collectionProperty, new Customer(3L)), is((Object) oliver));
+	}
+
+	@Test
+	public void returnsValueAsIsIfNotContainedInBatch() {
+
+		Customer customer = new Customer(3L);
+
+		assertThat(AssociationBatch.NONE.getTarget(property, customer), is((Object) customer));
+	}
+
+	@Test
+	public void doesNotLoadAssociationsWithoutExcerptProjection() {
+
+		AssociationBatch batch = AssociationBatch.load(Arrays.asList(new Order(new Customer(1L))), entities, associations,
+				projector, invokerFactory);
+
+		assertThat(batch, is(AssociationBatch.NONE));
+		verifyZeroInteractions(invoker);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doesNotLoadAssociationsIfInvokerCannotLookUpMultipleEntitiesAtOnce() {
+
+		when(projector.hasExcerptProjection(Customer.class)).thenReturn(true);
+		when(invoker.hasBatchFindMethod()).thenReturn(false);
+
+		AssociationBatch batch = AssociationBatch.load(Arrays.asList(new Order(new Customer(1L))), entities, associations,
+				projector, invokerFactory);
+
+		assertThat(batch, is(AssociationBatch.NONE));
+		verify(invoker, never()).invokeFindAll(Mockito.any(Iterable.class));
+	}
+
+	static class Order {
+
+		@Id Long id;
+		@Reference Customer customer;
+		@Reference List<Customer> previousCustomers;
+
+		Order(Customer customer, Customer... previousCustomers) {
+			this.customer = customer;
+			this.previousCustomers = previousCustomers.length == 0 ? null : Arrays.asList(previousCustomers);
+		}
+	}
+
+	@RestResource(exported = true)
+	static class Customer {
+
+		@Id Long id;
+
+		Customer(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -21,6 +21,7 @@ import static org.junit.Assert.*;
 import java.net.URI;
 
 import org.junit.Test;
+import org.springframework.util.StringUtils;
 
 /**
  * Unit tests for {@link BaseUri}.
@@ -96,4 +97,40 @@ public class BaseUriUnitTests {
 	public void repositoryLookupPathHandlesDoubleSlashes() {
 		assertThat(BaseUri.NONE.getRepositoryLookupPath("/books//1"), is("/books/1"));
 	}
+
+	@Test
+	public void collapsesDoubleSlashesPairwise() {
+
+		assertThat(BaseUri.NONE.getRepositoryLookupPath("/books///1"), is("/books//1"));
+		assertThat(BaseUri.NONE.getRepositoryLookupPath("//books////1//"), is("/books//1"));
+	}
+
+	@Test
+	public void trimsAllTrailingSlashesLikeTrimTrailingCharacter() {
+
+		String lookupPath = "/books/1/////";
+		String expected = StringUtils.trimTrailingCharacter(lookupPath.replaceAll("//", "/"), '/');
+
+		assertThat(BaseUri.NONE.getRepositoryLookupPath(lookupPath), is(expected));
+		assertThat(BaseUri.NONE.getRepositoryLookupPath(lookupPath), is("/books/1"));
+		assertThat(new BaseUri(URI.create("foo")).getRepositoryLookupPath("/foo/books//"), is("/books"));
+	}
+
+	@Test
+	public void returnsGivenLookupPathInstanceForEmptyBaseUri() {
+
+		String lookupPath = "/books/1";
+
+		assertThat(BaseUri.NONE.getRepositoryLookupPath(lookupPath), is(sameInstance(lookupPath)));
+	}
+
+	@Test
+	public void matchesNestedAbsoluteBaseUriRepeatedly() {
+
+		BaseUri uri = new BaseUri(URI.create("http://localhost:8080/foo/bar"));
+
+		assertThat(uri.getRepositoryLookupPath("/bar/people"), is("/people"));
+		assertThat(uri.getRepositoryLookupPath("/foo/bar/people"), is("/people"));
+		assertThat(uri.getRepositoryLookupPath("/baz/people"), is(nullValue()));
+	}
 }
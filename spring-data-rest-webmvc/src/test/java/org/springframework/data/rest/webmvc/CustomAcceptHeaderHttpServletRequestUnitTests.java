@@ -25,7 +25,10 @@ import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.Test;
+import org.springframework.data.rest.webmvc.BasePathAwareHandlerMapping.AcceptHeader;
+import org.springframework.data.rest.webmvc.BasePathAwareHandlerMapping.AcceptHeaderCache;
 import org.springframework.data.rest.webmvc.BasePathAwareHandlerMapping.CustomAcceptHeaderHttpServletRequest;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -58,4 +61,60 @@ public class CustomAcceptHeaderHttpServletRequestUnitTests {
 		assertThat(expected, hasSize(2));
 		assertThat(expected, hasItems(MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_ATOM_XML_VALUE));
 	}
+
+	@Test
+	public void removesWildcardAndAddsDefaultMediaType() {
+
+		AcceptHeader header = AcceptHeader.of("application/json, */*", MediaTypes.HAL_JSON);
+
+		assertThat(header.getMediaTypes(), contains(MediaType.APPLICATION_JSON, MediaTypes.HAL_JSON));
+		assertThat(new CustomAcceptHeaderHttpServletRequest(request, header).getHeader(HttpHeaders.ACCEPT),
+				is("application/json,application/hal+json"));
+	}
+
+	@Test
+	public void cachesRewrittenAcceptHeaders() {
+
+		AcceptHeaderCache cache = new AcceptHeaderCache(10);
+
+		AcceptHeader first = cache.get("application/json", MediaTypes.HAL_JSON);
+		AcceptHeader second = cache.get("application/json", MediaTypes.HAL_JSON);
+
+		assertThat(second, is(sameInstance(first)));
+		assertThat(cache.getHits(), is(1L));
+		assertThat(cache.getMisses(), is(1L));
+	}
+
+	@Test
+	public void cachesMissingAcceptHeader() {
+
+		AcceptHeaderCache cache = new AcceptHeaderCache(10);
+
+		assertThat(cache.get(null, MediaTypes.HAL_JSON).getMediaTypes(), contains(MediaTypes.HAL_JSON));
+		assertThat(cache.get(null, MediaTypes.HAL_JSON).getMediaTypes(), contains(MediaTypes.HAL_JSON));
+		assertThat(cache.getHits(), is(1L));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntry() {
+
+		AcceptHeaderCache cache = new AcceptHeaderCache(1);
+
+		AcceptHeader json = cache.get("application/json", MediaTypes.HAL_JSON);
+		cache.get("application/xml", MediaTypes.HAL_JSON);
+
+		assertThat(cache.get("application/json", MediaTypes.HAL_JSON), is(not(sameInstance(json))));
+		assertThat(cache.getMisses(), is(3L));
+	}
+
+	@Test
+	public void recomputesEntryIfDefaultMediaTypeChanged() {
+
+		AcceptHeaderCache cache = new AcceptHeaderCache(10);
+
+		cache.get("application/json", MediaTypes.HAL_JSON);
+
+		assertThat(cache.get("application/json", MediaType.APPLICATION_JSON).getMediaTypes(),
+				contains(MediaType.APPLICATION_JSON));
+	}
 }
@@ -17,6 +17,7 @@ package org.springframework.data.rest.webmvc;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Collections;
 
@@ -41,6 +42,7 @@ public class PersistentEntityResourceUnitTests {
 
 	@Mock Object payload;
 	@Mock PersistentEntity<?, ?> entity;
+	@Mock Iterable<EmbeddedWrapper> embeddeds;
 
 	Resources<EmbeddedWrapper> resources;
 	Link link = new Link("http://localhost", "foo");
@@ -80,4 +82,18 @@ public class PersistentEntityResourceUnitTests {
 		assertThat(resource.getEmbeddeds(), is(notNullValue()));
 		assertThat(resource.getEmbeddeds(), is(emptyIterable()));
 	}
+
+	@Test
+	public void consumesEmbeddedsOnlyOnAccess() {
+
+		when(embeddeds.iterator()).thenReturn(resources.getContent().iterator());
+
+		PersistentEntityResource resource = PersistentEntityResource.build(payload, entity).withEmbedded(embeddeds)
+				.build();
+
+		verify(embeddeds, never()).iterator();
+
+		assertThat(resource.getEmbeddeds(), is(iterableWithSize(1)));
+		verify(embeddeds, times(1)).iterator();
+	}
 }
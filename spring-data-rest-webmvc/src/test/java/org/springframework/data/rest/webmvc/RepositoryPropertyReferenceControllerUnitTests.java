@@ -15,7 +15,8 @@
  */
 package org.springframework.data.rest.webmvc;
 
-import static org.mockito.Matchers.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
@@ -25,11 +26,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.PersistentProperty;
@@ -37,12 +43,18 @@ import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.UriToEntityConverter;
 import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.LinkedEntityEvent;
 import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.webmvc.support.AssociationLookup;
+import org.springframework.data.rest.webmvc.support.AssociationQueryExecutor;
+import org.springframework.data.rest.webmvc.support.ReferencedEntityLoader;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resources;
@@ -57,6 +69,7 @@ import org.springframework.http.HttpMethod;
 public class RepositoryPropertyReferenceControllerUnitTests {
 
 	@Mock Repositories repositories;
+	@Mock RepositoryRestConfiguration configuration;
 	@Mock PagedResourcesAssembler<Object> assembler;
 	@Mock RepositoryInvokerFactory invokerFactory;
 	@Mock RepositoryInvoker invoker;
@@ -64,11 +77,11 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 
 	KeyValueMappingContext mappingContext = new KeyValueMappingContext();
 
-	/**
-	 * @see DATAREST-791
-	 */
-	@Test
-	public void usesRepositoryInvokerToLookupRelatedInstance() throws Exception {
+	RepositoryPropertyReferenceController controller;
+	RootResourceInformation information;
+
+	@Before
+	public void setUp() {
 
 		KeyValuePersistentEntity<?> entity = mappingContext.getPersistentEntity(Sample.class);
 
@@ -77,16 +90,29 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
 		when(metadata.getSupportedHttpMethods()).thenReturn(AllSupportedHttpMethods.INSTANCE);
 
-		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
-				invokerFactory, assembler);
-		controller.setApplicationEventPublisher(publisher);
+		PersistentEntities entities = new PersistentEntities(Collections.singleton(mappingContext));
+		UriToEntityConverter converter = new UriToEntityConverter(entities, invokerFactory, repositories);
+		AssociationLookup lookup = new AssociationLookup(entities, Collections.<AssociationQueryExecutor> emptyList(),
+				new DefaultConversionService());
+
+		this.controller = new RepositoryPropertyReferenceController(repositories, configuration, invokerFactory,
+				assembler, new ReferencedEntityLoader(converter), lookup);
+		this.controller.setApplicationEventPublisher(publisher);
+		this.information = new RootResourceInformation(metadata, entity, invoker);
 
 		doReturn(invoker).when(invokerFactory).getInvokerFor(Reference.class);
+	}
+
+	/**
+	 * @see DATAREST-791
+	 */
+	@Test
+	public void usesRepositoryInvokerToLookupRelatedInstance() throws Exception {
+
 		doReturn(new Sample()).when(invoker).invokeFindOne(4711);
 		doReturn(new Reference()).when(invoker).invokeFindOne("some-id");
-		doReturn(new Sample()).when(invoker).invokeSave(any(Object.class));
+		doReturn(new Sample()).when(invoker).invokeSave(Mockito.any(Object.class));
 
-		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
 		Resources<Object> request = new Resources<Object>(Collections.emptySet(), new Link("/reference/some-id"));
 
 		controller.createPropertyReference(information, HttpMethod.POST, request, 4711, "references");
@@ -95,9 +121,46 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 		verify(invoker).invokeFindOne("some-id");
 	}
 
+	@Test
+	public void replacesCollectionOnPutAndPublishesNewValue() throws Exception {
+
+		Sample sample = new Sample();
+		sample.references.add(new Reference());
+		Reference reference = new Reference();
+
+		doReturn(sample).when(invoker).invokeFindOne(4711);
+		doReturn(reference).when(invoker).invokeFindOne("some-id");
+		doReturn(sample).when(invoker).invokeSave(Mockito.any(Object.class));
+
+		Resources<Object> request = new Resources<Object>(Collections.emptySet(), new Link("/reference/some-id"));
+
+		controller.createPropertyReference(information, HttpMethod.PUT, request, 4711, "references");
+
+		assertThat(sample.references, contains(reference));
+
+		ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+		verify(publisher, times(2)).publishEvent(captor.capture());
+
+		for (ApplicationEvent event : captor.getAllValues()) {
+			assertThat(((LinkedEntityEvent) event).getLinked(), is((Object) sample.references));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMultipleLinksForSingleValuedProperty() throws Exception {
+
+		doReturn(new Sample()).when(invoker).invokeFindOne(4711);
+
+		Resources<Object> request = new Resources<Object>(Collections.emptySet(), new Link("/reference/some-id"),
+				new Link("/reference/other-id"));
+
+		controller.createPropertyReference(information, HttpMethod.PUT, request, 4711, "reference");
+	}
+
 	@RestResource
 	static class Sample {
 		@org.springframework.data.annotation.Reference List<Reference> references = new ArrayList<Reference>();
+		@org.springframework.data.annotation.Reference Reference reference;
 	}
 
 	@RestResource
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resources;
+
+/**
+ * Unit tests for {@link StreamingContent}.
+ *
+ * @author agent
+ */
+public class StreamingContentUnitTests {
+
+	List<String> converted;
+	StreamingContent<String> content;
+
+	@Before
+	public void setUp() {
+
+		this.converted = new ArrayList<String>();
+		this.content = new StreamingContent<String>(Arrays.asList("foo", "bar"), new Converter<String, String>() {
+
+			@Override
+			public String convert(String source) {
+
+				converted.add(source);
+				return source.toUpperCase();
+			}
+		});
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullSource() {
+		new StreamingContent<Object>(null, new Converter<Object, Object>() {
+
+			@Override
+			public Object convert(Object source) {
+				return source;
+			}
+		});
+	}
+
+	@Test
+	public void convertsElementsOnlyWhileIterated() {
+
+		PagedResources<String> resources = content.applyTo(new PagedResources<String>(Collections.<String> emptyList(),
+				new PageMetadata(2, 0, 10), Collections.<Link> emptyList()));
+
+		assertThat(resources.getContent(), hasSize(2));
+		assertThat(converted, is(empty()));
+
+		List<String> result = new ArrayList<String>();
+
+		for (String element : resources) {
+
+			assertThat(converted, hasSize(result.size() + 1));
+			result.add(element);
+		}
+
+		assertThat(result, contains("FOO", "BAR"));
+	}
+
+	@Test
+	public void exposesStreamingContentInstalledInResources() {
+
+		Resources<String> resources = content.applyTo(new Resources<String>(Collections.<String> emptyList()));
+
+		assertThat(StreamingContent.of(resources), is(sameInstance((Object) content)));
+		assertThat(StreamingContent.of(new Resources<String>(Arrays.asList("foo"))), is(nullValue()));
+	}
+
+	@Test
+	public void appliesMappedConverterAfterOriginalOne() {
+
+		StreamingContent<Integer> lengths = content.map(new Converter<String, Integer>() {
+
+			@Override
+			public Integer convert(String source) {
+				return source.equals("FOO") ? 1 : 2;
+			}
+		});
+
+		assertThat(converted, is(empty()));
+		assertThat(new ArrayList<Integer>(lengths), contains(1, 2));
+		assertThat(converted, contains("foo", "bar"));
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.rest.webmvc.config;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -48,10 +49,12 @@ import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.format.datetime.DateFormatter;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -195,6 +198,44 @@ public class RepositoryRestMvConfigurationIntegrationTests {
 		assertThat(converters.get(1).getSupportedMediaTypes(), hasItem(MediaTypes.HAL_JSON));
 	}
 
+	@Test
+	public void registersBinaryHalConverters() throws Exception {
+
+		CollectingComponent component = context.getBean(CollectingComponent.class);
+
+		RepositoryLinksResource resource = new RepositoryLinksResource();
+		resource.add(new Link("/foo", "foo"));
+
+		byte[] json = context.getBean("halObjectMapper", ObjectMapper.class).writeValueAsBytes(resource);
+
+		for (MediaType mediaType : Arrays.asList(RestMediaTypes.HAL_SMILE, RestMediaTypes.HAL_CBOR)) {
+
+			MappingJackson2HttpMessageConverter converter = getConverterFor(component.converters, mediaType);
+			assertThat(converter, is(notNullValue()));
+
+			ObjectMapper mapper = converter.getObjectMapper();
+			byte[] binary = mapper.writeValueAsBytes(resource);
+
+			assertThat(mapper.readTree(binary).has("_links"), is(true));
+			assertThat(binary.length, is(lessThan(json.length)));
+		}
+
+		assertThat(getConverterFor(component.converters, RestMediaTypes.SMILE), is(notNullValue()));
+		assertThat(getConverterFor(component.converters, RestMediaTypes.CBOR), is(notNullValue()));
+	}
+
+	private static MappingJackson2HttpMessageConverter getConverterFor(List<HttpMessageConverter<?>> converters,
+			MediaType mediaType) {
+
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter.canWrite(RepositoryLinksResource.class, mediaType)) {
+				return (MappingJackson2HttpMessageConverter) converter;
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * @see DATAREST-431, DATACMNS-626
 	 */
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.FieldSelection;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.xml.Jaxb2RootElementHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Unit tests for {@link FieldSelectionResponseBodyAdvice}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FieldSelectionResponseBodyAdviceUnitTests {
+
+	@Mock Associations associations;
+	@Mock ResourceMappings mappings;
+
+	FieldSelection selection;
+	FieldSelectionResponseBodyAdvice advice;
+
+	@Before
+	public void setUp() {
+
+		this.selection = FieldSelection.of(Collections.singletonMap("fields", new String[] { "name" }), "fields", mappings,
+				Object.class);
+		this.advice = new FieldSelectionResponseBodyAdvice(associations, null);
+	}
+
+	@Test
+	public void supportsJacksonConvertersOnly() {
+
+		assertThat(advice.supports(null, MappingJackson2HttpMessageConverter.class), is(true));
+		assertThat(advice.supports(null, Jaxb2RootElementHttpMessageConverter.class), is(false));
+	}
+
+	@Test
+	public void leavesBodyUntouchedWithoutSelection() {
+
+		Object body = new Object();
+
+		assertThat(advice.beforeBodyWrite(body, null, null, null, null, null), is(sameInstance(body)));
+	}
+
+	@Test
+	public void resolvesSelectionOncePerResponse() {
+
+		doReturn(selection).when(associations).getFieldSelection();
+
+		Object body = new Object();
+		Object result = advice.beforeBodyWrite(body, null, null, null, null, null);
+
+		assertThat(result, is(instanceOf(MappingJacksonValue.class)));
+
+		MappingJacksonValue value = (MappingJacksonValue) result;
+
+		assertThat(value.getValue(), is(sameInstance(body)));
+		assertThat(value.getFilters().findPropertyFilter(FieldSelectionFilterProvider.FILTER_ID, body),
+				is(notNullValue()));
+		verify(associations, times(1)).getFieldSelection();
+	}
+
+	@Test
+	public void keepsFiltersAlreadyRegistered() {
+
+		doReturn(selection).when(associations).getFieldSelection();
+
+		PropertyFilter filter = SimpleBeanPropertyFilter.serializeAll();
+		MappingJacksonValue body = new MappingJacksonValue(new Object());
+		body.setFilters(new SimpleFilterProvider().addFilter("custom", filter));
+
+		Object result = advice.beforeBodyWrite(body, null, null, null, null, null);
+
+		assertThat(result, is(sameInstance((Object) body)));
+
+		FilterProvider filters = body.getFilters();
+
+		assertThat(filters, is(instanceOf(FieldSelectionFilterProvider.class)));
+		assertThat(filters.findPropertyFilter("custom", body.getValue()), is(filter));
+		assertThat(filters.findPropertyFilter(FieldSelectionFilterProvider.FILTER_ID, body.getValue()),
+				is(notNullValue()));
+	}
+}
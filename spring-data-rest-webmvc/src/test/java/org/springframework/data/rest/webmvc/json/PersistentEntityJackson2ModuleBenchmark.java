@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.LookupObjectSerializer;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.NestedEntitySerializer;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.support.ExcerptProjector;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Benchmark for the serialization of a page of 500 entities through {@link PersistentEntityJackson2Module} with and
+ * without generated property accessors. Run via {@link #main(String[])}.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PersistentEntityJackson2ModuleBenchmark {
+
+	private static final int PAGE_SIZE = 500;
+
+	ObjectWriter reflective;
+	ObjectWriter generated;
+	List<Sample> page;
+
+	@Setup
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Sample.class);
+
+		PersistentEntities entities = new PersistentEntities(Arrays.asList(context));
+
+		this.reflective = createWriter(entities, false);
+		this.generated = createWriter(entities, true);
+		this.page = new ArrayList<Sample>(PAGE_SIZE);
+
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			page.add(new Sample(i));
+		}
+	}
+
+	@Benchmark
+	public String reflectiveAccessors() throws JsonProcessingException {
+		return reflective.writeValueAsString(page);
+	}
+
+	@Benchmark
+	public String generatedAccessors() throws JsonProcessingException {
+		return generated.writeValueAsString(page);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PersistentEntityJackson2ModuleBenchmark.class.getSimpleName()).build())
+				.run();
+	}
+
+	private static ObjectWriter createWriter(PersistentEntities entities, boolean useGeneratedAccessors) {
+
+		Associations associations = new Associations(new PersistentEntitiesResourceMappings(entities),
+				mock(RepositoryRestConfiguration.class));
+		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(Collections.<ResourceProcessor<?>> emptyList());
+		NestedEntitySerializer nestedEntitySerializer = new NestedEntitySerializer(entities,
+				new EmbeddedResourcesAssembler(entities, associations, mock(ExcerptProjector.class)), invoker);
+		OrderAwarePluginRegistry<EntityLookup<?>, Class<?>> lookups = OrderAwarePluginRegistry.create();
+
+		PersistentEntityJackson2Module module = new PersistentEntityJackson2Module(associations, entities,
+				mock(UriToEntityConverter.class), mock(LinkCollector.class), mock(RepositoryInvokerFactory.class),
+				nestedEntitySerializer, new LookupObjectSerializer(lookups));
+		module.setUseGeneratedAccessors(useGeneratedAccessors);
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(module);
+		mapper.setFilterProvider(new FieldSelectionFilterProvider(null));
+
+		return mapper.writer();
+	}
+
+	public static class Sample {
+
+		private final long id;
+		private final String firstname, lastname, email;
+		private final int age;
+		private final boolean active;
+		private final Date createdDate;
+
+		Sample(int index) {
+
+			this.id = index;
+			this.firstname = "Firstname " + index;
+			this.lastname = "Lastname " + index;
+			this.email = "user" + index + "@example.com";
+			this.age = index % 100;
+			this.active = index % 2 == 0;
+			this.createdDate = new Date(index * 1000L);
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public Date getCreatedDate() {
+			return createdDate;
+		}
+	}
+}
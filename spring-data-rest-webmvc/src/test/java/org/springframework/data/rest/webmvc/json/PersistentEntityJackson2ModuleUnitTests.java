@@ -21,13 +21,19 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
@@ -35,7 +41,9 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.support.EntityLookup;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
@@ -44,9 +52,12 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.LookupObjectSerializer;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.NestedEntitySerializer;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.mapping.FieldSelection;
+import org.springframework.data.rest.webmvc.mapping.LinkCollector;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
@@ -55,6 +66,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.jayway.jsonpath.JsonPath;
 
 /**
@@ -66,13 +79,19 @@ import com.jayway.jsonpath.JsonPath;
 @RunWith(MockitoJUnitRunner.class)
 public class PersistentEntityJackson2ModuleUnitTests {
 
-	@Mock Associations associations;
+	private static final String AFTERBURNER_WRITER_PACKAGE = "com.fasterxml.jackson.module.afterburner.ser";
+
 	@Mock UriToEntityConverter converter;
 	@Mock EntityLinks entityLinks;
 	@Mock ResourceMappings mappings;
 	@Mock SelfLinkProvider selfLinks;
+	@Mock RepositoryRestConfiguration configuration;
 
+	Associations associations;
 	PersistentEntities persistentEntities;
+	NestedEntitySerializer nestedEntitySerializer;
+	OrderAwarePluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	SimpleModule module;
 	ObjectMapper mapper;
 
 	@Before
@@ -82,16 +101,19 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		mappingContext.getPersistentEntity(Sample.class);
 		mappingContext.getPersistentEntity(SampleWithAdditionalGetters.class);
 		mappingContext.getPersistentEntity(PersistentEntityJackson2ModuleUnitTests.PetOwner.class);
+		mappingContext.getPersistentEntity(Container.class);
+		mappingContext.getPersistentEntity(AccessorSample.class);
 
 		this.persistentEntities = new PersistentEntities(Arrays.asList(mappingContext));
+		this.associations = spy(new Associations(mappings, configuration));
 
 		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(Collections.<ResourceProcessor<?>> emptyList());
 
-		NestedEntitySerializer nestedEntitySerializer = new NestedEntitySerializer(persistentEntities,
+		this.nestedEntitySerializer = new NestedEntitySerializer(persistentEntities,
 				new EmbeddedResourcesAssembler(persistentEntities, associations, mock(ExcerptProjector.class)), invoker);
-		OrderAwarePluginRegistry<EntityLookup<?>, Class<?>> lookups = OrderAwarePluginRegistry.create();
+		this.lookups = OrderAwarePluginRegistry.create();
 
-		SimpleModule module = new SimpleModule();
+		this.module = new SimpleModule();
 
 		module.setSerializerModifier(new AssociationOmittingSerializerModifier(persistentEntities, associations,
 				nestedEntitySerializer, new LookupObjectSerializer(lookups)));
@@ -100,6 +122,7 @@ public class PersistentEntityJackson2ModuleUnitTests {
 
 		this.mapper = new ObjectMapper();
 		this.mapper.registerModule(module);
+		this.mapper.setFilterProvider(new FieldSelectionFilterProvider(null));
 	}
 
 	/**
@@ -137,7 +160,7 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		PersistentProperty<?> property = persistentEntities.getPersistentEntity(PetOwner.class)
 				.getPersistentProperty("pet");
 
-		when(associations.isLinkableAssociation(property)).thenReturn(true);
+		doReturn(true).when(associations).isLinkableAssociation(property);
 		when(converter.convert(new UriTemplate("/pets/1").expand(), TypeDescriptor.valueOf(URI.class),
 				TypeDescriptor.valueOf(Pet.class))).thenReturn(new Cat());
 
@@ -147,13 +170,189 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		assertThat(petOwner.getPet(), is(notNullValue()));
 	}
 
+	@Test
+	public void resolvesCollectionOfReferencesInOneGo() throws IOException {
+
+		PersistentProperty<?> property = persistentEntities.getPersistentEntity(PetOwner.class)
+				.getPersistentProperty("pets");
+
+		Cat first = new Cat();
+		Cat second = new Cat();
+
+		doReturn(true).when(associations).isLinkableAssociation(property);
+		when(converter.convertAll(Arrays.asList(new UriTemplate("/pets/1").expand(), new UriTemplate("/pets/2").expand()),
+				Pet.class)).thenReturn(Arrays.<Object> asList(first, second));
+
+		PetOwner petOwner = mapper.readValue("{\"pets\":[\"/pets/1\",\"/pets/2\"]}", PetOwner.class);
+
+		assertThat(petOwner.getPets(), is(Arrays.<Pet> asList(first, second)));
+		verify(converter, never()).convert(Mockito.any(), Mockito.any(TypeDescriptor.class),
+				Mockito.any(TypeDescriptor.class));
+	}
+
+	@Test
+	public void installsGeneratedAccessorsIfEnabled() throws Exception {
+
+		List<String> packages = getWriterPackages(createMapper(true), AccessorSample.class);
+
+		assertThat(packages, hasItem(AFTERBURNER_WRITER_PACKAGE));
+		assertThat(packages, everyItem(is(AFTERBURNER_WRITER_PACKAGE)));
+		assertThat(getWriterPackages(createMapper(false), AccessorSample.class),
+				not(hasItem(AFTERBURNER_WRITER_PACKAGE)));
+	}
+
+	@Test
+	public void rendersSameRepresentationWithGeneratedAccessors() throws Exception {
+
+		AccessorSample sample = new AccessorSample();
+		sample.name = "name";
+		sample.setNumber(5);
+		sample.setActive(true);
+
+		assertThat(createMapper(true).writeValueAsString(sample), is(createMapper(false).writeValueAsString(sample)));
+	}
+
+	@Test
+	public void appliesFieldSelectionWithGeneratedAccessors() throws Exception {
+
+		Map<String, String[]> parameters = Collections.singletonMap("fields", new String[] { "number" });
+		FieldSelection selection = FieldSelection.of(parameters, "fields", mappings, AccessorSample.class);
+
+		AccessorSample sample = new AccessorSample();
+		sample.name = "name";
+		sample.setNumber(5);
+
+		String result = createMapper(true).writer(FieldSelectionFilterProvider.of(null, selection))
+				.writeValueAsString(sample);
+
+		assertThat(JsonPath.read(result, "$.number"), is((Object) 5));
+		assertThat(result, not(containsString("name")));
+		assertThat(result, not(containsString("active")));
+	}
+
+	@Test
+	public void rendersNestedEntityCollectionsAndMaps() throws Exception {
+
+		Container container = new Container();
+		container.nested = Arrays.asList(new Nested("first"), new Nested("second"));
+		container.byName = new LinkedHashMap<String, Nested>();
+		container.byName.put("key", new Nested("third"));
+
+		String result = mapper.writeValueAsString(container);
+
+		assertThat(JsonPath.read(result, "$.nested[0].name"), is((Object) "first"));
+		assertThat(JsonPath.read(result, "$.nested[1].name"), is((Object) "second"));
+		assertThat(JsonPath.read(result, "$.byName.key.name"), is((Object) "third"));
+	}
+
+	@Test
+	public void rendersSelectedFieldsOnly() throws Exception {
+
+		Map<String, String[]> parameters = Collections.singletonMap("fields", new String[] { "number" });
+		FieldSelection selection = FieldSelection.of(parameters, "fields", mappings, SampleWithAdditionalGetters.class);
+
+		SampleWithAdditionalGetters sample = new SampleWithAdditionalGetters();
+		sample.name = "bar";
+
+		String result = mapper.writer(FieldSelectionFilterProvider.of(null, selection)).writeValueAsString(sample);
+
+		assertThat(JsonPath.read(result, "$.number"), is((Object) 5));
+		assertThat(result, not(containsString("foo")));
+	}
+
+	@Test
+	public void rendersAllFieldsWithoutSelection() throws Exception {
+
+		SampleWithAdditionalGetters sample = new SampleWithAdditionalGetters();
+		sample.name = "bar";
+
+		String result = mapper.writeValueAsString(sample);
+
+		assertThat(JsonPath.read(result, "$.number"), is((Object) 5));
+		assertThat(JsonPath.read(result, "$.foo"), is((Object) "bar"));
+	}
+
+	@Test
+	public void appliesSelectionToNestedEntities() throws Exception {
+
+		ResourceMetadata metadata = mock(ResourceMetadata.class);
+		doReturn("nesteds").when(metadata).getRel();
+		doReturn(metadata).when(mappings).getMetadataFor(Nested.class);
+
+		Map<String, String[]> parameters = Collections.singletonMap("fields[nesteds]", new String[] { "name" });
+		FieldSelection selection = FieldSelection.of(parameters, "fields", mappings, Container.class);
+
+		Nested nested = new Nested("first");
+		nested.description = "description";
+
+		Container container = new Container();
+		container.nested = Arrays.asList(nested);
+		container.byName = Collections.singletonMap("key", nested);
+
+		String result = mapper.writer(FieldSelectionFilterProvider.of(null, selection)).writeValueAsString(container);
+
+		assertThat(JsonPath.read(result, "$.nested[0].name"), is((Object) "first"));
+		assertThat(JsonPath.read(result, "$.byName.key.name"), is((Object) "first"));
+		assertThat(result, not(containsString("description")));
+	}
+
+	@Test
+	public void appliesSelectionToEmbeddedEntities() throws Exception {
+
+		Map<String, String[]> parameters = Collections.singletonMap("fields", new String[] { "number" });
+		FieldSelection selection = FieldSelection.of(parameters, "fields", mappings, SampleWithAdditionalGetters.class);
+
+		SampleWithAdditionalGetters sample = new SampleWithAdditionalGetters();
+		sample.name = "bar";
+
+		Resources<Object> resources = new Resources<Object>(Arrays.<Object> asList(sample, sample));
+
+		String result = mapper.writer(FieldSelectionFilterProvider.of(null, selection)).writeValueAsString(resources);
+
+		assertThat(JsonPath.read(result, "$.content[0].number"), is((Object) 5));
+		assertThat(JsonPath.read(result, "$.content[1].number"), is((Object) 5));
+		assertThat(result, not(containsString("foo")));
+	}
+
+	private ObjectMapper createMapper(boolean useGeneratedAccessors) {
+
+		PersistentEntityJackson2Module module = new PersistentEntityJackson2Module(associations, persistentEntities,
+				converter, mock(LinkCollector.class), mock(RepositoryInvokerFactory.class), nestedEntitySerializer,
+				new LookupObjectSerializer(lookups));
+		module.setUseGeneratedAccessors(useGeneratedAccessors);
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(module);
+		objectMapper.setFilterProvider(new FieldSelectionFilterProvider(null));
+
+		return objectMapper;
+	}
+
+	private static List<String> getWriterPackages(ObjectMapper mapper, Class<?> type) throws Exception {
+
+		BeanSerializerBase serializer = (BeanSerializerBase) mapper.getSerializerProviderInstance()
+				.findValueSerializer(type);
+		List<String> packages = new ArrayList<String>();
+
+		for (Iterator<PropertyWriter> writers = serializer.properties(); writers.hasNext();) {
+			packages.add(writers.next().getClass().getPackage().getName());
+		}
+
+		return packages;
+	}
+
 	static class PetOwner {
 
 		Pet pet;
+		List<Pet> pets;
 
 		public Pet getPet() {
 			return pet;
 		}
+
+		public List<Pet> getPets() {
+			return pets;
+		}
 	}
 
 	@JsonTypeInfo(include = JsonTypeInfo.As.PROPERTY, use = JsonTypeInfo.Id.MINIMAL_CLASS)
@@ -171,4 +370,43 @@ public class PersistentEntityJackson2ModuleUnitTests {
 			return 5;
 		}
 	}
+
+	public static class AccessorSample {
+
+		public String name;
+		private int number;
+		private boolean active;
+
+		public int getNumber() {
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+
+	static class Container {
+
+		public List<Nested> nested;
+		public Map<String, Nested> byName;
+	}
+
+	static class Nested {
+
+		public String name;
+		public String description;
+
+		Nested(String name) {
+			this.name = name;
+		}
+	}
 }
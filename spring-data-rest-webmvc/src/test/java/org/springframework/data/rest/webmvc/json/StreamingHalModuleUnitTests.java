@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.rest.webmvc.StreamingContent;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.EvoInflectorRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Unit tests for {@link StreamingHalModule}.
+ *
+ * @author agent
+ */
+public class StreamingHalModuleUnitTests {
+
+	ObjectMapper mapper;
+	List<Integer> writtenWhenBuilt;
+	int written;
+
+	@Before
+	public void setUp() {
+
+		EvoInflectorRelProvider relProvider = new EvoInflectorRelProvider();
+
+		this.mapper = new ObjectMapper();
+		this.mapper.registerModule(new Jackson2HalModule());
+		this.mapper.registerModule(new StreamingHalModule(relProvider, null));
+		this.mapper.setHandlerInstantiator(new HalHandlerInstantiator(relProvider, null, null));
+
+		this.writtenWhenBuilt = new ArrayList<Integer>();
+		this.written = 0;
+	}
+
+	@Test
+	public void buildsEachElementOnlyAfterThePreviousOneWasWritten() throws Exception {
+
+		PagedResources<Resource<Sample>> resources = streamingContent("foo", "bar", "baz")
+				.applyTo(new PagedResources<Resource<Sample>>(Collections.<Resource<Sample>> emptyList(),
+						new PageMetadata(3, 0, 3), Collections.<Link> emptyList()));
+
+		assertThat(writtenWhenBuilt, is(empty()));
+
+		String result = mapper.writeValueAsString(resources);
+
+		assertThat(writtenWhenBuilt, contains(0, 1, 2));
+		assertThat(JsonPath.<List<String>> read(result, "$._embedded.samples[*].name"), contains("foo", "bar", "baz"));
+		assertThat(JsonPath.<Integer> read(result, "$.page.totalElements"), is(3));
+	}
+
+	@Test
+	public void rendersStreamingContentLikeRegularContent() throws Exception {
+
+		List<Resource<Sample>> content = Arrays.asList(new Resource<Sample>(new Sample("foo", this)),
+				new Resource<Sample>(new Sample("bar", this)));
+
+		String regular = mapper.writeValueAsString(new Resources<Resource<Sample>>(content));
+		String streamed = mapper.writeValueAsString(
+				streamingContent("foo", "bar").applyTo(new Resources<Resource<Sample>>(Collections.<Resource<Sample>> emptyList())));
+
+		assertThat(streamed, is(regular));
+	}
+
+	@Test
+	public void omitsEmptyStreamingContent() throws Exception {
+
+		Resources<Resource<Sample>> resources = streamingContent()
+				.applyTo(new Resources<Resource<Sample>>(Collections.<Resource<Sample>> emptyList()));
+
+		assertThat(mapper.writeValueAsString(resources), not(containsString("_embedded")));
+	}
+
+	@Test
+	public void streamsPlainJsonContentAsWell() throws Exception {
+
+		ObjectMapper mapper = new ObjectMapper();
+
+		mapper.writeValueAsString(streamingContent("foo", "bar", "baz")
+				.applyTo(new Resources<Resource<Sample>>(Collections.<Resource<Sample>> emptyList())));
+
+		assertThat(writtenWhenBuilt, contains(0, 1, 2));
+	}
+
+	private StreamingContent<Resource<Sample>> streamingContent(String... names) {
+
+		return new StreamingContent<Resource<Sample>>(Arrays.asList(names), new Converter<String, Resource<Sample>>() {
+
+			@Override
+			public Resource<Sample> convert(String source) {
+
+				writtenWhenBuilt.add(written);
+				return new Resource<Sample>(new Sample(source, StreamingHalModuleUnitTests.this));
+			}
+		});
+	}
+
+	static class Sample {
+
+		private final String name;
+		private final StreamingHalModuleUnitTests tests;
+
+		Sample(String name, StreamingHalModuleUnitTests tests) {
+
+			this.name = name;
+			this.tests = tests;
+		}
+
+		public String getName() {
+
+			tests.written++;
+			return name;
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.mapping;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.rest.core.Path;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyPlan;
+import org.springframework.data.rest.webmvc.mapping.EntityRenderingPlan.PropertyType;
+import org.springframework.hateoas.Link;
+
+/**
+ * Unit tests for {@link EntityRenderingPlan}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityRenderingPlanUnitTests {
+
+	@Mock RepositoryRestConfiguration configuration;
+
+	KeyValueMappingContext mappingContext;
+	Associations associations;
+
+	@Before
+	public void setUp() {
+
+		this.mappingContext = new KeyValueMappingContext();
+		this.mappingContext.getPersistentEntity(Root.class);
+		this.mappingContext.getPersistentEntity(Ambiguous.class);
+
+		PersistentEntities entities = new PersistentEntities(Arrays.asList(mappingContext));
+		this.associations = new Associations(new PersistentEntitiesResourceMappings(entities), configuration);
+	}
+
+	@Test
+	public void classifiesProperties() {
+
+		doReturn(true).when(configuration).isLookupType(Lookup.class);
+
+		EntityRenderingPlan plan = EntityRenderingPlan.of(entity(Root.class), associations);
+
+		assertThat(plan.getProperty("id").getType(), is(PropertyType.HIDDEN_ID));
+		assertThat(plan.getProperty("version").getType(), is(PropertyType.VERSION));
+		assertThat(plan.getProperty("name").getType(), is(PropertyType.PLAIN));
+		assertThat(plan.getProperty("lookup").getType(), is(PropertyType.LOOKUP));
+		assertThat(plan.getProperty("relatedAndExported").getType(), is(PropertyType.LINKABLE_ASSOCIATION));
+		assertThat(plan.getProperty("relatedButNotExported").getType(), is(not(PropertyType.LINKABLE_ASSOCIATION)));
+		assertThat(plan.getProperty("unknown"), is(nullValue()));
+	}
+
+	@Test
+	public void exposesRelAndPathOfLinkableAssociations() {
+
+		PropertyPlan[] associations = EntityRenderingPlan.of(entity(Root.class), this.associations)
+				.getLinkableAssociations();
+
+		assertThat(associations.length, is(1));
+		assertThat(associations[0].getRel(), is("relatedAndExported"));
+		assertThat(associations[0].getPath(), is(new Path("relatedAndExported")));
+	}
+
+	@Test
+	public void appendsAssociationPathsToBasePath() {
+
+		List<Link> links = new ArrayList<Link>();
+
+		EntityRenderingPlan.of(entity(Root.class), associations).addAssociationLinks(new Path("http://localhost/roots/1"),
+				links);
+
+		assertThat(links, contains(new Link("http://localhost/roots/1/relatedAndExported", "relatedAndExported")));
+	}
+
+	@Test
+	public void onlyAddsSelectedAssociationLinks() {
+
+		EntityRenderingPlan plan = EntityRenderingPlan.of(entity(Root.class), associations);
+		List<Link> links = new ArrayList<Link>();
+
+		plan.addAssociationLinks(new Path("http://localhost/roots/1"), links, Collections.singleton("name"));
+
+		assertThat(links, is(empty()));
+
+		plan.addAssociationLinks(new Path("http://localhost/roots/1"), links, Collections.singleton("relatedAndExported"));
+
+		assertThat(links, hasSize(1));
+	}
+
+	@Test
+	public void considersIdExposure() {
+
+		doReturn(true).when(configuration).isIdExposedFor(Root.class);
+
+		EntityRenderingPlan plan = EntityRenderingPlan.of(entity(Root.class), associations);
+
+		assertThat(plan.getProperty("id").getType(), is(PropertyType.PLAIN));
+	}
+
+	@Test
+	public void cachesPlanPerAssociations() {
+
+		EntityRenderingPlan plan = EntityRenderingPlan.of(entity(Root.class), associations);
+
+		assertThat(EntityRenderingPlan.of(entity(Root.class), associations), is(sameInstance(plan)));
+		assertThat(EntityRenderingPlan.of(entity(Root.class), new Associations(associations.getMappings(), configuration)),
+				is(not(sameInstance(plan))));
+	}
+
+	@Test
+	public void keepsPlanAcrossGarbageCollections() {
+
+		int plan = System.identityHashCode(EntityRenderingPlan.of(entity(Root.class), associations));
+
+		System.gc();
+
+		assertThat(System.identityHashCode(associations.getRenderingPlan(entity(Root.class))), is(plan));
+	}
+
+	@Test(expected = MappingException.class)
+	public void rejectsAssociationsWithSameRelOnPlanCreation() {
+		EntityRenderingPlan.of(entity(Ambiguous.class), associations);
+	}
+
+	private PersistentEntity<?, ?> entity(Class<?> type) {
+		return mappingContext.getPersistentEntity(type);
+	}
+
+	static class Root {
+
+		@Id Long id;
+		@Version Long version;
+		String name;
+		Lookup lookup;
+		@Reference RelatedAndExported relatedAndExported;
+		@Reference RelatedButNotExported relatedButNotExported;
+	}
+
+	static class Ambiguous {
+
+		@Reference @RestResource(rel = "related") RelatedAndExported first;
+		@Reference @RestResource(rel = "related") RelatedAndExported second;
+	}
+
+	static class Lookup {}
+
+	@RestResource(exported = true)
+	static class RelatedAndExported {}
+
+	static class RelatedButNotExported {}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.mapping;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.webmvc.support.RepositoryRequestContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Unit tests for {@link FieldSelection}.
+ *
+ * @author agent
+ */
+public class FieldSelectionUnitTests {
+
+	ResourceMappings mappings;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Person.class);
+		context.getPersistentEntity(Address.class);
+
+		this.mappings = new PersistentEntitiesResourceMappings(new PersistentEntities(Arrays.asList(context)));
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void returnsNoSelectionIfNoFieldsRequested() {
+
+		Map<String, String[]> parameters = Collections.singletonMap("page", new String[] { "1" });
+
+		assertThat(FieldSelection.of(parameters, "fields", mappings, Person.class), is(nullValue()));
+	}
+
+	@Test
+	public void appliesUnqualifiedSelectionToPrimaryTypeOnly() {
+
+		Map<String, String[]> parameters = Collections.singletonMap("fields", new String[] { "firstname, lastname" });
+		FieldSelection selection = FieldSelection.of(parameters, "fields", mappings, Person.class);
+
+		assertThat(selection.getFieldsFor(Person.class), containsInAnyOrder("firstname", "lastname"));
+		assertThat(selection.getFieldsFor(Address.class), is(nullValue()));
+		assertThat(selection.includes(Person.class, "address"), is(false));
+		assertThat(selection.includes(Address.class, "city"), is(true));
+	}
+
+	@Test
+	public void appliesQualifiedSelectionToTypeExposedUnderRel() {
+
+		String rel = mappings.getMetadataFor(Address.class).getRel();
+
+		Map<String, String[]> parameters = new HashMap<String, String[]>();
+		parameters.put("fields", new String[] { "address" });
+		parameters.put("fields[" + rel + "]", new String[] { "city", "zipCode" });
+
+		FieldSelection selection = FieldSelection.of(parameters, "fields", mappings, Person.class);
+
+		assertThat(selection.getFieldsFor(Person.class), contains("address"));
+		assertThat(selection.getFieldsFor(Address.class), containsInAnyOrder("city", "zipCode"));
+	}
+
+	@Test
+	public void ignoresUnqualifiedSelectionWithoutPrimaryType() {
+
+		Map<String, String[]> parameters = Collections.singletonMap("fields", new String[] { "firstname" });
+
+		assertThat(FieldSelection.of(parameters, "fields", mappings, null), is(nullValue()));
+	}
+
+	@Test
+	public void usesCustomParameterName() {
+
+		Map<String, String[]> parameters = Collections.singletonMap("only", new String[] { "firstname" });
+		FieldSelection selection = FieldSelection.of(parameters, "only", mappings, Person.class);
+
+		assertThat(selection.getFieldsFor(Person.class), contains("firstname"));
+	}
+
+	@Test
+	public void reusesSelectionWithinRequest() throws Exception {
+
+		String rel = mappings.getMetadataFor(Address.class).getRel();
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("fields[" + rel + "]", "city");
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		resolveRequestTo(request, Person.class);
+
+		FieldSelection selection = FieldSelection.getCurrent("fields", mappings);
+
+		assertThat(selection.getFieldsFor(Address.class), contains("city"));
+		assertThat(FieldSelection.getCurrent("fields", mappings), is(sameInstance(selection)));
+	}
+
+	@Test
+	public void returnsNoSelectionOutsideOfRequest() {
+		assertThat(FieldSelection.getCurrent("fields", mappings), is(nullValue()));
+	}
+
+	@Test
+	public void doesNotCacheMissingSelectionBeforeRequestIsResolvedToDomainType() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("fields", "firstname");
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		assertThat(FieldSelection.getCurrent("fields", mappings), is(nullValue()));
+
+		resolveRequestTo(request, Person.class);
+
+		FieldSelection selection = FieldSelection.getCurrent("fields", mappings);
+
+		assertThat(selection, is(notNullValue()));
+		assertThat(selection.getFieldsFor(Person.class), contains("firstname"));
+	}
+
+	@Test
+	public void cachesMissingSelectionOnceRequestIsResolvedToDomainType() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		resolveRequestTo(request, Person.class);
+
+		assertThat(FieldSelection.getCurrent("fields", mappings), is(nullValue()));
+
+		request.addParameter("fields", "firstname");
+
+		assertThat(FieldSelection.getCurrent("fields", mappings), is(nullValue()));
+	}
+
+	private void resolveRequestTo(MockHttpServletRequest request, Class<?> type) throws Exception {
+
+		Method method = Object.class.getMethod("toString");
+		RepositoryRequestContext.of(new ServletWebRequest(request), method)
+				.setResourceMetadata(mappings.getMetadataFor(type));
+	}
+
+	static class Person {
+
+		String firstname, lastname;
+		Address address;
+	}
+
+	static class Address {
+		String city, zipCode;
+	}
+}
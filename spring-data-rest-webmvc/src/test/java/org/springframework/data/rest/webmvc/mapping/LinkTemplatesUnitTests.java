@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.mapping;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
+import org.springframework.data.rest.webmvc.mapping.LinkTemplates.CompactedLinks;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+
+/**
+ * Unit tests for {@link LinkTemplates}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LinkTemplatesUnitTests {
+
+	@Mock RepositoryRestConfiguration configuration;
+
+	EntityRenderingPlan plan;
+	LinkTemplates templates;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Root.class);
+
+		PersistentEntities entities = new PersistentEntities(Arrays.asList(context));
+		Associations associations = new Associations(new PersistentEntitiesResourceMappings(entities), configuration);
+		this.plan = EntityRenderingPlan.of(context.getPersistentEntity(Root.class), associations);
+		this.templates = LinkTemplates.of(itemResource("1"), plan);
+	}
+
+	@Test
+	public void exposesTemplatesForItemAndAssociationLinks() {
+
+		assertThat(templates.getTemplates(), hasEntry("self", "http://localhost/roots/{id}"));
+		assertThat(templates.getTemplates(), hasEntry("root", "http://localhost/roots/{id}{?projection}"));
+		assertThat(templates.getTemplates(), hasEntry("related", "http://localhost/roots/{id}/related"));
+	}
+
+	@Test
+	public void compactsLinksCoveredByTemplates() {
+
+		CompactedLinks compacted = templates.compact(Arrays.asList(new Link("http://localhost/roots/42"), //
+				new Link("http://localhost/roots/42{?projection}", "root"), //
+				new Link("http://localhost/roots/42/related", "related"), //
+				new Link("http://localhost/other", "other")));
+
+		assertThat(compacted.getId(), is("42"));
+		assertThat(compacted.getLinks(), contains(new Link("http://localhost/other", "other")));
+	}
+
+	@Test
+	public void omitsAssociationRelsIfItemCarriesAllAssociationLinks() {
+
+		CompactedLinks compacted = templates.compact(Arrays.asList(new Link("http://localhost/roots/42"), //
+				new Link("http://localhost/roots/42/related", "related")));
+
+		assertThat(compacted.getRels(), is(nullValue()));
+	}
+
+	@Test
+	public void keepsLinksNotMatchingTheTemplate() {
+
+		CompactedLinks compacted = templates.compact(Arrays.asList(new Link("http://localhost/roots/42"), //
+				new Link("http://localhost/roots/41/related", "related")));
+
+		assertThat(compacted.getRels(), is(empty()));
+		assertThat(compacted.getLinks(), contains(new Link("http://localhost/roots/41/related", "related")));
+	}
+
+	@Test
+	public void doesNotCompactLinksWithSelfLinkOutsideOfTemplateBase() {
+		assertThat(templates.compact(Arrays.asList(new Link("http://localhost/others/42"))), is(nullValue()));
+	}
+
+	@Test
+	public void doesNotCreateTemplatesWithoutSelfLink() {
+		assertThat(LinkTemplates.of(new Resource<Object>(new Root()), plan), is(nullValue()));
+	}
+
+	private static Resource<Object> itemResource(String id) {
+
+		return new Resource<Object>(new Root(), new Link("http://localhost/roots/" + id),
+				new Link("http://localhost/roots/" + id + "{?projection}", "root"));
+	}
+
+	static class Root {
+
+		@Id Long id;
+		@Reference Related related;
+	}
+
+	@RestResource(exported = true)
+	static class Related {}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.support.AssociationQueryExecutor.AssociationQuery;
+
+/**
+ * Unit tests for {@link AssociationLookup}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AssociationLookupUnitTests {
+
+	@Mock AssociationQueryExecutor executor;
+
+	PersistentEntities entities;
+	PersistentProperty<?> property;
+	Owner owner;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Member.class);
+
+		this.entities = new PersistentEntities(Arrays.asList(context));
+		this.property = context.getPersistentEntity(Owner.class).getPersistentProperty("members");
+		this.owner = new Owner(new Member(3L, "Dave"), new Member(1L, "Carter"), new Member(2L, "Boyd"));
+	}
+
+	@Test
+	public void pagesMembersInMemoryInOrderOfTheAssociationByDefault() {
+
+		Page<Object> page = getLookup().getPage(owner, property, new PageRequest(0, 2));
+
+		assertThat(page.getContent(), contains((Object) owner.members.get(0), owner.members.get(1)));
+		assertThat(page.getTotalElements(), is(3L));
+	}
+
+	@Test
+	public void pagesMembersInMemoryInRequestedOrder() {
+
+		Page<Object> page = getLookup().getPage(owner, property, new PageRequest(1, 2, Direction.DESC, "name"));
+
+		assertThat(page.getContent(), contains((Object) owner.members.get(2)));
+		assertThat(page.getTotalElements(), is(3L));
+	}
+
+	@Test
+	public void looksUpMemberByIdentifier() {
+
+		AssociationLookup lookup = getLookup();
+
+		assertThat(lookup.getMember(owner, property, "2"), is((Object) owner.members.get(2)));
+		assertThat(lookup.getMember(owner, property, "4711"), is(nullValue()));
+		assertThat(lookup.getMember(owner, property, "foo"), is(nullValue()));
+	}
+
+	@Test
+	public void usesSupportingExecutorWithIdentifierAppendedToSort() {
+
+		when(executor.supports(Mockito.any(AssociationQuery.class))).thenReturn(true);
+		when(executor.findOne(Mockito.any(AssociationQuery.class), eq(2L))).thenReturn(owner.members.get(2));
+
+		AssociationLookup lookup = new AssociationLookup(entities, Arrays.asList(executor),
+				new DefaultConversionService());
+
+		lookup.getPage(owner, property, new PageRequest(0, 2, new Sort("name")));
+
+		ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+		verify(executor).findAll(Mockito.any(AssociationQuery.class), captor.capture());
+
+		assertThat(captor.getValue().getSort(), is(new Sort("name", "id")));
+		assertThat(lookup.getMember(owner, property, "2"), is((Object) owner.members.get(2)));
+	}
+
+	@Test
+	public void doesNotSortByIdentifierIfNoSortIsRequested() {
+
+		when(executor.supports(Mockito.any(AssociationQuery.class))).thenReturn(true);
+
+		Pageable pageable = new PageRequest(1, 2);
+
+		new AssociationLookup(entities, Arrays.asList(executor), new DefaultConversionService()).getPage(owner, property,
+				pageable);
+
+		verify(executor).findAll(Mockito.any(AssociationQuery.class), eq(pageable));
+	}
+
+	@Test
+	public void doesNotSupportNonCollectionProperties() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+
+		assertThat(getLookup().supports(context.getPersistentEntity(Member.class).getPersistentProperty("name")),
+				is(false));
+	}
+
+	private AssociationLookup getLookup() {
+		return new AssociationLookup(entities, Collections.<AssociationQueryExecutor> emptyList(),
+				new DefaultConversionService());
+	}
+
+	static class Owner {
+
+		@Id Long id = 4711L;
+		@Reference List<Member> members;
+
+		Owner(Member... members) {
+			this.members = new ArrayList<Member>(Arrays.asList(members));
+		}
+	}
+
+	static class Member {
+
+		@Id Long id;
+		String name;
+
+		Member(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
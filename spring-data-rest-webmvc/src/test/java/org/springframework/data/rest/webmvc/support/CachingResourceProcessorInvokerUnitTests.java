@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.rest.webmvc.StreamingContent;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+
+/**
+ * Unit tests for {@link CachingResourceProcessorInvoker}.
+ *
+ * @author agent
+ */
+public class CachingResourceProcessorInvokerUnitTests {
+
+	StringResourceProcessor processor;
+	ResourceProcessorInvoker invoker;
+
+	@Before
+	public void setUp() {
+
+		this.processor = new StringResourceProcessor();
+		this.invoker = new CachingResourceProcessorInvoker(Arrays.<ResourceProcessor<?>> asList(processor));
+	}
+
+	@Test
+	public void invokesProcessorForMatchingResource() {
+
+		Resource<String> resource = invoker.invokeProcessorsFor(new Resource<String>("foo"));
+
+		assertThat(processor.invocations, is(1));
+		assertThat(resource.getLink("processed"), is(notNullValue()));
+	}
+
+	@Test
+	public void skipsResourceWithNonMatchingContent() {
+
+		Resource<Integer> resource = new Resource<Integer>(1);
+
+		assertThat(invoker.invokeProcessorsFor(resource), is(sameInstance(resource)));
+		assertThat(invoker.invokeProcessorsFor(resource), is(sameInstance(resource)));
+		assertThat(processor.invocations, is(0));
+	}
+
+	@Test
+	public void invokesProcessorForMatchingElementsOfResources() {
+
+		List<Resource<String>> content = Arrays.asList(new Resource<String>("foo"), new Resource<String>("bar"));
+
+		invoker.invokeProcessorsFor(new Resources<Resource<String>>(content));
+
+		assertThat(processor.invocations, is(2));
+	}
+
+	@Test
+	public void leavesResourcesWithoutMatchingElementsUntouched() {
+
+		List<Resource<Integer>> content = Arrays.asList(new Resource<Integer>(1), new Resource<Integer>(2));
+		Resources<Resource<Integer>> resources = new Resources<Resource<Integer>>(content);
+
+		assertThat(invoker.invokeProcessorsFor(resources), is(sameInstance(resources)));
+		assertThat(processor.invocations, is(0));
+	}
+
+	@Test
+	public void processesElementsOfStreamingContentWhileIterated() {
+
+		List<String> source = Arrays.asList("foo", "bar");
+		Resources<Resource<String>> resources = new StreamingContent<Resource<String>>(source,
+				new Converter<String, Resource<String>>() {
+
+					@Override
+					public Resource<String> convert(String source) {
+						return new Resource<String>(source);
+					}
+				}).applyTo(new Resources<Resource<String>>(Collections.<Resource<String>> emptyList()));
+
+		assertThat(invoker.invokeProcessorsFor(resources), is(sameInstance(resources)));
+		assertThat(processor.invocations, is(0));
+
+		for (Resource<String> resource : resources) {
+			assertThat(resource.getLink("processed"), is(notNullValue()));
+		}
+
+		assertThat(processor.invocations, is(2));
+		assertThat(StreamingContent.of(resources), is(notNullValue()));
+	}
+
+	@Test
+	public void skipsInvocationIfNoProcessorsRegistered() {
+
+		ResourceProcessorInvoker invoker = new CachingResourceProcessorInvoker(
+				Collections.<ResourceProcessor<?>> emptyList());
+		Resource<String> resource = new Resource<String>("foo");
+
+		assertThat(invoker.invokeProcessorsFor(resource), is(sameInstance(resource)));
+	}
+
+	static class StringResourceProcessor implements ResourceProcessor<Resource<String>> {
+
+		int invocations = 0;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.ResourceProcessor#process(org.springframework.hateoas.ResourceSupport)
+		 */
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+
+			invocations++;
+			resource.add(new Link("/processed", "processed"));
+
+			return resource;
+		}
+	}
+}
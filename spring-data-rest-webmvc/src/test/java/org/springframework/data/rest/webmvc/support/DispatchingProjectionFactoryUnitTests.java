@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * Unit tests for {@link DispatchingProjectionFactory}.
+ *
+ * @author agent
+ */
+public class DispatchingProjectionFactoryUnitTests {
+
+	ProjectionFactory factory = new DispatchingProjectionFactory();
+
+	@Test
+	public void createsClosedProjection() {
+
+		CustomerExcerpt excerpt = factory.createProjection(CustomerExcerpt.class, new Customer("Dave", "Matthews"));
+
+		assertThat(excerpt.getFirstname(), is("Dave"));
+		assertThat(excerpt, is(instanceOf(TargetAware.class)));
+		assertThat(((TargetAware) excerpt).getTargetClass(), is(typeCompatibleWith(Customer.class)));
+	}
+
+	@Test
+	public void evaluatesExpressionsOfOpenProjection() {
+
+		OpenProjection projection = factory.createProjection(OpenProjection.class, new Customer("Dave", "Matthews"));
+
+		assertThat(projection.getFullName(), is("Dave Matthews"));
+	}
+
+	@Test
+	public void exposesMethodArgumentsToExpressions() {
+
+		ParameterizedProjection projection = factory.createProjection(ParameterizedProjection.class,
+				new Customer("Dave", "Matthews"));
+
+		assertThat(projection.getGreeting("Hello"), is("Hello Dave"));
+		assertThat(projection.getGreeting("Hi"), is("Hi Dave"));
+	}
+
+	@Test
+	public void projectsNestedValuesAndCollections() {
+
+		Customer customer = new Customer("Dave", "Matthews");
+		customer.address = new Address("Berlin");
+		customer.addresses = Arrays.asList(new Address("Dresden"), new Address("Hamburg"));
+
+		NestedProjection projection = factory.createProjection(NestedProjection.class, customer);
+
+		assertThat(projection.getAddress().getCity(), is("Berlin"));
+		assertThat(projection.getAddresses(), hasSize(2));
+		assertThat(projection.getAddresses().get(1).getCity(), is("Hamburg"));
+	}
+
+	@Test
+	public void convertsValuesToReturnType() {
+
+		Customer customer = new Customer("Dave", "Matthews");
+		customer.age = 42;
+
+		assertThat(factory.createProjection(ConvertingProjection.class, customer).getAge(), is("42"));
+	}
+
+	@Test
+	public void fallsBackToProxyForProjectionsWithSetters() {
+
+		Customer customer = new Customer("Dave", "Matthews");
+		WritableProjection projection = factory.createProjection(WritableProjection.class, customer);
+
+		projection.setFirstname("Carter");
+
+		assertThat(customer.getFirstname(), is("Carter"));
+	}
+
+	static class Customer {
+
+		private String firstname, lastname;
+		Address address;
+		List<Address> addresses;
+		int age;
+
+		Customer(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public void setFirstname(String firstname) {
+			this.firstname = firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+	}
+
+	static class Address {
+
+		String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+	}
+
+	interface CustomerExcerpt {
+		String getFirstname();
+	}
+
+	interface OpenProjection {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+	}
+
+	interface ParameterizedProjection {
+
+		@Value("#{args[0] + ' ' + target.firstname}")
+		String getGreeting(String salutation);
+	}
+
+	interface AddressExcerpt {
+		String getCity();
+	}
+
+	interface NestedProjection {
+
+		AddressExcerpt getAddress();
+
+		List<AddressExcerpt> getAddresses();
+	}
+
+	interface ConvertingProjection {
+		String getAge();
+	}
+
+	interface WritableProjection {
+
+		String getFirstname();
+
+		void setFirstname(String firstname);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.webmvc.support.KeysetPagingExecutor.KeysetQuery;
+
+/**
+ * Unit tests for {@link InMemoryKeysetPagingExecutor}.
+ *
+ * @author agent
+ */
+public class InMemoryKeysetPagingExecutorUnitTests {
+
+	static final Person UNNAMED = new Person(1L, null), ALICE = new Person(2L, "Alice"), BOB = new Person(3L, "Bob");
+
+	RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+	InMemoryKeysetPagingExecutor executor = new InMemoryKeysetPagingExecutor();
+
+	@Test
+	public void placesNullsFirstIndependentlyOfDirection() {
+
+		Sort sort = new Sort(Direction.DESC, "name").and(new Sort("id"));
+
+		assertThat(findAfter(UNNAMED, sort, UNNAMED, BOB, ALICE), contains((Object) BOB, ALICE));
+		assertThat(findAfter(BOB, sort, UNNAMED, BOB, ALICE), contains((Object) ALICE));
+	}
+
+	@Test
+	public void placesNullsLastIfRequested() {
+
+		Sort sort = new Sort(new Order(Direction.ASC, "name").nullsLast(), new Order("id"));
+
+		assertThat(findAfter(ALICE, sort, ALICE, BOB, UNNAMED), contains((Object) BOB, UNNAMED));
+		assertThat(findAfter(UNNAMED, sort, ALICE, BOB, UNNAMED), is(empty()));
+	}
+
+	@Test
+	public void stopsReadingItemsOnceLimitIsReached() {
+
+		Sort sort = new Sort("id");
+		when(invoker.invokeFindAll(sort)).thenReturn(Arrays.<Object> asList(UNNAMED, ALICE, BOB));
+
+		List<?> result = executor.findAll(invoker, new KeysetQuery(Person.class, sort, null, 2));
+
+		assertThat(result, contains((Object) UNNAMED, ALICE));
+	}
+
+	private List<?> findAfter(Person person, Sort sort, Object... sorted) {
+
+		when(invoker.invokeFindAll(sort)).thenReturn(Arrays.asList(sorted));
+
+		return executor.findAll(invoker, new KeysetQuery(Person.class, sort, Keyset.of(person, sort, false), 10));
+	}
+
+	static class Person {
+
+		Long id;
+		String name;
+
+		Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.webmvc.support.KeysetPaging.KeysetWindow;
+
+/**
+ * Unit tests for {@link KeysetPaging}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class KeysetPagingUnitTests {
+
+	static final Pageable PAGEABLE = new PageRequest(0, 2);
+	static final List<Object> PEOPLE = Arrays.<Object> asList(new Person(1L), new Person(2L), new Person(3L),
+			new Person(4L), new Person(5L));
+
+	@Mock RepositoryInvoker invoker;
+
+	KeysetPaging paging;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Person.class);
+
+		this.paging = new KeysetPaging(new PersistentEntities(Arrays.asList(context)),
+				Arrays.asList(new InMemoryKeysetPagingExecutor()));
+
+		when(invoker.exposesFindAll()).thenReturn(true);
+		when(invoker.invokeFindAll(Mockito.any(Sort.class))).thenAnswer(new Answer<Iterable<Object>>() {
+
+			@Override
+			public Iterable<Object> answer(InvocationOnMock invocation) throws Throwable {
+
+				Sort sort = (Sort) invocation.getArguments()[0];
+				List<Object> result = new ArrayList<Object>(PEOPLE);
+
+				if (!sort.getOrderFor("id").isAscending()) {
+					Collections.reverse(result);
+				}
+
+				return result;
+			}
+		});
+	}
+
+	@Test
+	public void returnsFirstPageWithoutCursor() {
+
+		KeysetWindow window = paging.getWindow(invoker, Person.class, PAGEABLE, null);
+
+		assertThat(window.getContent(), contains(PEOPLE.get(0), PEOPLE.get(1)));
+		assertThat(window.getNext(), is(notNullValue()));
+		assertThat(window.getPrevious(), is(nullValue()));
+	}
+
+	@Test
+	public void navigatesForwardThroughCursors() {
+
+		KeysetWindow first = paging.getWindow(invoker, Person.class, PAGEABLE, null);
+		KeysetWindow second = paging.getWindow(invoker, Person.class, PAGEABLE, first.getNext());
+		KeysetWindow last = paging.getWindow(invoker, Person.class, PAGEABLE, second.getNext());
+
+		assertThat(second.getContent(), contains(PEOPLE.get(2), PEOPLE.get(3)));
+		assertThat(second.getPrevious(), is(notNullValue()));
+		assertThat(last.getContent(), contains(PEOPLE.get(4)));
+		assertThat(last.getNext(), is(nullValue()));
+	}
+
+	@Test
+	public void navigatesBackwardThroughCursors() {
+
+		KeysetWindow first = paging.getWindow(invoker, Person.class, PAGEABLE, null);
+		KeysetWindow second = paging.getWindow(invoker, Person.class, PAGEABLE, first.getNext());
+		KeysetWindow previous = paging.getWindow(invoker, Person.class, PAGEABLE, second.getPrevious());
+
+		assertThat(previous.getContent(), contains(PEOPLE.get(0), PEOPLE.get(1)));
+		assertThat(previous.getNext(), is(notNullValue()));
+		assertThat(previous.getPrevious(), is(nullValue()));
+	}
+
+	@Test
+	public void fallsBackToOffsetPagingWithoutSupportingExecutor() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Person.class);
+
+		KeysetPaging paging = new KeysetPaging(new PersistentEntities(Arrays.asList(context)),
+				Collections.<KeysetPagingExecutor> emptyList());
+
+		assertThat(paging.getWindow(invoker, Person.class, PAGEABLE, null), is(nullValue()));
+	}
+
+	@Test(expected = InvalidCursorException.class)
+	public void rejectsInvalidCursor() {
+		paging.getWindow(invoker, Person.class, PAGEABLE, "invalid");
+	}
+
+	static class Person {
+
+		@Id Long id;
+
+		Person(Long id) {
+			this.id = id;
+		}
+	}
+}
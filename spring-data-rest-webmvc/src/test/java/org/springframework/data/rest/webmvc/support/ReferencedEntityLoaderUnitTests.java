@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.data.rest.webmvc.convert.UriListReader;
+
+/**
+ * Unit tests for {@link ReferencedEntityLoader}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReferencedEntityLoaderUnitTests {
+
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	@Mock UriToEntityConverter converter;
+
+	@Test
+	public void loadsReferencesOfUriListInBatches() {
+
+		List<URI> first = Arrays.asList(URI.create("/samples/1"), URI.create("/samples/2"));
+		List<URI> second = Arrays.asList(URI.create("/samples/3"));
+
+		when(converter.convertAll(first, Object.class)).thenReturn(Arrays.<Object> asList("1", "2"));
+		when(converter.convertAll(second, Object.class)).thenReturn(Arrays.<Object> asList("3"));
+
+		String body = "/samples/1\r\n\r\n/samples/2\n/samples/3\n";
+		UriListReader reader = new UriListReader(new ByteArrayInputStream(body.getBytes(UTF_8)), UTF_8);
+
+		Iterator<List<Object>> batches = new ReferencedEntityLoader(converter, 2).load(reader, Object.class);
+
+		assertThat(batches.next(), contains((Object) "1", "2"));
+		verify(converter, never()).convertAll(second, Object.class);
+
+		assertThat(batches.next(), contains((Object) "3"));
+		assertThat(batches.hasNext(), is(false));
+	}
+}
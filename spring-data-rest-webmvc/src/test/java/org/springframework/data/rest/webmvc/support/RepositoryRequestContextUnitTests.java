@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.BaseUri;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Unit tests for {@link RepositoryRequestContext}.
+ *
+ * @author agent
+ */
+public class RepositoryRequestContextUnitTests {
+
+	Method itemMethod, collectionMethod;
+	NativeWebRequest request;
+
+	@Before
+	public void setUp() {
+
+		this.itemMethod = ReflectionUtils.findMethod(SampleController.class, "item");
+		this.collectionMethod = ReflectionUtils.findMethod(SampleController.class, "collection");
+		this.request = new ServletWebRequest(new MockHttpServletRequest("GET", "/people/4711"));
+	}
+
+	@Test
+	public void reusesContextForSameRequestAndMethod() {
+
+		RepositoryRequestContext context = RepositoryRequestContext.of(request, itemMethod);
+
+		assertThat(RepositoryRequestContext.of(request, itemMethod), is(sameInstance(context)));
+	}
+
+	@Test
+	public void createsNewContextForDifferentHandlerMethod() {
+
+		RepositoryRequestContext context = RepositoryRequestContext.of(request, itemMethod);
+
+		assertThat(RepositoryRequestContext.of(request, collectionMethod), is(not(sameInstance(context))));
+	}
+
+	@Test
+	public void exposesMappingVariables() {
+
+		RepositoryRequestContext context = RepositoryRequestContext.of(request, itemMethod);
+
+		assertThat(context.getLookupPath(BaseUri.NONE), is("/people/4711"));
+		assertThat(context.getMappingVariable("repository", BaseUri.NONE), is("people"));
+		assertThat(context.getMappingVariable("id", BaseUri.NONE), is("4711"));
+	}
+
+	@Test
+	public void resolvesRepositoryKeyOnlyOnce() {
+
+		RepositoryRequestContext context = RepositoryRequestContext.of(request, itemMethod);
+		String repositoryKey = context.getRepositoryKey(BaseUri.NONE);
+
+		assertThat(repositoryKey, is("people"));
+		assertThat(context.getRepositoryKey(BaseUri.NONE), is(sameInstance(repositoryKey)));
+	}
+
+	@Test
+	public void keepsTrackOfResolvedNullValues() {
+
+		RepositoryRequestContext context = RepositoryRequestContext.of(request, itemMethod);
+
+		assertThat(context.hasResourceMetadata(), is(false));
+		assertThat(context.hasId(), is(false));
+
+		context.setResourceMetadata(null);
+		context.setId(null);
+
+		assertThat(context.hasResourceMetadata(), is(true));
+		assertThat(context.hasId(), is(true));
+	}
+
+	static class SampleController {
+
+		@RequestMapping("/{repository}/{id}")
+		void item() {}
+
+		@RequestMapping("/{repository}")
+		void collection() {}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Benchmark for {@link RequestScopedSelfLinkProvider} mimicking the self link lookups for rendering a page of 500
+ * items, each asking for its self link four times. Compares the request scoped cache against calling the delegate
+ * directly. Run via {@link #main(String[])}.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestScopedSelfLinkProviderBenchmark {
+
+	private static final int PAGE_SIZE = 500;
+	private static final int LOOKUPS_PER_ITEM = 4;
+
+	SelfLinkProvider delegate;
+	SelfLinkProvider cached;
+	List<Sample> page;
+
+	@Setup
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Sample.class);
+
+		this.delegate = new SelfLinkProvider() {
+
+			@Override
+			public Link createSelfLinkFor(Object instance) {
+				return new Link("http://localhost:8080/samples/" + ((Sample) instance).id);
+			}
+		};
+
+		this.cached = new RequestScopedSelfLinkProvider(delegate, new PersistentEntities(Arrays.asList(context)));
+		this.page = new ArrayList<Sample>(PAGE_SIZE);
+
+		for (long i = 0; i < PAGE_SIZE; i++) {
+			page.add(new Sample(i));
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void startRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@TearDown(Level.Invocation)
+	public void endRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public void delegate(Blackhole blackhole) {
+		renderPage(delegate, blackhole);
+	}
+
+	@Benchmark
+	public void requestScoped(Blackhole blackhole) {
+		renderPage(cached, blackhole);
+	}
+
+	private void renderPage(SelfLinkProvider provider, Blackhole blackhole) {
+
+		for (int lookups = 0; lookups < LOOKUPS_PER_ITEM; lookups++) {
+			for (Sample sample : page) {
+				blackhole.consume(provider.createSelfLinkFor(sample));
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RequestScopedSelfLinkProviderBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	static class Sample {
+
+		@Id Long id;
+
+		Sample(Long id) {
+			this.id = id;
+		}
+	}
+}
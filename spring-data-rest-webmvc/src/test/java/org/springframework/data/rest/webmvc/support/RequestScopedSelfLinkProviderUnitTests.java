@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.support.EntityLookupSupport;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link RequestScopedSelfLinkProvider}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RequestScopedSelfLinkProviderUnitTests {
+
+	@Mock SelfLinkProvider delegate;
+
+	SelfLinkProvider provider;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Sample.class);
+
+		this.provider = new RequestScopedSelfLinkProvider(delegate, new PersistentEntities(Arrays.asList(context)));
+
+		when(delegate.createSelfLinkFor(any())).thenAnswer(new Answer<Link>() {
+
+			@Override
+			public Link answer(InvocationOnMock invocation) throws Throwable {
+
+				Sample sample = (Sample) invocation.getArguments()[0];
+				return new Link("/samples/" + sample.id);
+			}
+		});
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullDelegate() {
+		new RequestScopedSelfLinkProvider(null, new PersistentEntities(new ArrayList<KeyValueMappingContext>()));
+	}
+
+	@Test
+	public void reusesLinkForSameInstanceWithinRequest() {
+
+		Sample sample = new Sample(1L);
+		Link link = provider.createSelfLinkFor(sample);
+
+		assertThat(provider.createSelfLinkFor(sample), is(sameInstance(link)));
+		verify(delegate, times(1)).createSelfLinkFor(sample);
+	}
+
+	@Test
+	public void doesNotShareLinksBetweenEqualInstances() {
+
+		provider.createSelfLinkFor(new Sample(1L));
+		provider.createSelfLinkFor(new Sample(1L));
+
+		verify(delegate, times(2)).createSelfLinkFor(any());
+	}
+
+	@Test
+	public void recreatesLinkIfIdentifierChanged() {
+
+		Sample sample = new Sample(null);
+		provider.createSelfLinkFor(sample);
+
+		sample.id = 1L;
+
+		assertThat(provider.createSelfLinkFor(sample).getHref(), is("/samples/1"));
+		verify(delegate, times(2)).createSelfLinkFor(sample);
+	}
+
+	@Test
+	public void recreatesLinkIfEntityLookupValueChanged() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Sample.class);
+
+		SelfLinkProvider provider = new RequestScopedSelfLinkProvider(delegate,
+				new PersistentEntities(Arrays.asList(context)), Arrays.asList(new SampleLookup()));
+
+		Sample sample = new Sample(1L);
+		sample.name = "first";
+		provider.createSelfLinkFor(sample);
+
+		sample.name = "second";
+		provider.createSelfLinkFor(sample);
+
+		verify(delegate, times(2)).createSelfLinkFor(sample);
+	}
+
+	@Test
+	public void forwardsToDelegateOutsideOfRequest() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		Sample sample = new Sample(1L);
+		provider.createSelfLinkFor(sample);
+		provider.createSelfLinkFor(sample);
+
+		verify(delegate, times(2)).createSelfLinkFor(sample);
+	}
+
+	/**
+	 * Mimics the self link lookups for a page of 500 items. Rendering an item asks for its self link up to four times:
+	 * twice in the resource assembler, once in the link collector and once more for the {@code Location} header.
+	 */
+	@Test
+	public void createsSelfLinkOnlyOncePerItemOfCollectionPage() {
+
+		List<Sample> page = new ArrayList<Sample>();
+
+		for (long i = 0; i < 500; i++) {
+			page.add(new Sample(i));
+		}
+
+		for (int lookups = 0; lookups < 4; lookups++) {
+			for (Sample sample : page) {
+				provider.createSelfLinkFor(sample);
+			}
+		}
+
+		verify(delegate, times(500)).createSelfLinkFor(any());
+	}
+
+	static class Sample {
+
+		@Id Long id;
+		String name;
+
+		Sample(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class SampleLookup extends EntityLookupSupport<Sample> {
+
+		@Override
+		public Serializable getResourceIdentifier(Sample entity) {
+			return entity.name;
+		}
+
+		@Override
+		public Object lookupEntity(Serializable id) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.CountStrategy;
+import org.springframework.data.rest.core.support.CountStrategy.CountQuery;
+import org.springframework.data.rest.core.support.CountStrategy.Counter;
+import org.springframework.data.rest.core.support.CountStrategy.Total;
+
+/**
+ * Unit tests for {@link SlicePaging}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SlicePagingUnitTests {
+
+	static final Pageable PAGEABLE = new PageRequest(0, 2);
+	static final CountQuery QUERY = new CountQuery(Object.class, Collections.<String, List<String>> emptyMap());
+
+	@Mock RepositoryInvoker invoker;
+	@Mock SliceExecutor executor;
+	@Mock CountStrategy strategy;
+
+	@Test
+	public void usesSupportingExecutor() {
+
+		Slice<Object> slice = new SliceImpl<Object>(Arrays.<Object> asList("first", "second"), PAGEABLE, true);
+
+		when(invoker.exposesFindAll()).thenReturn(true);
+		when(executor.supports(Object.class, invoker)).thenReturn(true);
+		when(executor.findAll(invoker, Object.class, PAGEABLE)).thenReturn(slice);
+
+		assertThat(new SlicePaging(Arrays.asList(executor)).getSlice(invoker, Object.class, PAGEABLE), is(slice));
+		verify(invoker, never()).invokeFindAll(PAGEABLE);
+	}
+
+	@Test
+	public void fallsBackToLookupOfSingleAdditionalElementThroughInvoker() {
+
+		Pageable pageable = new PageRequest(2, 2);
+
+		when(invoker.invokeFindAll(Mockito.any(Pageable.class))).thenAnswer(new Answer<Iterable<Object>>() {
+
+			@Override
+			public Iterable<Object> answer(InvocationOnMock invocation) throws Throwable {
+
+				Pageable lookahead = (Pageable) invocation.getArguments()[0];
+
+				assertThat(lookahead.getOffset(), is(4));
+				assertThat(lookahead.getPageSize(), is(3));
+
+				return new PageImpl<Object>(Arrays.<Object> asList("fifth", "sixth", "seventh"), lookahead, 10);
+			}
+		});
+
+		Slice<Object> slice = new SlicePaging(Collections.<SliceExecutor> emptyList()).getSlice(invoker, Object.class,
+				pageable);
+
+		assertThat(slice.getContent(), contains((Object) "fifth", "sixth"));
+		assertThat(slice.getNumber(), is(2));
+		assertThat(slice.hasNext(), is(true));
+		assertThat(slice, is(not(instanceOf(Page.class))));
+	}
+
+	@Test
+	public void detectsLastSliceLookedUpThroughInvoker() {
+
+		when(invoker.invokeFindAll(Mockito.any(Pageable.class)))
+				.thenReturn(new SliceImpl<Object>(Arrays.<Object> asList("first", "second"), PAGEABLE, false));
+
+		Slice<Object> slice = new SlicePaging(Collections.<SliceExecutor> emptyList()).getSlice(invoker, Object.class,
+				PAGEABLE);
+
+		assertThat(slice.getContent(), contains((Object) "first", "second"));
+		assertThat(slice.hasNext(), is(false));
+	}
+
+	@Test
+	public void doesNotUseExecutorIfFindAllIsNotExposed() {
+
+		when(invoker.invokeFindAll(Mockito.any(Pageable.class))).thenReturn(Arrays.<Object> asList("first"));
+
+		Slice<Object> slice = new SlicePaging(Arrays.asList(executor)).getSlice(invoker, Object.class, PAGEABLE);
+
+		assertThat(slice.getContent(), contains((Object) "first"));
+		assertThat(slice.hasNext(), is(false));
+		verify(executor, never()).findAll(invoker, Object.class, PAGEABLE);
+	}
+
+	@Test
+	public void looksUpPageThroughInvokerForExactCountStrategy() {
+
+		Page<Object> page = new PageImpl<Object>(Arrays.<Object> asList("first", "second"), PAGEABLE, 5);
+
+		when(strategy.isExact()).thenReturn(true);
+		when(invoker.invokeFindAll(PAGEABLE)).thenReturn(page);
+
+		assertThat(new SlicePaging(Arrays.asList(executor)).getPage(invoker, Object.class, PAGEABLE, strategy, QUERY),
+				is((Iterable<Object>) page));
+		verify(executor, never()).findAll(invoker, Object.class, PAGEABLE);
+	}
+
+	@Test
+	public void derivesExactTotalFromLastSliceWithoutCounting() {
+
+		Pageable pageable = new PageRequest(2, 2);
+
+		stubExecutor(pageable, new SliceImpl<Object>(Arrays.<Object> asList("fifth"), pageable, false));
+
+		CountedPage<Object> page = getPage(pageable);
+
+		assertThat(page.getTotalElements(), is(5L));
+		assertThat(page.isTotalExact(), is(true));
+		verify(strategy, never()).count(eq(QUERY), Mockito.any(Counter.class));
+	}
+
+	@Test
+	public void usesTotalOfCountStrategyIfNextSliceExists() {
+
+		stubExecutor(PAGEABLE, new SliceImpl<Object>(Arrays.<Object> asList("first", "second"), PAGEABLE, true));
+		when(strategy.count(eq(QUERY), Mockito.any(Counter.class))).thenReturn(Total.estimated(10));
+
+		CountedPage<Object> page = getPage(PAGEABLE);
+
+		assertThat(page.getTotalElements(), is(10L));
+		assertThat(page.isTotalExact(), is(false));
+	}
+
+	@Test
+	public void keepsExactTotalOfCountStrategyMatchingTheSlice() {
+
+		stubExecutor(PAGEABLE, new SliceImpl<Object>(Arrays.<Object> asList("first", "second"), PAGEABLE, true));
+		when(strategy.count(eq(QUERY), Mockito.any(Counter.class))).thenReturn(Total.exact(10));
+
+		assertThat(getPage(PAGEABLE).isTotalExact(), is(true));
+	}
+
+	@Test
+	public void raisesStaleTotalContradictingTheSlice() {
+
+		Pageable pageable = new PageRequest(2, 2);
+
+		stubExecutor(pageable, new SliceImpl<Object>(Arrays.<Object> asList("fifth", "sixth"), pageable, true));
+		when(strategy.count(eq(QUERY), Mockito.any(Counter.class))).thenReturn(Total.exact(3));
+
+		CountedPage<Object> page = getPage(pageable);
+
+		assertThat(page.getTotalElements(), is(7L));
+		assertThat(page.isTotalExact(), is(false));
+		assertThat(page.hasNext(), is(true));
+	}
+
+	@Test
+	public void usesTotalOfCountStrategyForEmptySliceBeyondTheLastElement() {
+
+		Pageable pageable = new PageRequest(5, 2);
+
+		stubExecutor(pageable, new SliceImpl<Object>(Collections.emptyList(), pageable, false));
+		when(strategy.count(eq(QUERY), Mockito.any(Counter.class))).thenReturn(Total.exact(3));
+
+		CountedPage<Object> page = getPage(pageable);
+
+		assertThat(page.getTotalElements(), is(3L));
+		assertThat(page.isTotalExact(), is(true));
+	}
+
+	private void stubExecutor(Pageable pageable, Slice<Object> slice) {
+
+		when(invoker.exposesFindAll()).thenReturn(true);
+		when(executor.supports(Object.class, invoker)).thenReturn(true);
+		when(executor.findAll(invoker, Object.class, pageable)).thenReturn(slice);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CountedPage<Object> getPage(Pageable pageable) {
+
+		Iterable<Object> result = new SlicePaging(Arrays.asList(executor)).getPage(invoker, Object.class, pageable,
+				strategy, QUERY);
+
+		assertThat(result, is(instanceOf(CountedPage.class)));
+
+		return (CountedPage<Object>) result;
+	}
+}
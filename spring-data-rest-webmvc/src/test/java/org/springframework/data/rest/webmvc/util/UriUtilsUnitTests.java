@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * Unit tests for {@link UriUtils}.
+ *
+ * @author agent
+ */
+public class UriUtilsUnitTests {
+
+	@Test
+	public void extractsPlainVariables() {
+
+		Method method = method("property");
+
+		assertThat(UriUtils.findMappingVariable("repository", method, "/people/4711/father"), is("people"));
+		assertThat(UriUtils.findMappingVariable("id", method, "/people/4711/father"), is("4711"));
+		assertThat(UriUtils.findMappingVariable("property", method, "/people/4711/father"), is("father"));
+	}
+
+	@Test
+	public void matchesLiteralSegments() {
+
+		Method method = method("search");
+
+		assertThat(UriUtils.findMappingVariable("search", method, "/people/search/findByName"), is("findByName"));
+		assertThat(UriUtils.findMappingVariable("search", method, "/people/searches/findByName"), is(nullValue()));
+	}
+
+	@Test
+	public void returnsNullForNonMatchingPath() {
+
+		Method method = method("property");
+
+		assertThat(UriUtils.findMappingVariable("id", method, "/people/4711"), is(nullValue()));
+		assertThat(UriUtils.findMappingVariable("id", method, null), is(nullValue()));
+	}
+
+	@Test
+	public void returnsNullForUnknownVariable() {
+		assertThat(UriUtils.findMappingVariable("foo", method("property"), "/people/4711/father"), is(nullValue()));
+	}
+
+	@Test
+	public void fallsBackToUriTemplateForComplexMappings() {
+
+		Method method = method("complex");
+
+		assertThat(UriUtils.findMappingVariable("id", method, "/people/4711.json"), is("4711"));
+		assertThat(UriUtils.findMappingVariable("format", method, "/people/4711.json"), is("json"));
+	}
+
+	@Test
+	public void matchesAdditionalTrailingSegmentsLikeUriTemplate() {
+
+		String mapping = "/{repository}/{id}/{property}";
+		Method method = method("property");
+
+		for (String path : Arrays.asList("/people/4711/father/foo", "/people/4711/father/foo/bar", "/people/4711/father/",
+				"/people/4711//father", "/people/4711", "/people")) {
+
+			Map<String, String> expected = new UriTemplate(mapping).match(path);
+
+			for (String variable : Arrays.asList("repository", "id", "property")) {
+				assertThat(path, UriUtils.findMappingVariable(variable, method, path), is(expected.get(variable)));
+			}
+		}
+	}
+
+	@Test
+	public void matchesAdditionalSegmentsAroundLiteralsLikeUriTemplate() {
+
+		String mapping = "/{repository}/search/{search}";
+		Method method = method("search");
+
+		for (String path : Arrays.asList("/people/search/findByName/foo", "/people/search/search/findByName",
+				"/people/search")) {
+
+			Map<String, String> expected = new UriTemplate(mapping).match(path);
+
+			for (String variable : Arrays.asList("repository", "search")) {
+				assertThat(path, UriUtils.findMappingVariable(variable, method, path), is(expected.get(variable)));
+			}
+		}
+	}
+
+	@Test
+	public void skipsPrecompilationForMethodsWithMultipleMappings() {
+
+		Method method = method("multiple");
+
+		UriUtils.precompileMapping(method);
+	}
+
+	@Test
+	public void precompiledMappingYieldsSameResult() {
+
+		Method method = method("property");
+		UriUtils.precompileMapping(method);
+
+		assertThat(UriUtils.findMappingVariable("property", method, "/people/4711/father"), is("father"));
+	}
+
+	private static Method method(String name) {
+		return ReflectionUtils.findMethod(SampleController.class, name);
+	}
+
+	static class SampleController {
+
+		@RequestMapping("/{repository}/{id}/{property}")
+		void property() {}
+
+		@RequestMapping("/{repository}/search/{search}")
+		void search() {}
+
+		@RequestMapping("/people/{id}.{format}")
+		void complex() {}
+
+		@RequestMapping({ "/people", "/persons" })
+		void multiple() {}
+	}
+}